@@ -0,0 +1,76 @@
+package seedu.realodex.commons.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.realodex.model.person.Email;
+import seedu.realodex.model.person.Family;
+import seedu.realodex.model.person.Income;
+import seedu.realodex.model.person.Phone;
+
+/**
+ * Compares validating person fields with {@link String#matches(String)}, which compiles the regex on every call,
+ * against the cached patterns and digit fast paths of {@link ValidationUtil}.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationUtilBenchmark {
+
+    private String email = "alex.yeoh-realty@example-mail.com.sg";
+    private String phone = "87438807";
+    private String income = "120000";
+    private String family = "4";
+
+    @Benchmark
+    public boolean emailStringMatches() {
+        return email.matches(Email.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean emailCachedPattern() {
+        return ValidationUtil.matches(email, Email.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean phoneStringMatches() {
+        return phone.matches(Phone.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean phoneCachedPattern() {
+        return ValidationUtil.matches(phone, Phone.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean phoneFastPath() {
+        return ValidationUtil.isDigits(phone, Phone.MIN_LENGTH);
+    }
+
+    @Benchmark
+    public boolean incomeStringMatches() {
+        return income.matches(Income.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean incomeFastPath() {
+        return ValidationUtil.isDigits(income, 1);
+    }
+
+    @Benchmark
+    public boolean familyStringMatches() {
+        return family.matches(Family.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean familyFastPath() {
+        return ValidationUtil.isPositiveDigits(family);
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.realodex.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Regression benchmark for {@code UniquePersonList#setPersons(List)}, which runs on every load and every sort.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UniquePersonListBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private UniquePersonList uniquePersonList;
+
+    /**
+     * Builds {@code size} persons with distinct names, shuffled so that hashing order is not artificially friendly.
+     */
+    @Setup(Level.Trial)
+    public void setUpPersons() {
+        persons = new ArrayList<>(size);
+        Phone phone = new Phone("85355255");
+        Income income = new Income("20000");
+        Email email = new Email("client@gmail.com");
+        Address address = new Address("123, Jurong West Ave 6, #08-111");
+        Family family = new Family("4");
+        HousingType housingType = new HousingType("HDB");
+        Remark remark = new Remark("");
+        Birthday birthday = new Birthday();
+        for (int i = 0; i < size; i++) {
+            persons.add(new Person(new Name("Client " + i), phone, income, email, address, family,
+                    Collections.singleton(new Tag("BUYER")), housingType, remark, birthday));
+        }
+        Collections.shuffle(persons, new Random(42));
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpList() {
+        uniquePersonList = new UniquePersonList();
+    }
+
+    @Benchmark
+    public UniquePersonList setPersons() {
+        uniquePersonList.setPersons(persons);
+        return uniquePersonList;
+    }
+}
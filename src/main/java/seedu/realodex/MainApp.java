@@ -22,6 +22,9 @@ import seedu.realodex.model.ReadOnlyUserPrefs;
 import seedu.realodex.model.Realodex;
 import seedu.realodex.model.UserPrefs;
 import seedu.realodex.model.util.SampleDataUtil;
+import seedu.realodex.storage.AsyncRealodexSaver;
+import seedu.realodex.storage.BinaryRealodexStorage;
+import seedu.realodex.storage.JournaledRealodexStorage;
 import seedu.realodex.storage.JsonRealodexStorage;
 import seedu.realodex.storage.JsonUserPrefsStorage;
 import seedu.realodex.storage.RealodexStorage;
@@ -58,16 +61,35 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        RealodexStorage realodexStorage = new JsonRealodexStorage(userPrefs.getRealodexFilePath());
+        RealodexStorage realodexStorage = initRealodexStorage(userPrefs);
         storage = new StorageManager(realodexStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = config.isAsyncSaveEnabled()
+                ? new LogicManager(model, storage, new AsyncRealodexSaver(storage))
+                : new LogicManager(model, storage);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code RealodexStorage} for the data file format chosen in {@code userPrefs}.
+     */
+    private RealodexStorage initRealodexStorage(ReadOnlyUserPrefs userPrefs) {
+        switch (userPrefs.getRealodexDataFormat()) {
+        case JOURNALED_JSON:
+            return new JournaledRealodexStorage(userPrefs.getRealodexFilePath());
+        case BINARY:
+            return new BinaryRealodexStorage(userPrefs.getRealodexFilePath(), config.getMappedReadThresholdBytes(),
+                    config.isDeferredValidationEnabled(), config.isParallelLoadEnabled());
+        case JSON:
+        default:
+            return new JsonRealodexStorage(userPrefs.getRealodexFilePath(), config.getMappedReadThresholdBytes(),
+                    config.isDeferredValidationEnabled(), config.isParallelLoadEnabled());
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s realodex and {@code userPrefs}. <br>
      * The data from the sample realodex will be used instead if {@code storage}'s realodex is not found,
@@ -178,6 +200,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Realodex ] =============================");
+        try {
+            logic.shutdown();
+        } catch (IOException e) {
+            logger.severe("Failed to save Realodex " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
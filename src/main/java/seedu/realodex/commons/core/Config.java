@@ -13,10 +13,15 @@ import seedu.realodex.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final long DEFAULT_MAPPED_READ_THRESHOLD_BYTES = 32L * 1024 * 1024;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean asyncSaveEnabled = false;
+    private long mappedReadThresholdBytes = DEFAULT_MAPPED_READ_THRESHOLD_BYTES;
+    private boolean deferredValidationEnabled = false;
+    private boolean parallelLoadEnabled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +39,38 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isAsyncSaveEnabled() {
+        return asyncSaveEnabled;
+    }
+
+    public void setAsyncSaveEnabled(boolean asyncSaveEnabled) {
+        this.asyncSaveEnabled = asyncSaveEnabled;
+    }
+
+    public long getMappedReadThresholdBytes() {
+        return mappedReadThresholdBytes;
+    }
+
+    public void setMappedReadThresholdBytes(long mappedReadThresholdBytes) {
+        this.mappedReadThresholdBytes = mappedReadThresholdBytes;
+    }
+
+    public boolean isDeferredValidationEnabled() {
+        return deferredValidationEnabled;
+    }
+
+    public void setDeferredValidationEnabled(boolean deferredValidationEnabled) {
+        this.deferredValidationEnabled = deferredValidationEnabled;
+    }
+
+    public boolean isParallelLoadEnabled() {
+        return parallelLoadEnabled;
+    }
+
+    public void setParallelLoadEnabled(boolean parallelLoadEnabled) {
+        this.parallelLoadEnabled = parallelLoadEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +84,17 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && asyncSaveEnabled == otherConfig.asyncSaveEnabled
+                && mappedReadThresholdBytes == otherConfig.mappedReadThresholdBytes
+                && deferredValidationEnabled == otherConfig.deferredValidationEnabled
+                && parallelLoadEnabled == otherConfig.parallelLoadEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, asyncSaveEnabled, mappedReadThresholdBytes,
+                deferredValidationEnabled, parallelLoadEnabled);
     }
 
     @Override
@@ -60,6 +102,10 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("asyncSaveEnabled", asyncSaveEnabled)
+                .add("mappedReadThresholdBytes", mappedReadThresholdBytes)
+                .add("deferredValidationEnabled", deferredValidationEnabled)
+                .add("parallelLoadEnabled", parallelLoadEnabled)
                 .toString();
     }
 
@@ -1,10 +1,21 @@
 package seedu.realodex.commons.util;
 
 import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Writes and reads files
@@ -12,6 +23,18 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    // unmaps a mapped buffer straight away, or null if the JVM does not allow it
+    private static final BufferReleaser MAPPED_BUFFER_RELEASER = findMappedBufferReleaser();
+
+    /**
+     * Writes content to an open {@code FileChannel}.
+     */
+    @FunctionalInterface
+    public interface ChannelWriter {
+        void writeTo(FileChannel channel) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,6 +95,70 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns the content of {@code file} in a buffer, which must be passed to {@link #release(ByteBuffer)} once it
+     * is no longer used.
+     * Files of at least {@code mapThreshold} bytes are memory-mapped rather than copied onto the heap, if the JVM
+     * allows them to be unmapped by {@link #release(ByteBuffer)}. A file that is still mapped cannot be replaced on
+     * some platforms, such as Windows, so they are never left to be unmapped by the garbage collector.
+     * Assumes file exists.
+     */
+    public static ByteBuffer readToBuffer(Path file, long mapThreshold) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File " + file + " is too large to be read into a single buffer");
+            }
+            if (size >= mapThreshold && MAPPED_BUFFER_RELEASER != null) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full or the end of the file is reached
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    /**
+     * Releases {@code buffer}, as returned by {@link #readToBuffer(Path, long)}. A memory-mapped buffer is unmapped,
+     * so that the file can be replaced, and neither {@code buffer} nor any view of it may be used afterwards.
+     */
+    public static void release(ByteBuffer buffer) throws IOException {
+        if (!(buffer instanceof MappedByteBuffer)) {
+            return;
+        }
+        assert MAPPED_BUFFER_RELEASER != null;
+        try {
+            MAPPED_BUFFER_RELEASER.release(buffer);
+        } catch (ReflectiveOperationException e) {
+            throw new IOException("Could not unmap a memory-mapped file", e);
+        }
+    }
+
+    private static BufferReleaser findMappedBufferReleaser() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Object unsafe = theUnsafe.get(null);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            return buffer -> invokeCleaner.invoke(unsafe, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Frees the memory of a direct buffer.
+     */
+    @FunctionalInterface
+    private interface BufferReleaser {
+        void release(ByteBuffer buffer) throws ReflectiveOperationException;
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -80,4 +167,128 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file atomically, as described in {@link #writeAtomically(Path, ChannelWriter)}.
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, channel -> {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        });
+    }
+
+    /**
+     * Replaces the content of {@code file} with what {@code writer} writes, such that a crash at any point leaves
+     * either the complete old content or the complete new content in {@code file}.
+     * The content is written to a temporary file in the same directory and forced to the storage device, and the
+     * temporary file is then moved over {@code file}. Missing parent directories are created, and {@code file} keeps
+     * its permissions, or gets the default permissions for a new file if it does not exist yet.
+     * {@code writer} must not close the channel it is given.
+     */
+    public static void writeAtomically(Path file, ChannelWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = createTempSibling(directory, file.getFileName().toString());
+        try {
+            copyPermissions(file, tempFile);
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                writer.writeTo(channel);
+                channel.force(true);
+            }
+            moveReplacing(tempFile, file);
+            forceDirectory(directory);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Creates an empty temporary file in {@code directory} whose name starts with {@code prefix}.
+     * Unlike {@link Files#createTempFile}, which makes the file readable by its owner only, the file is created with
+     * the default permissions for a new file.
+     */
+    private static Path createTempSibling(Path directory, String prefix) throws IOException {
+        while (true) {
+            Path tempFile = directory.resolve(prefix + "." + Long.toUnsignedString(
+                    ThreadLocalRandom.current().nextLong()) + TEMP_FILE_SUFFIX);
+            try {
+                return Files.createFile(tempFile);
+            } catch (FileAlreadyExistsException e) {
+                // try another name
+            }
+        }
+    }
+
+    /**
+     * Gives {@code target} the POSIX permissions of {@code source}, if {@code source} exists and the file system
+     * supports POSIX permissions.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        PosixFileAttributeView sourceView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        if (sourceView == null || !Files.exists(source)) {
+            return;
+        }
+        Files.setPosixFilePermissions(target, sourceView.readAttributes().permissions());
+    }
+
+    /**
+     * Returns the path of the {@code generation}-th most recent backup of {@code file}, counting from 1.
+     */
+    public static Path getBackupPath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + "." + generation);
+    }
+
+    /**
+     * Shifts the existing backups of {@code file} back by one generation, dropping the oldest beyond
+     * {@code maxBackups}, and makes the current content of {@code file} the most recent backup.
+     * Does nothing if {@code file} does not exist. The most recent backup is a hard link where supported,
+     * so that taking it does not copy the file.
+     */
+    public static void rotateBackups(Path file, int maxBackups) throws IOException {
+        if (!isFileExists(file) || maxBackups <= 0) {
+            return;
+        }
+
+        Files.deleteIfExists(getBackupPath(file, maxBackups));
+        for (int generation = maxBackups - 1; generation >= 1; generation--) {
+            Path backup = getBackupPath(file, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupPath(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path latestBackup = getBackupPath(file, 1);
+        try {
+            Files.createLink(latestBackup, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, latestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target} atomically if the file system supports it.
+     */
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Makes a rename within {@code directory} durable, on platforms that allow syncing a directory.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not supported on every platform (e.g. Windows); the rename itself has already succeeded.
+        }
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.realodex.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +12,14 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,8 +44,12 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Streamed values are written into a caller-owned generator, which is flushed once by its owner at the end
+    private static ObjectWriter streamingWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeToFileAtomically(jsonFile, toJsonString(objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -79,7 +88,7 @@ public class JsonUtil {
 
     /**
      * Saves the Json object to the specified file.
-     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * Overwrites existing file atomically if it exists, creates a new file if it doesn't.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
@@ -92,6 +101,48 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Opens a streaming {@code JsonParser} over the given file, configured the same way as the other methods here.
+     * The caller is responsible for closing the parser, which also closes the underlying file.
+     *
+     * @param jsonFile cannot be null.
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonParser createParser(Path jsonFile) throws IOException {
+        requireNonNull(jsonFile);
+        return objectMapper.getFactory().createParser(jsonFile.toFile());
+    }
+
+    /**
+     * Reads the JSON value the {@code parser} is currently positioned at into an instance of a class.
+     * On return, the parser is positioned at the last token of that value.
+     *
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the values of the current JSON value
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
+    /**
+     * Opens a streaming, pretty-printing {@code JsonGenerator} writing UTF-8 to {@code out}.
+     * The caller is responsible for closing the generator, which also closes {@code out}.
+     *
+     * @param out cannot be null.
+     * @throws IOException if the generator could not be created.
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        return objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8).useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Writes {@code value} as the next JSON value of {@code generator}, without flushing it.
+     */
+    public static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        streamingWriter.writeValue(generator, value);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -101,6 +152,16 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -12,6 +12,12 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    private static final int SOUNDEX_LENGTH = 4;
+    // the Soundex digit of each letter from a to z, where vowels are separators and h and w are ignored
+    private static final String SOUNDEX_DIGITS = "0123012-02245501262301-202";
+    private static final char SOUNDEX_SEPARATOR = '0';
+    private static final char SOUNDEX_IGNORED = '-';
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -65,4 +71,66 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Compares the unsigned integers represented by the strings of ASCII digits {@code a} and {@code b}
+     * by their numeric value, e.g. "9" is less than "010". The strings may be of any length.
+     *
+     * @return a negative integer, zero, or a positive integer as {@code a} is less than, equal to,
+     *         or greater than {@code b}.
+     * @throws NullPointerException if {@code a} or {@code b} is null.
+     */
+    public static int compareUnsignedIntegers(String a, String b) {
+        requireNonNull(a);
+        requireNonNull(b);
+
+        String strippedA = stripLeadingZeros(a);
+        String strippedB = stripLeadingZeros(b);
+        if (strippedA.length() != strippedB.length()) {
+            return Integer.compare(strippedA.length(), strippedB.length());
+        }
+        return strippedA.compareTo(strippedB);
+    }
+
+    /**
+     * Returns the American Soundex code of {@code word}, a letter followed by three digits that is the same for most
+     * words that sound alike, e.g. "Sean" and "Shawn" are both coded as S500. Case and any characters other than the
+     * ASCII letters are ignored. Returns an empty string if {@code word} has no such letters.
+     *
+     * @throws NullPointerException if {@code word} is null.
+     */
+    public static String toSoundex(String word) {
+        requireNonNull(word);
+
+        StringBuilder code = new StringBuilder(SOUNDEX_LENGTH);
+        char lastDigit = 0;
+        for (int i = 0; i < word.length() && code.length() < SOUNDEX_LENGTH; i++) {
+            char letter = Character.toLowerCase(word.charAt(i));
+            if (letter < 'a' || letter > 'z') {
+                continue;
+            }
+            char digit = SOUNDEX_DIGITS.charAt(letter - 'a');
+            if (code.length() == 0) {
+                code.append(Character.toUpperCase(letter));
+            } else if (digit != SOUNDEX_IGNORED && digit != SOUNDEX_SEPARATOR && digit != lastDigit) {
+                code.append(digit);
+            }
+            // h and w do not separate letters with the same digit, but vowels do
+            if (digit != SOUNDEX_IGNORED) {
+                lastDigit = digit;
+            }
+        }
+        while (code.length() > 0 && code.length() < SOUNDEX_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
+    private static String stripLeadingZeros(String digits) {
+        int start = 0;
+        while (start < digits.length() && digits.charAt(start) == '0') {
+            start++;
+        }
+        return digits.substring(start);
+    }
 }
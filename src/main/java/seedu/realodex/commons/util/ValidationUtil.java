@@ -0,0 +1,71 @@
+package seedu.realodex.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Helper functions for validating field values.
+ * Regexes are compiled once and cached, and the simple digit-only formats are checked without a regex at all.
+ */
+public class ValidationUtil {
+
+    private static final Map<String, Pattern> patterns = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the compiled {@code Pattern} of {@code regex}, compiling it on the first call only.
+     */
+    public static Pattern getPattern(String regex) {
+        requireNonNull(regex);
+        return patterns.computeIfAbsent(regex, Pattern::compile);
+    }
+
+    /**
+     * Returns true if the whole of {@code test} matches {@code regex}.
+     * Equivalent to {@link String#matches(String)}, without compiling {@code regex} on every call.
+     */
+    public static boolean matches(String test, String regex) {
+        requireNonNull(test);
+        return getPattern(regex).matcher(test).matches();
+    }
+
+    /**
+     * Returns true if {@code test} consists of at least {@code minLength} ASCII digits and nothing else.
+     * Equivalent to matching {@code \d{minLength,}}.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        requireNonNull(test);
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} consists of ASCII digits only, possibly with leading zeros, and is not zero.
+     * Equivalent to matching {@code 0*[1-9]\d*}.
+     */
+    public static boolean isPositiveDigits(String test) {
+        requireNonNull(test);
+        boolean hasNonZeroDigit = false;
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isDigit(c)) {
+                return false;
+            }
+            hasNonZeroDigit |= c != '0';
+        }
+        return hasNonZeroDigit;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
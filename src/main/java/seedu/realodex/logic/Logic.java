@@ -1,5 +1,6 @@
 package seedu.realodex.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javafx.collections.ObservableList;
@@ -23,6 +24,14 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Writes every pending save of the Realodex and stops saving in the background.
+     * No commands may be executed afterwards.
+     *
+     * @throws IOException if a pending save failed.
+     */
+    void shutdown() throws IOException;
+
     /**
      * Returns the Realodex.
      *
@@ -3,7 +3,11 @@ package seedu.realodex.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.realodex.commons.core.GuiSettings;
@@ -15,7 +19,9 @@ import seedu.realodex.logic.parser.RealodexParser;
 import seedu.realodex.logic.parser.exceptions.ParseException;
 import seedu.realodex.model.Model;
 import seedu.realodex.model.ReadOnlyRealodex;
+import seedu.realodex.model.RealodexSnapshot;
 import seedu.realodex.model.person.Person;
+import seedu.realodex.storage.AsyncRealodexSaver;
 import seedu.realodex.storage.Storage;
 
 /**
@@ -27,18 +33,48 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_INVALID_PERSONS_REMOVED =
+            "%1$d person(s) with invalid data were removed when the data file was loaded:\n%2$s";
+
+    public static final String MESSAGE_INVALID_PERSONS_KEPT =
+            "%1$d person(s) with invalid data in the data file were edited before they could be removed and were kept,"
+            + " check their details:\n%2$s";
+
+    /** Marks that the current data has not been saved by this {@code LogicManager} yet. */
+    private static final long NOT_SAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final RealodexParser realodexParser;
+    private final Optional<AsyncRealodexSaver> asyncSaver;
+    private final long loadedModificationCount;
+    private long lastSavedModificationCount = NOT_SAVED;
+    private boolean hasRemovedInvalidPersons = false;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The Realodex is saved on the calling thread after every command.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
+        this.asyncSaver = Optional.empty();
+        this.loadedModificationCount = model.getRealodexModificationCount();
+        realodexParser = new RealodexParser();
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that hands a snapshot of
+     * the Realodex to {@code asyncSaver} after every command instead of saving it on the calling thread.
+     * A failed background save is reported by the next command executed.
+     */
+    public LogicManager(Model model, Storage storage, AsyncRealodexSaver asyncSaver) {
+        this.model = model;
+        this.storage = storage;
+        this.asyncSaver = Optional.of(asyncSaver);
+        this.loadedModificationCount = model.getRealodexModificationCount();
         realodexParser = new RealodexParser();
     }
 
@@ -49,18 +85,99 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         Command command = realodexParser.parseCommand(commandText);
         commandResult = command.execute(model);
+        if (!hasRemovedInvalidPersons && model.getRealodexModificationCount() != loadedModificationCount) {
+            commandResult = removeInvalidPersons(commandResult);
+        }
+
+        long modificationCount = model.getRealodexModificationCount();
+        boolean isModified = modificationCount != lastSavedModificationCount;
+
+        if (asyncSaver.isPresent()) {
+            if (isModified) {
+                asyncSaver.get().submit(new RealodexSnapshot(model.getRealodex()));
+                lastSavedModificationCount = modificationCount;
+            }
+            Optional<IOException> failure = asyncSaver.get().pollFailure();
+            if (failure.isPresent()) {
+                // the failed snapshot may be the latest one, so make the next command save again
+                lastSavedModificationCount = NOT_SAVED;
+                throw toCommandException(failure.get());
+            }
+            return commandResult;
+        }
+
+        if (!isModified) {
+            logger.fine("Realodex unchanged since last save, skipping save");
+            return commandResult;
+        }
 
         try {
             storage.saveRealodex(model.getRealodex());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
         }
+        lastSavedModificationCount = modificationCount;
 
         return commandResult;
     }
 
+    @Override
+    public void shutdown() throws IOException {
+        if (asyncSaver.isPresent()) {
+            asyncSaver.get().shutdown();
+        }
+    }
+
+    /**
+     * Removes the persons that the storage loaded before finding them invalid, so that they are not saved again, and
+     * adds the removed persons, and the invalid persons that the command edited and are kept, to the feedback of
+     * {@code commandResult}.
+     * This is done after the first command that changes the Realodex, before it is saved, so that commands that do
+     * not change the Realodex do not wait for the validation, and the command sees the same list as the user did when
+     * entering it.
+     */
+    private CommandResult removeInvalidPersons(CommandResult commandResult) {
+        hasRemovedInvalidPersons = true;
+        Map<Person, String> invalidPersons = storage.awaitInvalidPersons();
+        if (invalidPersons.isEmpty()) {
+            return commandResult;
+        }
+
+        List<Person> loadedInvalidPersons = model.getRealodex().getPersonList().stream()
+                .filter(invalidPersons::containsKey)
+                .collect(Collectors.toList());
+        loadedInvalidPersons.forEach(model::deletePerson);
+        // persons edited by the command are no longer equal to the loaded ones, but still have the same name
+        List<Person> editedInvalidPersons = invalidPersons.keySet().stream()
+                .filter(person -> !loadedInvalidPersons.contains(person) && model.hasPerson(person))
+                .collect(Collectors.toList());
+
+        StringBuilder feedback = new StringBuilder(commandResult.getFeedbackToUser());
+        if (!loadedInvalidPersons.isEmpty()) {
+            logger.warning("Removed " + loadedInvalidPersons.size() + " invalid persons loaded from "
+                    + storage.getRealodexFilePath());
+            feedback.append("\n").append(String.format(MESSAGE_INVALID_PERSONS_REMOVED, loadedInvalidPersons.size(),
+                    describe(loadedInvalidPersons, invalidPersons)));
+        }
+        if (!editedInvalidPersons.isEmpty()) {
+            logger.warning("Kept " + editedInvalidPersons.size() + " invalid persons edited before their removal");
+            feedback.append("\n").append(String.format(MESSAGE_INVALID_PERSONS_KEPT, editedInvalidPersons.size(),
+                    describe(editedInvalidPersons, invalidPersons)));
+        }
+        return new CommandResult(feedback.toString(), commandResult.isShowHelp(), commandResult.isExit());
+    }
+
+    private static String describe(List<Person> persons, Map<Person, String> invalidPersons) {
+        return persons.stream().map(invalidPersons::get).collect(Collectors.joining("\n"));
+    }
+
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    }
+
     @Override
     public ReadOnlyRealodex getRealodex() {
         return model.getRealodex();
@@ -2,9 +2,14 @@ package seedu.realodex.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_BIRTHDAY;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_FAMILY;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_HOUSINGTYPE;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_INCOME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_SOUNDS_LIKE;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.function.Predicate;
@@ -23,33 +28,56 @@ public class FilterCommand extends Command {
     public static final String COMMAND_WORD = "filter";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Filters all clients by specified field (name, remark, tag, birthday, housing type) "
-            + "with the specified keyphrase (non-empty, case-insensitive) "
+            + ": Filters all clients by specified field (name, name that sounds alike, phone, email, remark, tag, "
+            + "birthday, housing type, income, family) "
+            + "with the specified keyphrase (non-empty, case-insensitive) or range "
             + "and displays them as a list with index numbers.\n"
-            + "Note that although the fields are listed as optional, ONE field must strictly be present.\n"
+            + "Note that although the fields are listed as optional, ONE field must strictly be present, "
+            + "unless fields are combined with AND, OR, NOT and brackets.\n"
             + "Parameters: "
             + "[" + PREFIX_NAME + "KEYPHRASE] "
+            + "[" + PREFIX_SOUNDS_LIKE + "NAME] "
+            + "[" + PREFIX_PHONE + "PHONE] "
+            + "[" + PREFIX_EMAIL + "EMAIL] "
             + "[" + PREFIX_REMARK + "REMARK]"
             + "[" + PREFIX_TAG + "TAG]\n"
             + "[" + PREFIX_BIRTHDAY + "MONTH] "
-            + "[" + PREFIX_HOUSINGTYPE + "HOUSING-TYPE]\n"
+            + "[" + PREFIX_HOUSINGTYPE + "HOUSING-TYPE] "
+            + "[" + PREFIX_INCOME + "MIN-MAX] "
+            + "[" + PREFIX_FAMILY + "MIN-MAX]\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "alice tan";
     public static final String MESSAGE_FILTER_HELP = "Filter Command: "
-            + "Filters clients by ONE specified field (name, remark, tag, birthday, housing type). "
+            + "Filters clients by ONE specified field (name, name that sounds alike, phone, email, remark, tag, "
+            + "birthday, housing type, income, family). "
             + "All inputs must be non-empty and are case-insensitive.\n"
             + "Name and remark are filtered with a keyphrase, "
+            + "names that sound alike are filtered with a name spelt as it sounds (s/Shawn finds Sean), "
+            + "phone numbers and emails are filtered with the whole phone number or email, "
             + "tags are filtered with a valid tag name (buyer/seller), "
             + "birthdays are filtered in MMM format (jan, feb, mar etc)\n"
             + "and housing type is filtered with a valid housing type (HDB, Condominium, Landed property, Good "
             + "Class Bungalow).\n"
+            + "Income and family size are filtered with an inclusive MIN-MAX range, where either end may be left out.\n"
+            + "Several fields can be combined with AND, OR, NOT and brackets, each separated by spaces.\n"
             + "Results are displayed as a list with index numbers.\n"
-            + "Format: filter [n/NAME_KEYPHRASE] [r/REMARK_KEYPHRASE] [t/TAG] [b/BIRTHDAY] [h/HOUSING_TYPE]\n"
-            + "Examples: filter n/Jus, filter r/likes coffee, filter t/buyer, filter b/oct, filter h/landed property\n";
+            + "Format: filter [n/NAME_KEYPHRASE] [s/NAME] [p/PHONE] [e/EMAIL] [r/REMARK_KEYPHRASE] [t/TAG] "
+            + "[b/BIRTHDAY] [h/HOUSING_TYPE] [i/MIN-MAX] [f/MIN-MAX]\n"
+            + "Examples: filter n/Jus, filter s/Shawn, filter p/9123 4567, filter e/alice@example.com, "
+            + "filter r/likes coffee, filter t/buyer, filter b/oct, filter h/landed property, "
+            + "filter i/5000-8000, filter f/-3, filter h/hdb AND ( t/buyer OR NOT i/-5000 )\n";
 
-    public static final String MESSAGE_FILTER_CONFLICT = "Filter command can only filter by one field.\n";
+    public static final String MESSAGE_FILTER_CONFLICT = "Filter command can only filter by one field, "
+            + "unless fields are combined with AND, OR or NOT.\n";
+
+    public static final String MESSAGE_INVALID_FILTER_EXPRESSION = "Invalid filter expression: %1$s.\n"
+            + "Combine fields with AND, OR, NOT and brackets, each separated by spaces.\n"
+            + "Example: " + COMMAND_WORD + " h/hdb AND ( t/buyer OR NOT i/-5000 )";
 
     public static final String MESSAGE_FILTER_EMPTY_REMARK = "Cannot filter by empty remark.\n";
 
+    public static final String MESSAGE_FILTER_SOUNDS_LIKE_NO_LETTERS =
+            "Cannot filter by how a name sounds if it has no letters.\n";
+
     private final Predicate<Person> predicate;
 
     public FilterCommand(Predicate<Person> predicate) {
@@ -6,6 +6,7 @@ import static seedu.realodex.logic.commands.DeleteCommand.MESSAGE_DELETE_HELP;
 import static seedu.realodex.logic.commands.EditCommand.MESSAGE_EDIT_HELP;
 import static seedu.realodex.logic.commands.FilterCommand.MESSAGE_FILTER_HELP;
 import static seedu.realodex.logic.commands.ListCommand.MESSAGE_LIST_HELP;
+import static seedu.realodex.logic.commands.SearchCommand.MESSAGE_SEARCH_HELP;
 import static seedu.realodex.logic.commands.SortCommand.MESSAGE_SORT_HELP;
 
 import seedu.realodex.model.Model;
@@ -23,7 +24,7 @@ public class HelpCommand extends Command {
 
     public static final String MESSAGE_INDIVIDUAL_COMMANDS_HELP = "Help for Individual Commands: Shows you the help"
             + " message for the specified command in the GUI directly. This is only applicable for the "
-            + "Add, Clear, Delete, Edit, Filter, List and Sort commands.\n"
+            + "Add, Clear, Delete, Edit, Filter, List, Search and Sort commands.\n"
             + "Format: COMMAND help\n"
             + "Examples: add help, delete help, edit help\n";
 
@@ -62,6 +63,9 @@ public class HelpCommand extends Command {
         case "list":
             return new CommandResult(MESSAGE_LIST_HELP, false, false);
 
+        case "search":
+            return new CommandResult(MESSAGE_SEARCH_HELP, false, false);
+
         case "sort":
             return new CommandResult(MESSAGE_SORT_HELP, false, false);
 
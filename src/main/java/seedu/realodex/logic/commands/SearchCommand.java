@@ -0,0 +1,89 @@
+package seedu.realodex.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.realodex.commons.util.ToStringBuilder;
+import seedu.realodex.model.Model;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Lists the clients whose names are closest to the given name, which may be misspelt.
+ * Names are compared by edit distance, ignoring case.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final int DEFAULT_COUNT = 5;
+    public static final int MAX_COUNT = 100;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the clients whose names are closest to the given name, even if it is misspelt.\n"
+            + "Parameters: " + PREFIX_NAME + "NAME [" + PREFIX_COUNT + "COUNT]\n"
+            + "COUNT is the number of clients to list, from 1 to " + MAX_COUNT + ", " + DEFAULT_COUNT
+            + " if not given\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "Alise Paulin " + PREFIX_COUNT + "3";
+    public static final String MESSAGE_SEARCH_HELP = "Search Command: "
+            + "Lists the clients whose names are closest to the given name, ignoring case. "
+            + "Useful when you do not remember how a name is spelt.\n"
+            + "Format: search n/NAME [k/COUNT]\n"
+            + "COUNT is the number of clients to list, from 1 to " + MAX_COUNT + ", " + DEFAULT_COUNT
+            + " if not given\n"
+            + "Examples: search n/Alise Paulin, search n/jon k/3\n";
+
+    public static final String MESSAGE_SUCCESS = "%1$d clients listed, closest first: %2$s";
+    public static final String MESSAGE_INVALID_COUNT = "COUNT should be a whole number from 1 to " + MAX_COUNT + ".";
+
+    private final String name;
+    private final int count;
+
+    /**
+     * Creates a SearchCommand that lists the {@code count} clients with names closest to {@code name}.
+     */
+    public SearchCommand(String name, int count) {
+        requireNonNull(name);
+        assert count > 0;
+        this.name = name;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Person> closestPersons = model.getPersonsWithClosestNames(name, count);
+        model.updateFilteredPersonList(closestPersons);
+
+        String names = closestPersons.stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, closestPersons.size(), names));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return name.equals(otherSearchCommand.name) && count == otherSearchCommand.count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("count", count)
+                .toString();
+    }
+}
@@ -1,30 +1,68 @@
 package seedu.realodex.logic.commands;
 
-import javafx.collections.ObservableList;
-//import seedu.realodex.commons.util.ToStringBuilder;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.realodex.commons.util.ToStringBuilder;
 import seedu.realodex.logic.commands.exceptions.CommandException;
 import seedu.realodex.model.Model;
-import seedu.realodex.model.Realodex;
-import seedu.realodex.model.person.Person;
-import seedu.realodex.model.person.sorting.BirthdayComparator;
+import seedu.realodex.model.person.sorting.SortField;
+import seedu.realodex.model.person.sorting.SortKey;
 
 /**
- * Command to sort clients by their birthday.
+ * Command to sort the displayed clients by one or more of their fields.
+ * Only the displayed list is sorted; the order the clients are stored in is unchanged.
  */
 public class SortCommand extends Command {
     public static final String COMMAND_WORD = "sort";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts clients by their upcoming birthdays\n"
-            + "Example: sort";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts clients by the given fields, "
+            + "or by their upcoming birthdays if no field is given\n"
+            + "Parameters: [i/[ORDER]] [f/[ORDER]] [h/[ORDER]] [n/[ORDER]] [b/[ORDER]]\n"
+            + "ORDER is either asc (default) or desc; clients equal by a field are sorted by the next field given\n"
+            + "Example: sort i/desc n/";
 
     public static final String MESSAGE_SORT_HELP = "Sort Command: "
-            + "Sorts clients by their birthday\n"
-            + "Format: sort\n";
+            + "Sorts clients by income (i/), family size (f/), housing type (h/), name (n/) "
+            + "or upcoming birthday (b/), in the order given\n"
+            + "Format: sort [i/[ORDER]] [f/[ORDER]] [h/[ORDER]] [n/[ORDER]] [b/[ORDER]]\n"
+            + "ORDER is either asc or desc, ascending if not given\n"
+            + "Sorts by upcoming birthday if no field is given\n";
+
+    public static final String MESSAGE_SUCCESS = "Sorted list by %1$s!";
+
+    /** The keys to sort by when none are given: ascending days to each birthday. */
+    public static final List<SortKey> DEFAULT_SORT_KEYS = List.of(new SortKey(SortField.BIRTHDAY, false));
+
+    private final List<SortKey> sortKeys;
+    private final Clock clock;
 
-    public static final String MESSAGE_SUCCESS = "Sorted list by days to their birthday!";
+    /**
+     * Creates a SortCommand that sorts by the days from the current system date to each birthday.
+     */
+    public SortCommand() {
+        this(DEFAULT_SORT_KEYS, Clock.systemDefaultZone());
+    }
 
     /**
-     * Executes the sort command to sort clients by their birthday.
+     * Creates a SortCommand that sorts by {@code sortKeys} in turn, counting the days to each birthday from the
+     * date given by {@code clock}.
+     */
+    public SortCommand(List<SortKey> sortKeys, Clock clock) {
+        requireNonNull(sortKeys);
+        requireNonNull(clock);
+        assert !sortKeys.isEmpty();
+        this.sortKeys = List.copyOf(sortKeys);
+        this.clock = clock;
+    }
+
+    /**
+     * Executes the sort command to sort the displayed clients.
+     * The date that the days to each birthday are counted from is fixed when the command is executed.
      *
      * @param model the current model of the application
      * @return the result of the execution
@@ -32,12 +70,31 @@ public class SortCommand extends Command {
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        Realodex realodexToUpdate = (Realodex) model.getRealodex();
-        ObservableList<Person> copiedInternalListForSorting =
-                realodexToUpdate.getCopyOfInternalListOfUniquePersonsList();
-        copiedInternalListForSorting.sort(new BirthdayComparator());
-        realodexToUpdate.setPersons(copiedInternalListForSorting);
-        return new CommandResult(MESSAGE_SUCCESS);
+        requireNonNull(model);
+        model.updateSortedPersonList(SortKey.toComparator(sortKeys, LocalDate.now(clock)));
+        String keysDescription = sortKeys.stream().map(SortKey::toString).collect(Collectors.joining(", then "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, keysDescription));
     }
 
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return sortKeys.equals(otherSortCommand.sortKeys) && clock.equals(otherSortCommand.clock);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortKeys", sortKeys)
+                .toString();
+    }
 }
@@ -27,5 +27,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_REMARK_CAPS = new Prefix("R/");
     public static final Prefix PREFIX_BIRTHDAY = new Prefix("b/");
     public static final Prefix PREFIX_BIRTHDAY_CAPS = new Prefix("B/");
+    public static final Prefix PREFIX_SOUNDS_LIKE = new Prefix("s/");
+    public static final Prefix PREFIX_SOUNDS_LIKE_CAPS = new Prefix("S/");
+    public static final Prefix PREFIX_COUNT = new Prefix("k/");
+    public static final Prefix PREFIX_COUNT_CAPS = new Prefix("K/");
 }
 
@@ -2,10 +2,16 @@ package seedu.realodex.logic.parser;
 
 import static seedu.realodex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.realodex.logic.commands.FilterCommand.MESSAGE_FILTER_EMPTY_REMARK;
+import static seedu.realodex.logic.commands.FilterCommand.MESSAGE_FILTER_SOUNDS_LIKE_NO_LETTERS;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_BIRTHDAY;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_FAMILY;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_HOUSINGTYPE;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_INCOME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_SOUNDS_LIKE;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.List;
@@ -13,7 +19,10 @@ import java.util.function.Predicate;
 
 import seedu.realodex.logic.commands.FilterCommand;
 import seedu.realodex.logic.parser.exceptions.ParseException;
+import seedu.realodex.model.person.Name;
 import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.Phone;
+import seedu.realodex.model.person.predicates.FilterPlanner;
 import seedu.realodex.model.person.predicates.PredicateProducer;
 
 /**
@@ -23,18 +32,40 @@ public class FilterCommandParser implements Parser<FilterCommand> {
 
     private static final Prefix[] POSSIBLE_PREFIXES = {
         PREFIX_NAME,
+        PREFIX_SOUNDS_LIKE,
+        PREFIX_PHONE,
+        PREFIX_EMAIL,
         PREFIX_REMARK,
         PREFIX_TAG,
         PREFIX_BIRTHDAY,
-        PREFIX_HOUSINGTYPE
+        PREFIX_HOUSINGTYPE,
+        PREFIX_INCOME,
+        PREFIX_FAMILY
     };
+
     /**
      * Parses the given {@code String} of arguments in the context of the FilterCommand
      * and returns a FilterCommand object for execution.
+     * Arguments with operators are parsed as an expression of several clauses, as described in
+     * {@link FilterExpressionParser}, and the clauses are ordered by {@link FilterPlanner}.
      *
      * @throws ParseException if the user input does not conform the expected format
      */
     public FilterCommand parse(String args) throws ParseException {
+        FilterExpressionParser expressionParser = new FilterExpressionParser(this::parseClause, POSSIBLE_PREFIXES);
+        if (expressionParser.isExpression(args)) {
+            Predicate<Person> predicate = expressionParser.parse(args);
+            return new FilterCommand(FilterPlanner.plan(predicate));
+        }
+        return new FilterCommand(parseClause(args));
+    }
+
+    /**
+     * Parses a single clause, which filters by one field, into the predicate for that field.
+     *
+     * @throws ParseException if the clause does not conform the expected format
+     */
+    private Predicate<Person> parseClause(String args) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, POSSIBLE_PREFIXES);
         PrefixChecker prefixChecker = new PrefixChecker(argMultimap);
 
@@ -42,9 +73,7 @@ public class FilterCommandParser implements Parser<FilterCommand> {
 
         Prefix presentPrefix = prefixChecker.findPresentPrefix(POSSIBLE_PREFIXES);
         List<String> keyphrases = argMultimap.getAllValues(presentPrefix);
-        Predicate<Person> predicate = createPredicateForPrefix(presentPrefix, keyphrases);
-
-        return new FilterCommand(predicate);
+        return createPredicateForPrefix(presentPrefix, keyphrases);
     }
 
     /**
@@ -59,10 +88,15 @@ public class FilterCommandParser implements Parser<FilterCommand> {
     private Predicate<Person> createPredicateForPrefix(Prefix presentPrefix, List<String> keyphrases)
             throws ParseException {
         checkValidNameIfApplicable(presentPrefix, keyphrases);
+        checkValidSoundsLikeNameIfApplicable(presentPrefix, keyphrases);
+        checkValidPhoneIfApplicable(presentPrefix, keyphrases);
+        checkValidEmailIfApplicable(presentPrefix, keyphrases);
         checkValidRemarkIfApplicable(presentPrefix, keyphrases);
         checkValidTagsIfApplicable(presentPrefix, keyphrases);
         checkValidBirthdayIfApplicable(presentPrefix, keyphrases);
         checkValidHousingTypeIfApplicable(presentPrefix, keyphrases);
+        checkValidIncomeRangeIfApplicable(presentPrefix, keyphrases);
+        checkValidFamilyRangeIfApplicable(presentPrefix, keyphrases);
         PredicateProducer predicateProducer = new PredicateProducer();
         return predicateProducer.createPredicate(presentPrefix, keyphrases);
     }
@@ -141,6 +175,55 @@ public class FilterCommandParser implements Parser<FilterCommand> {
         ParserUtil.parseName(name);
     }
 
+    /**
+     * Validates the name to be sounded out if the present prefix is for a name that sounds alike. The name must
+     * conform to Name constraints and have at least one letter to be sounded out.
+     *
+     * @param presentPrefix The prefix to check if it's related to names that sound alike.
+     * @param keyphrases The list of keyphrases representing potential names.
+     * @throws ParseException if the name is invalid or has no letters.
+     */
+    private void checkValidSoundsLikeNameIfApplicable(Prefix presentPrefix, List<String> keyphrases)
+            throws ParseException {
+        if (!presentPrefix.equals(PREFIX_SOUNDS_LIKE)) {
+            return;
+        }
+        String name = keyphrases.get(keyphrases.size() - 1);
+        ParserUtil.parseName(name);
+        if (Name.toPhoneticCodes(name).isEmpty()) {
+            throw new ParseException(MESSAGE_FILTER_SOUNDS_LIKE_NO_LETTERS);
+        }
+    }
+
+    /**
+     * Validates the phone number if the present prefix is for a phone number. Without the spaces and hyphens that
+     * group its digits, the phone number must conform to Phone constraints.
+     *
+     * @param presentPrefix The prefix to check if it's phone-related.
+     * @param keyphrases The list of keyphrases representing potential phone numbers.
+     * @throws ParseException if the phone number is invalid.
+     */
+    private void checkValidPhoneIfApplicable(Prefix presentPrefix, List<String> keyphrases) throws ParseException {
+        if (!presentPrefix.equals(PREFIX_PHONE)) {
+            return;
+        }
+        ParserUtil.parsePhone(Phone.stripSeparators(keyphrases.get(keyphrases.size() - 1)));
+    }
+
+    /**
+     * Validates the email if the present prefix is for an email. The email must conform to Email constraints.
+     *
+     * @param presentPrefix The prefix to check if it's email-related.
+     * @param keyphrases The list of keyphrases representing potential emails.
+     * @throws ParseException if the email is invalid.
+     */
+    private void checkValidEmailIfApplicable(Prefix presentPrefix, List<String> keyphrases) throws ParseException {
+        if (!presentPrefix.equals(PREFIX_EMAIL)) {
+            return;
+        }
+        ParserUtil.parseEmail(keyphrases.get(keyphrases.size() - 1));
+    }
+
     /**
      * Validates keyphrase if the present prefix is for a remarks.
      * Each keyphrase must not be empty as per Remarks constraints.
@@ -206,4 +289,34 @@ public class FilterCommandParser implements Parser<FilterCommand> {
         String month = keyphrases.get(keyphrases.size() - 1);
         ParserUtil.parseMonth(month);
     }
+
+    /**
+     * Validates the income range if the present prefix is for income. The range must be in the MIN-MAX format.
+     *
+     * @param presentPrefix The prefix to check if it's income-related.
+     * @param keyphrases The list of keyphrases representing potential income ranges.
+     * @throws ParseException if the income range is invalid.
+     */
+    private void checkValidIncomeRangeIfApplicable(Prefix presentPrefix, List<String> keyphrases)
+            throws ParseException {
+        if (!presentPrefix.equals(PREFIX_INCOME)) {
+            return;
+        }
+        ParserUtil.parseIncomeRange(keyphrases.get(keyphrases.size() - 1));
+    }
+
+    /**
+     * Validates the family size range if the present prefix is for family. The range must be in the MIN-MAX format.
+     *
+     * @param presentPrefix The prefix to check if it's family-related.
+     * @param keyphrases The list of keyphrases representing potential family size ranges.
+     * @throws ParseException if the family size range is invalid.
+     */
+    private void checkValidFamilyRangeIfApplicable(Prefix presentPrefix, List<String> keyphrases)
+            throws ParseException {
+        if (!presentPrefix.equals(PREFIX_FAMILY)) {
+            return;
+        }
+        ParserUtil.parseFamilyRange(keyphrases.get(keyphrases.size() - 1));
+    }
 }
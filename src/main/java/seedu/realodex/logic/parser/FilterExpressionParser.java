@@ -0,0 +1,212 @@
+package seedu.realodex.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.realodex.logic.commands.FilterCommand.MESSAGE_INVALID_FILTER_EXPRESSION;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.realodex.logic.parser.exceptions.ParseException;
+import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.predicates.AndPredicate;
+import seedu.realodex.model.person.predicates.NotPredicate;
+import seedu.realodex.model.person.predicates.OrPredicate;
+
+/**
+ * Parses a filter expression that combines clauses with the operators {@value #AND}, {@value #OR} and {@value #NOT},
+ * and brackets, e.g. {@code h/hdb AND ( t/buyer OR NOT i/-5000 )}.
+ * <p>
+ * Operators and brackets are words of their own, separated from the rest of the expression by spaces, and operators
+ * are in upper case. {@value #NOT} binds tighter than {@value #AND}, which binds tighter than {@value #OR}.
+ * The words between operators and brackets make up a clause, which is parsed by a {@link ClauseParser}.
+ * <p>
+ * Such a word is only an operator or a bracket where the expression can continue with one, i.e. where it joins,
+ * negates or groups clauses that start with one of the prefixes the parser is given, so that keyphrases like
+ * {@code r/call AND text} and {@code r/meet AND w/ client} stay a single clause.
+ */
+public class FilterExpressionParser {
+
+    public static final String AND = "AND";
+    public static final String OR = "OR";
+    public static final String NOT = "NOT";
+    public static final String OPEN_BRACKET = "(";
+    public static final String CLOSE_BRACKET = ")";
+
+    private static final Set<String> BINARY_OPERATORS = Set.of(AND, OR);
+    private static final Set<String> PREFIX_OPERATORS = Set.of(NOT, OPEN_BRACKET);
+
+    private final ClauseParser clauseParser;
+    private final List<Prefix> clausePrefixes;
+    private List<String> words;
+    private boolean[] isOperator;
+    private int position;
+
+    /**
+     * Creates a parser of expressions whose clauses start with one of {@code clausePrefixes}, and are parsed by
+     * {@code clauseParser}.
+     */
+    public FilterExpressionParser(ClauseParser clauseParser, Prefix... clausePrefixes) {
+        requireNonNull(clauseParser);
+        requireNonNull(clausePrefixes);
+        this.clauseParser = clauseParser;
+        this.clausePrefixes = List.of(clausePrefixes);
+    }
+
+    /**
+     * Returns true if {@code args} contains an operator or a bracket, and so is an expression rather than a single
+     * clause.
+     */
+    public boolean isExpression(String args) {
+        requireNonNull(args);
+        for (boolean operator : findOperators(splitWords(args))) {
+            if (operator) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> splitWords(String args) {
+        return Arrays.asList(args.trim().split("\\s+"));
+    }
+
+    /**
+     * Returns which of {@code words} are operators or brackets, rather than part of a clause.
+     * {@value #AND} and {@value #OR} are operators only between two clauses, {@value #NOT} and {@value #OPEN_BRACKET}
+     * only where a clause may start and before one, and {@value #CLOSE_BRACKET} only where it closes an open bracket
+     * and ends the expression or is followed by another operator.
+     */
+    private boolean[] findOperators(List<String> words) {
+        boolean[] isOperator = new boolean[words.size()];
+        boolean expectsClause = true;
+        int openBrackets = 0;
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            if (expectsClause) {
+                isOperator[i] = PREFIX_OPERATORS.contains(word) && startsClause(words, i + 1);
+                openBrackets += isOperator[i] && word.equals(OPEN_BRACKET) ? 1 : 0;
+                expectsClause = isOperator[i];
+            } else if (BINARY_OPERATORS.contains(word)) {
+                isOperator[i] = startsClause(words, i + 1);
+                expectsClause = isOperator[i];
+            } else if (word.equals(CLOSE_BRACKET) && openBrackets > 0) {
+                isOperator[i] = endsClause(words, i + 1);
+                openBrackets -= isOperator[i] ? 1 : 0;
+            }
+        }
+        return isOperator;
+    }
+
+    /**
+     * Returns true if a clause, possibly preceded by {@value #NOT} or {@value #OPEN_BRACKET}, starts at
+     * {@code words[index]}.
+     */
+    private boolean startsClause(List<String> words, int index) {
+        int i = index;
+        while (i < words.size() && PREFIX_OPERATORS.contains(words.get(i))) {
+            i++;
+        }
+        return i < words.size() && startsWithClausePrefix(words.get(i));
+    }
+
+    private boolean startsWithClausePrefix(String word) {
+        return clausePrefixes.stream().anyMatch(prefix -> word.startsWith(prefix.getPrefix()));
+    }
+
+    /**
+     * Returns true if the expression ends at {@code words[index]}, or continues there with another operator.
+     */
+    private boolean endsClause(List<String> words, int index) {
+        if (index == words.size() || words.get(index).equals(CLOSE_BRACKET)) {
+            return true;
+        }
+        return BINARY_OPERATORS.contains(words.get(index)) && startsClause(words, index + 1);
+    }
+
+    /**
+     * Parses {@code args} into a predicate that combines the predicates of its clauses.
+     *
+     * @throws ParseException if {@code args} is not a valid expression, or a clause is invalid.
+     */
+    public Predicate<Person> parse(String args) throws ParseException {
+        requireNonNull(args);
+        words = splitWords(args);
+        isOperator = findOperators(words);
+        position = 0;
+        Predicate<Person> predicate = parseOr();
+        if (position < words.size()) {
+            throw invalidExpression("unexpected " + words.get(position));
+        }
+        return predicate;
+    }
+
+    private Predicate<Person> parseOr() throws ParseException {
+        List<Predicate<Person>> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (consume(OR)) {
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrPredicate(operands);
+    }
+
+    private Predicate<Person> parseAnd() throws ParseException {
+        List<Predicate<Person>> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (consume(AND)) {
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndPredicate(operands);
+    }
+
+    private Predicate<Person> parseNot() throws ParseException {
+        if (consume(NOT)) {
+            return new NotPredicate(parseNot());
+        }
+        return parseOperand();
+    }
+
+    private Predicate<Person> parseOperand() throws ParseException {
+        if (consume(OPEN_BRACKET)) {
+            Predicate<Person> predicate = parseOr();
+            if (!consume(CLOSE_BRACKET)) {
+                throw invalidExpression("missing " + CLOSE_BRACKET);
+            }
+            return predicate;
+        }
+
+        int start = position;
+        while (position < words.size() && !isOperator[position]) {
+            position++;
+        }
+        // operators are only found where a clause follows them, so the clause has at least one word
+        return clauseParser.parse(" " + String.join(" ", words.subList(start, position)));
+    }
+
+    private boolean consume(String operator) {
+        if (position < words.size() && isOperator[position] && words.get(position).equals(operator)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private static ParseException invalidExpression(String reason) {
+        return new ParseException(String.format(MESSAGE_INVALID_FILTER_EXPRESSION, reason));
+    }
+
+    /**
+     * Parses a single clause of a filter expression into a predicate.
+     */
+    @FunctionalInterface
+    public interface ClauseParser {
+        /**
+         * Parses {@code clause} into a predicate.
+         *
+         * @throws ParseException if {@code clause} is invalid.
+         */
+        Predicate<Person> parse(String clause) throws ParseException;
+    }
+}
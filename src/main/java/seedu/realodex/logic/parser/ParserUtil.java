@@ -2,9 +2,8 @@ package seedu.realodex.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
-import java.text.SimpleDateFormat;
+import java.time.Month;
 import java.util.Collection;
-import java.util.Date;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -21,6 +20,8 @@ import seedu.realodex.model.person.Name;
 import seedu.realodex.model.person.Phone;
 import seedu.realodex.model.person.Remark;
 import seedu.realodex.model.person.Tag;
+import seedu.realodex.model.person.predicates.FamilyInRangePredicate;
+import seedu.realodex.model.person.predicates.IncomeInRangePredicate;
 
 
 /**
@@ -259,6 +260,73 @@ public class ParserUtil {
         return new ParserUtilResult<>("", new Family(trimmedFamily));
     }
 
+    /**
+     * Parses a {@code String range} of incomes in the MIN-MAX format into a predicate of persons whose income is
+     * within the range. MIN or MAX may be left out to leave that end of the range open.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code range} is invalid.
+     */
+    public static IncomeInRangePredicate parseIncomeRange(String range) throws ParseException {
+        String[] bounds = splitRange(range, Income.FILTER_RANGE_MESSAGE_CONSTRAINTS);
+        long min = bounds[0].isEmpty() ? 0 : parseIncomeBound(bounds[0]);
+        long max = bounds[1].isEmpty() ? Long.MAX_VALUE : parseIncomeBound(bounds[1]);
+        if (min > max) {
+            throw new ParseException(Income.FILTER_RANGE_MESSAGE_CONSTRAINTS);
+        }
+        return new IncomeInRangePredicate(min, max);
+    }
+
+    private static long parseIncomeBound(String bound) throws ParseException {
+        if (!Income.isValidIncome(bound)) {
+            throw new ParseException(Income.FILTER_RANGE_MESSAGE_CONSTRAINTS);
+        }
+        return new Income(bound).getValue();
+    }
+
+    /**
+     * Parses a {@code String range} of family sizes in the MIN-MAX format into a predicate of persons whose family
+     * size is within the range. MIN or MAX may be left out to leave that end of the range open.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code range} is invalid.
+     */
+    public static FamilyInRangePredicate parseFamilyRange(String range) throws ParseException {
+        String[] bounds = splitRange(range, Family.FILTER_RANGE_MESSAGE_CONSTRAINTS);
+        int min = bounds[0].isEmpty() ? 1 : parseFamilyBound(bounds[0]);
+        int max = bounds[1].isEmpty() ? Integer.MAX_VALUE : parseFamilyBound(bounds[1]);
+        if (min > max) {
+            throw new ParseException(Family.FILTER_RANGE_MESSAGE_CONSTRAINTS);
+        }
+        return new FamilyInRangePredicate(min, max);
+    }
+
+    private static int parseFamilyBound(String bound) throws ParseException {
+        if (!Family.isValidFamily(bound)) {
+            throw new ParseException(Family.FILTER_RANGE_MESSAGE_CONSTRAINTS);
+        }
+        return new Family(bound).getValue();
+    }
+
+    /**
+     * Splits {@code range} in the MIN-MAX format into its trimmed lower and upper bounds, either of which may be
+     * empty, but not both.
+     *
+     * @throws ParseException with {@code message} if {@code range} does not have exactly one '-'.
+     */
+    private static String[] splitRange(String range, String message) throws ParseException {
+        requireNonNull(range);
+        int separatorIndex = range.indexOf('-');
+        if (separatorIndex < 0 || range.indexOf('-', separatorIndex + 1) >= 0) {
+            throw new ParseException(message);
+        }
+        String[] bounds = {range.substring(0, separatorIndex).trim(), range.substring(separatorIndex + 1).trim()};
+        if (bounds[0].isEmpty() && bounds[1].isEmpty()) {
+            throw new ParseException(message);
+        }
+        return bounds;
+    }
+
     /**
      * Parses a {@code String tag} into a {@code Tag}.
      * Leading and trailing whitespaces will be trimmed.
@@ -340,18 +408,13 @@ public class ParserUtil {
     }
 
     /**
-     * Parses a {@code String month} into a {@code Date} month.
-     * Leading and trailing whitespaces will be trimmed.
+     * Parses a {@code String month} into a {@code Month}.
      *
+     * @throws ParseException if the given {@code monthName} is not a short or full month name.
      */
-    public static Date parseMonth(String monthName) throws ParseException {
-        SimpleDateFormat monthFormat = new SimpleDateFormat(Birthday.INPUT_MONTH_PATTERN);
-        try {
-            Date monthDate = monthFormat.parse(monthName);
-            return monthDate;
-        } catch (java.text.ParseException e) {
-            throw new ParseException(Birthday.FILTER_MONTH_MESSAGE_CONSTRAINTS);
-        }
+    public static Month parseMonth(String monthName) throws ParseException {
+        return Birthday.parseMonth(monthName)
+                .orElseThrow(() -> new ParseException(Birthday.FILTER_MONTH_MESSAGE_CONSTRAINTS));
     }
 
     /**
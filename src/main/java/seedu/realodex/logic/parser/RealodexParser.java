@@ -17,6 +17,7 @@ import seedu.realodex.logic.commands.ExitCommand;
 import seedu.realodex.logic.commands.FilterCommand;
 import seedu.realodex.logic.commands.HelpCommand;
 import seedu.realodex.logic.commands.ListCommand;
+import seedu.realodex.logic.commands.SearchCommand;
 import seedu.realodex.logic.commands.SortCommand;
 import seedu.realodex.logic.parser.exceptions.ParseException;
 
@@ -104,11 +105,17 @@ public class RealodexParser {
             }
             return new ListCommand();
 
+        case SearchCommand.COMMAND_WORD:
+            if (isHelp) {
+                return new HelpCommandParser().parse(commandWord);
+            }
+            return new SearchCommandParser().parse(arguments);
+
         case SortCommand.COMMAND_WORD:
             if (isHelp) {
                 return new HelpCommandParser().parse(commandWord);
             }
-            return new SortCommand();
+            return new SortCommandParser().parse(arguments);
 
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
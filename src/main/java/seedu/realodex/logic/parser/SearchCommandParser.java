@@ -0,0 +1,55 @@
+package seedu.realodex.logic.parser;
+
+import static seedu.realodex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.util.Optional;
+
+import seedu.realodex.commons.util.StringUtil;
+import seedu.realodex.commons.util.ValidationUtil;
+import seedu.realodex.logic.commands.SearchCommand;
+import seedu.realodex.logic.parser.exceptions.ParseException;
+import seedu.realodex.model.person.Name;
+
+/**
+ * Parses input arguments and creates a new SearchCommand object
+ */
+public class SearchCommandParser implements Parser<SearchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchCommand
+     * and returns a SearchCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SearchCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_COUNT);
+        Optional<String> name = argMultimap.getValue(PREFIX_NAME);
+        if (name.isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_COUNT);
+
+        Name parsedName = ParserUtil.parseName(name.get());
+        int count = SearchCommand.DEFAULT_COUNT;
+        if (argMultimap.getValue(PREFIX_COUNT).isPresent()) {
+            count = parseCount(argMultimap.getValue(PREFIX_COUNT).get());
+        }
+        return new SearchCommand(parsedName.fullName, count);
+    }
+
+    /**
+     * Parses {@code count} into the number of clients to list.
+     *
+     * @throws ParseException if {@code count} is not a whole number from 1 to {@link SearchCommand#MAX_COUNT}.
+     */
+    private static int parseCount(String count) throws ParseException {
+        String trimmedCount = count.trim();
+        if (!ValidationUtil.isPositiveDigits(trimmedCount)
+                || StringUtil.compareUnsignedIntegers(trimmedCount, String.valueOf(SearchCommand.MAX_COUNT)) > 0) {
+            throw new ParseException(SearchCommand.MESSAGE_INVALID_COUNT);
+        }
+        return Integer.parseInt(trimmedCount);
+    }
+}
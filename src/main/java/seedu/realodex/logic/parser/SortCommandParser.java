@@ -0,0 +1,103 @@
+package seedu.realodex.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.realodex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_BIRTHDAY;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_FAMILY;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_HOUSINGTYPE;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_INCOME;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.realodex.logic.Messages;
+import seedu.realodex.logic.commands.SortCommand;
+import seedu.realodex.logic.parser.exceptions.ParseException;
+import seedu.realodex.model.person.sorting.SortField;
+import seedu.realodex.model.person.sorting.SortKey;
+
+/**
+ * Parses input arguments and creates a new SortCommand object.
+ * Unlike other commands, the order of the prefixes matters, as it is the order of the fields to sort by.
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    public static final String ORDER_ASCENDING = "asc";
+    public static final String ORDER_DESCENDING = "desc";
+    public static final String MESSAGE_INVALID_ORDER = "Sort order should be either '" + ORDER_ASCENDING
+            + "' or '" + ORDER_DESCENDING + "', or left empty to sort in ascending order";
+
+    private static final Map<Prefix, SortField> SORT_FIELDS = new LinkedHashMap<>();
+    static {
+        SORT_FIELDS.put(PREFIX_INCOME, SortField.INCOME);
+        SORT_FIELDS.put(PREFIX_FAMILY, SortField.FAMILY);
+        SORT_FIELDS.put(PREFIX_HOUSINGTYPE, SortField.HOUSING_TYPE);
+        SORT_FIELDS.put(PREFIX_NAME, SortField.NAME);
+        SORT_FIELDS.put(PREFIX_BIRTHDAY, SortField.BIRTHDAY);
+    }
+
+    private final Clock clock;
+
+    public SortCommandParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a parser of sort commands that count the days to each birthday from the date given by {@code clock}.
+     */
+    public SortCommandParser(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new SortCommand(SortCommand.DEFAULT_SORT_KEYS, clock);
+        }
+
+        List<SortKey> sortKeys = new ArrayList<>();
+        Set<SortField> seenFields = EnumSet.noneOf(SortField.class);
+        for (String token : trimmedArgs.split("\\s+")) {
+            Prefix prefix = findPrefix(token);
+            SortField field = SORT_FIELDS.get(prefix);
+            if (!seenFields.add(field)) {
+                throw new ParseException(Messages.getErrorMessageForDuplicatePrefixes(prefix));
+            }
+            sortKeys.add(new SortKey(field, parseIsDescending(token.substring(prefix.getPrefix().length()))));
+        }
+        return new SortCommand(sortKeys, clock);
+    }
+
+    private static Prefix findPrefix(String token) throws ParseException {
+        for (Prefix prefix : SORT_FIELDS.keySet()) {
+            if (token.startsWith(prefix.getPrefix())) {
+                return prefix;
+            }
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+    }
+
+    private static boolean parseIsDescending(String order) throws ParseException {
+        String lowerCaseOrder = order.toLowerCase();
+        if (lowerCaseOrder.isEmpty() || lowerCaseOrder.equals(ORDER_ASCENDING)) {
+            return false;
+        }
+        if (lowerCaseOrder.equals(ORDER_DESCENDING)) {
+            return true;
+        }
+        throw new ParseException(MESSAGE_INVALID_ORDER);
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.realodex.model;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.realodex.model.person.Person;
+
+/**
+ * A bounded cache of the persons matching each of the most recently used filter predicates.
+ * <p>
+ * Each entry holds the matching persons, compared by identity, and the modification count of the realodex they are up
+ * to date for, so that filtering by an equal predicate again is a lookup instead of testing every person. Rather than
+ * dropping every entry on a change, the owner reports each change with {@link #update}, which tests the added person
+ * against each entry and removes the removed person from it. Once more than the capacity of predicates are cached,
+ * the least recently used one is evicted.
+ * <p>
+ * Only predicates that define {@code equals} are cached. Any other predicate, such as a lambda, is only equal to
+ * itself, so its entry could never be looked up again and would only evict the entry of a filter that could.
+ */
+class FilterResultCache {
+
+    private final int capacity;
+    private final LinkedHashMap<Predicate<Person>, Entry> entries;
+
+    /**
+     * Creates an empty cache holding the results of at most {@code capacity} predicates.
+     */
+    FilterResultCache(int capacity) {
+        assert capacity > 0;
+        this.capacity = capacity;
+        // access order, so that the eldest entry is the least recently used one
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<Person>, Entry> eldest) {
+                return size() > FilterResultCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached persons matching {@code predicate} if they are up to date for {@code modificationCount}.
+     * The returned set is kept up to date by {@link #update} while {@code predicate} stays cached, and must not be
+     * modified.
+     */
+    Optional<Set<Person>> get(Predicate<Person> predicate, long modificationCount) {
+        Entry entry = entries.get(predicate);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.modificationCount != modificationCount) {
+            entries.remove(predicate);
+            return Optional.empty();
+        }
+        return Optional.of(entry.matches);
+    }
+
+    /**
+     * Caches {@code matches} as the persons matching {@code predicate} at {@code modificationCount}, unless
+     * {@code predicate} does not define {@code equals}.
+     * {@code matches} must compare persons by identity, and is kept up to date by {@link #update} from then on.
+     */
+    void put(Predicate<Person> predicate, Set<Person> matches, long modificationCount) {
+        if (!hasValueEquality(predicate)) {
+            return;
+        }
+        entries.put(predicate, new Entry(predicate, matches, modificationCount));
+    }
+
+    /**
+     * Returns true if the class of {@code predicate} overrides {@link Object#equals(Object)}.
+     */
+    private static boolean hasValueEquality(Predicate<Person> predicate) {
+        try {
+            return predicate.getClass().getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+            // every class has a public equals method
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Updates the entries that were up to date at {@code countBefore} for a change that removed {@code removed} and
+     * added {@code added}, either of which may be null, so that they are up to date at {@code countAfter}.
+     * Entries that were not up to date at {@code countBefore} are evicted.
+     */
+    void update(long countBefore, long countAfter, Person removed, Person added) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.modificationCount != countBefore) {
+                iterator.remove();
+                continue;
+            }
+            if (removed != null) {
+                entry.matches.remove(removed);
+            }
+            if (added != null && entry.predicate.test(added)) {
+                entry.matches.add(added);
+            }
+            entry.modificationCount = countAfter;
+        }
+    }
+
+    /**
+     * Evicts every entry.
+     */
+    void clear() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * The persons matching a predicate, and the modification count they are up to date for.
+     */
+    private static class Entry {
+        private final Predicate<Person> predicate;
+        private final Set<Person> matches;
+        private long modificationCount;
+
+        Entry(Predicate<Person> predicate, Set<Person> matches, long modificationCount) {
+            this.predicate = predicate;
+            this.matches = matches;
+            this.modificationCount = modificationCount;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.realodex.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -52,6 +54,11 @@ public interface Model {
     /** Returns the Realodex */
     ReadOnlyRealodex getRealodex();
 
+    /**
+     * Returns a counter that increases whenever the Realodex data is modified.
+     */
+    long getRealodexModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in realodex.
      */
@@ -60,12 +67,14 @@ public interface Model {
     /**
      * Deletes the given person.
      * The person must exist in the realodex.
+     * The filter of the filtered person list is kept.
      */
     void deletePerson(Person target);
 
     /**
      * Adds the given person.
      * {@code person} must not already exist in realodex.
+     * The filter of the filtered person list is kept.
      */
     void addPerson(Person person);
 
@@ -73,10 +82,17 @@ public interface Model {
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * The filter of the filtered person list is kept.
      */
     void setPerson(Person target, Person editedPerson);
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /**
+     * Returns up to {@code count} persons in the realodex whose names are closest to {@code name} by edit distance,
+     * ignoring case, closest first.
+     */
+    List<Person> getPersonsWithClosestNames(String name, int count);
+
+    /** Returns an unmodifiable view of the filtered person list, in the order it is sorted in */
     ObservableList<Person> getFilteredPersonList();
 
     /**
@@ -85,4 +101,18 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filtered person list to show only {@code persons}, in the order given, until the filter is next
+     * updated. The comparator given to {@link #updateSortedPersonList} applies again from then on.
+     * @throws NullPointerException if {@code persons} is null.
+     */
+    void updateFilteredPersonList(List<Person> persons);
+
+    /**
+     * Sorts the filtered person list by the given {@code comparator}.
+     * Only the view is sorted; the order the persons are stored in is unchanged.
+     * @throws NullPointerException if {@code comparator} is null.
+     */
+    void updateSortedPersonList(Comparator<Person> comparator);
+
 }
@@ -4,23 +4,53 @@ import static java.util.Objects.requireNonNull;
 import static seedu.realodex.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.realodex.commons.core.GuiSettings;
 import seedu.realodex.commons.core.LogsCenter;
 import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.PersonIndex;
+import seedu.realodex.model.person.predicates.PersonIndexLookup;
 
 /**
  * Represents the in-memory model of the realodex data.
+ * <p>
+ * The model keeps the only {@link PersonIndex} over the persons in the realodex, and updates it after each change to
+ * the realodex, so that copies of the realodex made for loading and saving do not build indexes of their own.
+ * <p>
+ * The filtered person list keeps its filter when persons are added, edited or deleted. The filtered list is
+ * updated with only the persons that changed, so each change tests the filter on at most one person instead of
+ * every person in the realodex. Persons added or edited since the filter was last updated are shown even if they
+ * do not match it, so that the result of a change stays in view.
+ * <p>
+ * The persons matching the most recently used filters are cached in a {@link FilterResultCache}, which is updated
+ * on each change, so that filtering by a recently used filter again does not test the filter on every person.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final int FILTER_CACHE_CAPACITY = 8;
+
     private final Realodex realodex;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
+    private final PersonIndex personIndex = new PersonIndex();
+    // persons added or edited since the filter was last updated, compared by identity
+    private final Set<Person> pinnedPersons = PersonIndex.newPostingSet();
+    private final FilterResultCache filterResults = new FilterResultCache(FILTER_CACHE_CAPACITY);
+    private Predicate<Person> activePredicate = PREDICATE_SHOW_ALL_PERSONS;
+    // the comparator last given to updateSortedPersonList, or null to keep the order the persons are stored in
+    private Comparator<Person> sortComparator;
 
     /**
      * Initializes a ModelManager with the given realodex and userPrefs.
@@ -32,7 +62,10 @@ public class ModelManager implements Model {
 
         this.realodex = new Realodex(realodex);
         this.userPrefs = new UserPrefs(userPrefs);
+        personIndex.setAll(this.realodex.getPersonList());
         filteredPersons = new FilteredList<>(this.realodex.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     public ModelManager() {
@@ -78,7 +111,10 @@ public class ModelManager implements Model {
 
     @Override
     public void setRealodex(ReadOnlyRealodex realodex) {
+        filterResults.clear();
         this.realodex.resetData(realodex);
+        personIndex.setAll(this.realodex.getPersonList());
+        updateFilteredPersonList(activePredicate);
     }
 
     @Override
@@ -86,6 +122,11 @@ public class ModelManager implements Model {
         return realodex;
     }
 
+    @Override
+    public long getRealodexModificationCount() {
+        return realodex.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -94,37 +135,134 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
+        long countBefore = realodex.getModificationCount();
         realodex.removePerson(target);
+        personIndex.remove(target);
+        pinnedPersons.remove(target);
+        filterResults.update(countBefore, realodex.getModificationCount(), target, null);
     }
 
+    /**
+     * {@inheritDoc}
+     * The person is shown in the filtered person list until the filter is next updated.
+     */
     @Override
     public void addPerson(Person person) {
+        // pinned first, so that the filtered list shows the person as soon as it is added
+        pinnedPersons.add(person);
+        long countBefore = realodex.getModificationCount();
         realodex.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        personIndex.add(person);
+        filterResults.update(countBefore, realodex.getModificationCount(), null, person);
     }
 
+    /**
+     * {@inheritDoc}
+     * The edited person is shown in the filtered person list until the filter is next updated.
+     */
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
+        pinnedPersons.add(editedPerson);
+        long countBefore = realodex.getModificationCount();
         realodex.setPerson(target, editedPerson);
+        personIndex.remove(target);
+        personIndex.add(editedPerson);
+        pinnedPersons.remove(target);
+        filterResults.update(countBefore, realodex.getModificationCount(), target, editedPerson);
+    }
+
+    @Override
+    public List<Person> getPersonsWithClosestNames(String name, int count) {
+        requireNonNull(name);
+        return personIndex.getPersonsWithClosestNames(name, count);
     }
 
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, sorted by the last comparator given to {@link #updateSortedPersonList}
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
+    /**
+     * {@inheritDoc}
+     * The parts of {@code predicate} that are indexed are answered by the secondary indexes over the realodex, as
+     * described in {@link PersonIndexLookup}, and the persons matching it are cached until it is the least recently
+     * used of the filters in the cache. The persons added or edited before this call are no longer shown unless they
+     * match {@code predicate}.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        pinnedPersons.clear();
+        activePredicate = predicate;
+        sortedPersons.setComparator(sortComparator);
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            filteredPersons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
+            return;
+        }
+
+        long modificationCount = realodex.getModificationCount();
+        Set<Person> matches = filterResults.get(predicate, modificationCount).orElseGet(() -> {
+            Set<Person> found = findMatches(predicate);
+            filterResults.put(predicate, found, modificationCount);
+            return found;
+        });
+        filteredPersons.setPredicate(person -> pinnedPersons.contains(person) || matches.contains(person));
+    }
+
+    /**
+     * Returns the persons in the realodex that match {@code predicate}, compared by identity.
+     * If every part of {@code predicate} is indexed, the matches are looked up without testing any person.
+     */
+    private Set<Person> findMatches(Predicate<Person> predicate) {
+        Optional<Set<Person>> indexedMatches = PersonIndexLookup.lookUp(predicate, personIndex);
+        if (indexedMatches.isPresent()) {
+            // copied, as the cache patches the matches on each change and the index owns the looked up set
+            Set<Person> matches = PersonIndex.newPostingSet(indexedMatches.get().size());
+            matches.addAll(indexedMatches.get());
+            return matches;
+        }
+
+        Predicate<Person> resolved = PersonIndexLookup.resolve(predicate, personIndex);
+        Set<Person> matches = PersonIndex.newPostingSet();
+        for (Person person : realodex.getPersonList()) {
+            if (resolved.test(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The persons added or edited before this call are no longer shown, and those added or edited after it are shown
+     * after {@code persons}. The persons shown are not cached, as the filter is not used again.
+     */
+    @Override
+    public void updateFilteredPersonList(List<Person> persons) {
+        requireNonNull(persons);
+        pinnedPersons.clear();
+        Map<Person, Integer> ranks = new IdentityHashMap<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            ranks.putIfAbsent(persons.get(i), i);
+        }
+        activePredicate = ranks::containsKey;
+        filteredPersons.setPredicate(person -> pinnedPersons.contains(person) || ranks.containsKey(person));
+        sortedPersons.setComparator(Comparator.comparingInt(person -> ranks.getOrDefault(person, persons.size())));
+    }
+
+    @Override
+    public void updateSortedPersonList(Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        sortComparator = comparator;
+        sortedPersons.setComparator(comparator);
     }
 
 
@@ -143,7 +281,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return realodex.equals(otherModelManager.realodex)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && sortedPersons.equals(otherModelManager.sortedPersons);
     }
 
 }
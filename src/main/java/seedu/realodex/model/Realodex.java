@@ -16,6 +16,7 @@ import seedu.realodex.model.person.UniquePersonList;
 public class Realodex implements ReadOnlyRealodex {
 
     private final UniquePersonList persons;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,6 +47,7 @@ public class Realodex implements ReadOnlyRealodex {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        modificationCount++;
     }
 
     /**
@@ -73,6 +75,7 @@ public class Realodex implements ReadOnlyRealodex {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        modificationCount++;
     }
 
     /**
@@ -84,6 +87,7 @@ public class Realodex implements ReadOnlyRealodex {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        modificationCount++;
     }
 
     /**
@@ -92,10 +96,19 @@ public class Realodex implements ReadOnlyRealodex {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        modificationCount++;
     }
 
     //// util methods
 
+    /**
+     * Returns the number of successful modifications made to this {@code Realodex} since it was created.
+     * Two different counts mean the data may have changed in between; equal counts mean it has not.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -108,7 +121,6 @@ public class Realodex implements ReadOnlyRealodex {
         return persons.asUnmodifiableObservableList();
     }
 
-
     public ObservableList<Person> getCopyOfInternalListOfUniquePersonsList() {
         return this.persons.getInternalListCopy();
     }
@@ -0,0 +1,13 @@
+package seedu.realodex.model;
+
+/**
+ * The formats in which the Realodex data file can be stored.
+ */
+public enum RealodexDataFormat {
+    /** A single json document, rewritten in full on every save. */
+    JSON,
+    /** A json snapshot plus an append-only journal of the changes made since the snapshot. */
+    JOURNALED_JSON,
+    /** A compact binary snapshot, rewritten in full on every save. */
+    BINARY
+}
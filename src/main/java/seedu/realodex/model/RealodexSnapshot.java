@@ -0,0 +1,38 @@
+package seedu.realodex.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.realodex.model.person.Person;
+
+/**
+ * An immutable copy of the persons in a realodex at the time it was taken.
+ * Taking a snapshot only copies the references to the persons, which are immutable, so unlike copying a
+ * {@code Realodex} it neither checks the persons for duplicates nor builds any index over them.
+ */
+public class RealodexSnapshot implements ReadOnlyRealodex {
+
+    private final ObservableList<Person> persons;
+
+    /**
+     * Creates a snapshot of the persons currently in {@code realodex}.
+     */
+    public RealodexSnapshot(ReadOnlyRealodex realodex) {
+        requireNonNull(realodex);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(List.copyOf(realodex.getPersonList())));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Person> getCopyOfInternalListOfUniquePersonsList() {
+        return FXCollections.observableArrayList(persons);
+    }
+}
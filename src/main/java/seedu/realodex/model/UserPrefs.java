@@ -15,6 +15,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path realodexFilePath = Paths.get("data" , "realodex.json");
+    private RealodexDataFormat realodexDataFormat = RealodexDataFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +37,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setRealodexFilePath(newUserPrefs.getRealodexFilePath());
+        setRealodexDataFormat(newUserPrefs.getRealodexDataFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +58,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.realodexFilePath = realodexFilePath;
     }
 
+    public RealodexDataFormat getRealodexDataFormat() {
+        return realodexDataFormat;
+    }
+
+    public void setRealodexDataFormat(RealodexDataFormat realodexDataFormat) {
+        requireNonNull(realodexDataFormat);
+        this.realodexDataFormat = realodexDataFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +80,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && realodexFilePath.equals(otherUserPrefs.realodexFilePath);
+                && realodexFilePath.equals(otherUserPrefs.realodexFilePath)
+                && realodexDataFormat == otherUserPrefs.realodexDataFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, realodexFilePath);
+        return Objects.hash(guiSettings, realodexFilePath, realodexDataFormat);
     }
 
     @Override
@@ -82,6 +94,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + realodexFilePath);
+        sb.append("\nLocal data file format : " + realodexDataFormat);
         return sb.toString();
     }
 
@@ -3,6 +3,8 @@ package seedu.realodex.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.realodex.commons.util.AppUtil.checkArgument;
 
+import seedu.realodex.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's address in realodex.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -39,7 +41,7 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(test, VALIDATION_REGEX);
     }
 
     @Override
@@ -1,18 +1,25 @@
 package seedu.realodex.model.person;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Date;
+import static java.util.Objects.requireNonNull;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.FormatStyle;
+import java.time.format.ResolverStyle;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
 import java.util.Locale;
 import java.util.Optional;
-import java.util.logging.Logger;
-
-import seedu.realodex.commons.core.LogsCenter;
 
 /**
  * Represents a Birthday in the Realodex
+ * Guarantees: immutable; safe to use from several threads at once.
  */
 //@@author 4llysa
 public class Birthday {
@@ -25,26 +32,49 @@ public class Birthday {
     // for filter purposes
     public static final String FILTER_MONTH_MESSAGE_CONSTRAINTS = "Birth Month should be in MMM format.\n"
             + "Example: b/Sep";
-    public static final SimpleDateFormat INPUT_DATE_FORMATTER = new SimpleDateFormat(INPUT_DATE_PATTERN);
-    public static final DateFormat DATE_FORMAT = DateFormat.getDateInstance(DateFormat.MEDIUM);
-    private static final Logger logger = LogsCenter.getLogger(Birthday.class);
-    private final Optional<Date> optionalBirthday;
+
+    /** Formats a birthday in the {@value #INPUT_DATE_PATTERN} format, e.g. 17Sep2001. */
+    public static final DateTimeFormatter INPUT_DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("dd" + INPUT_MONTH_PATTERN + "uuuu", Locale.ENGLISH);
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM);
+
+    // Accepts a day of one or two digits, and a short or full month name in any case, e.g. 3jun2003 or 03June2003
+    private static final DateTimeFormatter PARSE_FORMATTER = new DateTimeFormatterBuilder()
+            .parseCaseInsensitive()
+            .appendValue(ChronoField.DAY_OF_MONTH, 1, 2, SignStyle.NOT_NEGATIVE)
+            .appendPattern("[MMMM][MMM]")
+            .appendValue(ChronoField.YEAR, 1, 9, SignStyle.NOT_NEGATIVE)
+            .toFormatter(Locale.ENGLISH)
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter MONTH_PARSE_FORMATTER = new DateTimeFormatterBuilder()
+            .parseCaseInsensitive()
+            .appendPattern("[MMMM][MMM]")
+            .toFormatter(Locale.ENGLISH);
+
+    private static final int MIN_YEAR = 1000;
+    // number of days in the year before the first day of each month, in a year that is not a leap year
+    private static final int[] DAYS_BEFORE_MONTH = {0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334};
+
+    private final Optional<LocalDate> optionalBirthday;
+    // day of the year of the birthday in a year that is not a leap year, where 29 Feb falls on 1 Mar
+    private final int dayOfCommonYear;
+    private final boolean isAfterFebruary;
+
     /**
      * Constructs a {@code Birthday}.
+     * A {@code birthday} that is not a date in the {@value #INPUT_DATE_PATTERN} format leaves the birthday unspecified.
      *
      * @param birthday A valid birthday.
      */
     public Birthday(String birthday) {
-        SimpleDateFormat formatter = new SimpleDateFormat(INPUT_DATE_PATTERN, Locale.ENGLISH);
-        formatter.setLenient(false);
-        Optional<Date> birthdayDate;
-        try {
-            birthdayDate = Optional.of(formatter.parse(birthday));
-            assert birthdayDate.isPresent();
-        } catch (ParseException e) {
-            birthdayDate = Optional.empty();
-        }
-        this.optionalBirthday = birthdayDate;
+        requireNonNull(birthday);
+        this.optionalBirthday = parse(birthday);
+        this.dayOfCommonYear = optionalBirthday
+                .map(date -> DAYS_BEFORE_MONTH[date.getMonthValue() - 1] + date.getDayOfMonth())
+                .orElse(0);
+        this.isAfterFebruary = optionalBirthday
+                .map(date -> date.getMonthValue() > Month.FEBRUARY.getValue())
+                .orElse(false);
     }
 
     /**
@@ -53,12 +83,13 @@ public class Birthday {
     public Birthday() {
         this("");
     }
+
     /**
      * Returns the optional birthday date.
      *
      * @return The optional birthday date.
      */
-    public Optional<Date> getOptionalBirthday() {
+    public Optional<LocalDate> getOptionalBirthday() {
         return optionalBirthday;
     }
 
@@ -66,19 +97,33 @@ public class Birthday {
      * Returns if a given string is a valid birthday.
      */
     public static boolean isValidBirthday(String birthday) {
-        if (birthday.isBlank() || birthday.isEmpty()) {
+        if (birthday.isBlank()) {
             return true;
         }
+        return parse(birthday.trim())
+                .map(date -> !date.isAfter(LocalDate.now()) && date.getYear() >= MIN_YEAR)
+                .orElse(false);
+    }
+
+    /**
+     * Returns the month named at the start of {@code monthName}, a short or full English month name in any case,
+     * or an empty {@code Optional} if it does not start with a month name. Any text after the month name is ignored,
+     * e.g. "AprMogger" names April.
+     */
+    public static Optional<Month> parseMonth(String monthName) {
+        requireNonNull(monthName);
         try {
-            SimpleDateFormat formatter = new SimpleDateFormat(INPUT_DATE_PATTERN, Locale.ENGLISH);
-            formatter.setLenient(false);
-            Date parsedDate = formatter.parse(birthday.trim());
-            Date currentDate = new Date();
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime(parsedDate);
-            return !parsedDate.after(currentDate) && calendar.get(Calendar.YEAR) >= 1000;
-        } catch (ParseException e) {
-            return false;
+            return Optional.of(Month.from(MONTH_PARSE_FORMATTER.parse(monthName, new ParsePosition(0))));
+        } catch (DateTimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<LocalDate> parse(String birthday) {
+        try {
+            return Optional.of(LocalDate.parse(birthday, PARSE_FORMATTER));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
         }
     }
 
@@ -123,31 +168,29 @@ public class Birthday {
      * If the birthday has already passed this year, it returns the number of days
      * from the current date of next year to the birthday.
      */
-    public Long getDaysUntilBirthday() {
-        Date currentDate = new Date(); // Current system date
-        Date birthdayDate = optionalBirthday.orElse(currentDate); // If birthday is not present, use current date
-
-        // Remove time component from the dates for accurate comparison
-        Calendar currentCal = returnInstanceOfCalendar(currentDate);
-        Calendar birthdayCal = returnInstanceOfCalendar(birthdayDate);
-
-        int currentYear = currentCal.get(Calendar.YEAR);
-        int currentMonth = currentCal.get(Calendar.MONTH);
-        int currentDay = currentCal.get(Calendar.DAY_OF_MONTH);
-        int birthdayMonth = birthdayCal.get(Calendar.MONTH);
-        int birthdayDay = birthdayCal.get(Calendar.DAY_OF_MONTH);
-
-        // Check if the birthday has already passed this year
-        if (currentMonth > birthdayMonth || (currentMonth == birthdayMonth && currentDay > birthdayDay)) {
-            // If yes, set the birthday year to the next year
-            birthdayCal.set(Calendar.YEAR, currentYear + 1);
-        } else {
-            birthdayCal.set(Calendar.YEAR, currentYear);
+    public long getDaysUntilBirthday() {
+        return getDaysUntilBirthday(LocalDate.now());
+    }
+
+    /**
+     * Returns the number of days from {@code today} to the next birthday on or after it.
+     * A birthday on 29 Feb falls on 1 Mar in years that are not leap years.
+     * If the birthday is unspecified, returns 0.
+     */
+    public long getDaysUntilBirthday(LocalDate today) {
+        if (optionalBirthday.isEmpty()) {
+            return 0;
+        }
+        int todayOfYear = today.getDayOfYear();
+        int birthdayOfYear = dayOfYear(today.getYear());
+        if (birthdayOfYear >= todayOfYear) {
+            return birthdayOfYear - todayOfYear;
         }
+        return today.lengthOfYear() - todayOfYear + dayOfYear(today.getYear() + 1);
+    }
 
-        // Calculate the difference in milliseconds between the two dates and convert it to days
-        long diff = birthdayCal.getTimeInMillis() - currentCal.getTimeInMillis();
-        return diff / (1000 * 60 * 60 * 24); // Convert milliseconds to days
+    private int dayOfYear(int year) {
+        return isAfterFebruary && Year.isLeap(year) ? dayOfCommonYear + 1 : dayOfCommonYear;
     }
 
     public String getDaysUntilBirthdayWithRepresentation() {
@@ -156,15 +199,5 @@ public class Birthday {
         }
         return "Birthday is unspecified!";
     }
-
-    private Calendar returnInstanceOfCalendar(Date date) {
-        Calendar toReturn = Calendar.getInstance();
-        toReturn.setTime(date);
-        toReturn.set(Calendar.HOUR_OF_DAY, 0);
-        toReturn.set(Calendar.MINUTE, 0);
-        toReturn.set(Calendar.SECOND, 0);
-        toReturn.set(Calendar.MILLISECOND, 0);
-        return toReturn;
-    }
 }
 //@@author
@@ -3,6 +3,8 @@ package seedu.realodex.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.realodex.commons.util.AppUtil.checkArgument;
 
+import seedu.realodex.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's email in realodex.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -38,6 +40,8 @@ public class Email {
 
     public final String value;
 
+    private final String valueInLowerCase;
+
     /**
      * Constructs an {@code Email}.
      *
@@ -47,17 +51,27 @@ public class Email {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
+        valueInLowerCase = value.toLowerCase();
     }
 
     public Email() {
         value = DEFAULT_EMAIL;
+        valueInLowerCase = value.toLowerCase();
+    }
+
+    /**
+     * Returns the email in lower case, which is computed once when the email is created.
+     * Emails that only differ in case reach the same mailbox in practice.
+     */
+    public String getValueInLowerCase() {
+        return valueInLowerCase;
     }
 
     /**
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(test, VALIDATION_REGEX);
     }
 
     @Override
@@ -3,19 +3,29 @@ package seedu.realodex.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.realodex.commons.util.AppUtil.checkArgument;
 
+import seedu.realodex.commons.util.StringUtil;
+import seedu.realodex.commons.util.ValidationUtil;
+
 /**
  * Represents the family size of a person in realodex.
  * Guarantees: family size is present and not null, and adheres to specific constraints.
  */
-public class Family {
+public class Family implements Comparable<Family> {
 
     /** Message for constraints on family size. */
-    public static final String MESSAGE_CONSTRAINTS = "Family size should be at least 1";
+    public static final String MESSAGE_CONSTRAINTS = "Family size should be at least 1 and at most "
+            + Integer.MAX_VALUE;
     public static final String VALIDATION_REGEX = "^0*[1-9]\\d*$";
     public static final String DEFAULT_FAMILY = "1";
 
+    // for filter purposes
+    public static final String FILTER_RANGE_MESSAGE_CONSTRAINTS = "Family size range should be in MIN-MAX format, "
+            + "where MIN and MAX are family sizes and MIN is at most MAX.\n"
+            + "Either MIN or MAX may be left out to leave that end of the range open.\n"
+            + "Example: f/2-4, f/-3";
+
     /** The family size. */
-    private String familySize;
+    private final int familySize;
 
 
     /**
@@ -26,25 +36,29 @@ public class Family {
     public Family(String familySize) {
         requireNonNull(familySize);
         checkArgument(isValidFamily(familySize), MESSAGE_CONSTRAINTS);
-        this.familySize = familySize;
+        this.familySize = Integer.parseInt(familySize);
     }
 
     public Family() {
-        this.familySize = DEFAULT_FAMILY;
+        this(DEFAULT_FAMILY);
     }
 
     /**
      * Checks if the given family size is a valid value.
      *
      * @param familySize The family size to check.
-     * @return True if the family size is greater than or equal to zero, false otherwise.
+     * @return True if the family size is greater than zero and fits in an {@code int}, false otherwise.
      */
     public static boolean isValidFamily(String familySize) {
-        // Ensure the family size matches the validation regex
-        if (!familySize.matches(VALIDATION_REGEX)) {
-            return false;
-        }
-        return !familySize.equals("0");
+        return ValidationUtil.isPositiveDigits(familySize)
+                && StringUtil.compareUnsignedIntegers(familySize, Integer.toString(Integer.MAX_VALUE)) <= 0;
+    }
+
+    /**
+     * Returns the family size.
+     */
+    public int getValue() {
+        return familySize;
     }
 
     /**
@@ -54,7 +68,7 @@ public class Family {
      */
     @Override
     public String toString() {
-        return familySize.toString();
+        return Integer.toString(familySize);
     }
 
     /**
@@ -66,6 +80,14 @@ public class Family {
         return "Family size is " + familySize;
     }
 
+    /**
+     * Compares this family with {@code other} by their sizes.
+     */
+    @Override
+    public int compareTo(Family other) {
+        return Integer.compare(familySize, other.familySize);
+    }
+
     /**
      * Checks if this {@code Family} instance is equal to another object.
      *
@@ -81,6 +103,11 @@ public class Family {
             return false; // instanceof handles nulls
         }
         Family otherFamily = (Family) other;
-        return familySize.equals(otherFamily.familySize); // state check
+        return familySize == otherFamily.familySize; // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(familySize);
     }
 }
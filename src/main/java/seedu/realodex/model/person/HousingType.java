@@ -3,11 +3,13 @@ package seedu.realodex.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.realodex.commons.util.AppUtil.checkArgument;
 
+import seedu.realodex.commons.util.ValidationUtil;
+
 /**
  * Represents a Housing Type in the realodex.
  * Guarantees: immutable; name is valid as declared in {@link #isValidHousingType(String)}
  */
-public class HousingType {
+public class HousingType implements Comparable<HousingType> {
 
     public static final String MESSAGE_CONSTRAINTS = "Housing type should be either 'HDB', 'CONDOMINIUM', "
             + "'LANDED PROPERTY' or 'GOOD CLASS BUNGALOW'";
@@ -46,7 +48,11 @@ public class HousingType {
         } catch (IllegalArgumentException e) {
             return false;
         }
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(test, VALIDATION_REGEX);
+    }
+
+    public House getHouse() {
+        return housingType;
     }
 
     /**
@@ -58,6 +64,15 @@ public class HousingType {
         return "Preferred housing type is " + housingType.toString().replace("_", " ");
     }
 
+    /**
+     * Compares this housing type with {@code other} in the order the types are declared in {@link House},
+     * from HDB to good class bungalow.
+     */
+    @Override
+    public int compareTo(HousingType other) {
+        return housingType.compareTo(other.housingType);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,19 +3,29 @@ package seedu.realodex.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.realodex.commons.util.AppUtil.checkArgument;
 
+import seedu.realodex.commons.util.StringUtil;
+import seedu.realodex.commons.util.ValidationUtil;
+
 /**
  * Represents the income of a person in realodex.
  * Guarantees: income is present, not null, and adheres to specific constraints.
  */
-public class Income {
+public class Income implements Comparable<Income> {
 
     /** Message for constraints on income. */
-    public static final String MESSAGE_CONSTRAINTS = "Income should be an integer and should be at least 0";
+    public static final String MESSAGE_CONSTRAINTS = "Income should be an integer and should be at least 0 "
+            + "and at most " + Long.MAX_VALUE;
     public static final String VALIDATION_REGEX = "^[0-9]+$";
     public static final String DEFAULT_INCOME = "0";
 
-    /** The income value. */
-    private final String incomeValue;
+    // for filter purposes
+    public static final String FILTER_RANGE_MESSAGE_CONSTRAINTS = "Income range should be in MIN-MAX format, "
+            + "where MIN and MAX are incomes and MIN is at most MAX.\n"
+            + "Either MIN or MAX may be left out to leave that end of the range open.\n"
+            + "Example: i/5000-8000, i/5000-";
+
+    /** The income value, in whole dollars. */
+    private final long incomeValue;
 
     /**
      * Constructs an {@code Income} instance with the given income value.
@@ -25,21 +35,30 @@ public class Income {
     public Income(String incomeValue) {
         requireNonNull(incomeValue);
         checkArgument(isValidIncome(incomeValue), MESSAGE_CONSTRAINTS);
-        this.incomeValue = incomeValue;
+        this.incomeValue = Long.parseLong(incomeValue);
     }
 
     public Income() {
-        this.incomeValue = DEFAULT_INCOME;
+        this(DEFAULT_INCOME);
     }
 
     /**
      * Checks if the given income value is a valid value.
      *
      * @param incomeValue The income value to check.
-     * @return True if the income value is greater than or equal to zero, false otherwise.
+     * @return True if the income value is greater than or equal to zero and fits in a {@code long},
+     *         false otherwise.
      */
     public static boolean isValidIncome(String incomeValue) {
-        return incomeValue.matches(VALIDATION_REGEX);
+        return ValidationUtil.isDigits(incomeValue, 1)
+                && StringUtil.compareUnsignedIntegers(incomeValue, Long.toString(Long.MAX_VALUE)) <= 0;
+    }
+
+    /**
+     * Returns the income value, in whole dollars.
+     */
+    public long getValue() {
+        return incomeValue;
     }
 
     /**
@@ -49,7 +68,7 @@ public class Income {
      */
     @Override
     public String toString() {
-        return incomeValue.toString();
+        return Long.toString(incomeValue);
     }
 
     /**
@@ -61,6 +80,14 @@ public class Income {
         return "Income is $" + incomeValue;
     }
 
+    /**
+     * Compares this income with {@code other} by their amounts.
+     */
+    @Override
+    public int compareTo(Income other) {
+        return Long.compare(incomeValue, other.incomeValue);
+    }
+
     /**
      * Checks if this {@code Income} instance is equal to another object.
      *
@@ -76,6 +103,11 @@ public class Income {
             return false; // instanceof handles nulls
         }
         Income otherIncome = (Income) other;
-        return incomeValue.equals(otherIncome.incomeValue); // state check
+        return incomeValue == otherIncome.incomeValue; // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(incomeValue);
     }
 }
@@ -3,6 +3,13 @@ package seedu.realodex.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.realodex.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.realodex.commons.util.StringUtil;
+import seedu.realodex.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's name in realodex.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -22,6 +29,8 @@ public class Name {
     public final String fullName;
 
     private final String defaultValidName = DEFAULT_NAME;
+    private final String fullNameInLowerCase;
+    private Set<String> phoneticCodes;
 
     /**
      * Constructs a {@code Name}.
@@ -32,17 +41,50 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        fullNameInLowerCase = fullName.toLowerCase();
     }
 
     public Name() {
         fullName = defaultValidName;
+        fullNameInLowerCase = fullName.toLowerCase();
+    }
+
+    /**
+     * Returns the full name in lower case, which is computed once when the name is created.
+     */
+    public String getFullNameInLowerCase() {
+        return fullNameInLowerCase;
+    }
+
+    /**
+     * Returns the Soundex codes of the words in the name, which are computed once when they are first needed, so that
+     * names that are parsed but never indexed do not pay for them.
+     */
+    public Set<String> getPhoneticCodes() {
+        // the set is immutable, so a thread that sees it unset at worst computes an equal set again
+        if (phoneticCodes == null) {
+            phoneticCodes = toPhoneticCodes(fullName);
+        }
+        return phoneticCodes;
+    }
+
+    /**
+     * Returns the distinct Soundex codes of the words in {@code name}, as described in
+     * {@link StringUtil#toSoundex(String)}. Words without letters have no code.
+     */
+    public static Set<String> toPhoneticCodes(String name) {
+        requireNonNull(name);
+        return Arrays.stream(name.trim().split("\\s+"))
+                .map(StringUtil::toSoundex)
+                .filter(code -> !code.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(test, VALIDATION_REGEX);
     }
 
 
@@ -0,0 +1,241 @@
+package seedu.realodex.model.person;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * A BK-tree of persons keyed by their name in lower case, for finding the persons whose names are closest to a
+ * query by Levenshtein distance.
+ * <p>
+ * Each node holds the persons with one name, and each child of a node is at a different distance from it. By the
+ * triangle inequality, a node at distance {@code d} from the query can only have names within distance {@code r} of
+ * the query under its children at distances from {@code d - r} to {@code d + r}, so a search only visits a small part
+ * of the tree. Subtrees are searched in order of the least distance their names can be at, so that the radius
+ * {@code r} of the closest matches found so far shrinks as early as possible. Removing the last person with a name
+ * leaves its node in place to keep the tree connected, and the tree is rebuilt once more than half of its nodes are
+ * empty.
+ */
+class NameBkTree {
+
+    private static final Comparator<Match> CLOSEST_FIRST = Comparator.<Match>comparingInt(match -> match.distance)
+            .thenComparing(match -> match.person.getName().fullName);
+
+    private Node root;
+    private int nodeCount;
+    private int emptyNodeCount;
+
+    /**
+     * Adds {@code person} to the tree.
+     */
+    void add(Person person) {
+        String key = person.getName().getFullNameInLowerCase();
+        if (root == null) {
+            root = new Node(key, person);
+            nodeCount++;
+            return;
+        }
+
+        Node node = root;
+        int distance = distance(key, node.key);
+        while (distance != 0) {
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(key, person));
+                node.maxChildDistance = Math.max(node.maxChildDistance, distance);
+                nodeCount++;
+                return;
+            }
+            node = child;
+            distance = distance(key, node.key);
+        }
+
+        if (node.persons.isEmpty()) {
+            emptyNodeCount--;
+        }
+        node.persons.add(person);
+    }
+
+    /**
+     * Removes {@code person}, compared by identity, from the tree.
+     */
+    void remove(Person person) {
+        String key = person.getName().getFullNameInLowerCase();
+        Node node = root;
+        while (node != null) {
+            int distance = distance(key, node.key);
+            if (distance == 0) {
+                break;
+            }
+            node = node.children.get(distance);
+        }
+        if (node == null || !node.persons.removeIf(personWithName -> personWithName == person)) {
+            return;
+        }
+
+        if (node.persons.isEmpty()) {
+            emptyNodeCount++;
+        }
+        if (emptyNodeCount * 2 > nodeCount) {
+            rebuild();
+        }
+    }
+
+    void clear() {
+        root = null;
+        nodeCount = 0;
+        emptyNodeCount = 0;
+    }
+
+    /**
+     * Returns up to {@code count} persons whose names in lower case are closest to {@code queryInLowerCase}, closest
+     * first. Persons at the same distance are ordered by name.
+     */
+    List<Person> findClosest(String queryInLowerCase, int count) {
+        if (count <= 0 || root == null) {
+            return List.of();
+        }
+
+        // the count closest matches found so far, farthest first
+        PriorityQueue<Match> closest = new PriorityQueue<>(CLOSEST_FIRST.reversed());
+        // subtrees still to search, the one that may hold the closest name first
+        PriorityQueue<Subtree> subtreesToVisit = new PriorityQueue<>(Comparator.comparingInt(
+                subtree -> subtree.minDistance));
+        subtreesToVisit.add(new Subtree(root, 0));
+        while (!subtreesToVisit.isEmpty()) {
+            Subtree subtree = subtreesToVisit.poll();
+            if (closest.size() == count && subtree.minDistance > closest.peek().distance) {
+                break;
+            }
+
+            Node node = subtree.root;
+            int radius = closest.size() < count ? Integer.MAX_VALUE : closest.peek().distance;
+            // a node farther than this is not a match, and neither is any name under it
+            int limit = radius == Integer.MAX_VALUE ? radius : radius + node.maxChildDistance;
+            int distance = distance(queryInLowerCase, node.key, limit);
+            if (distance > limit) {
+                continue;
+            }
+            for (Person person : node.persons) {
+                if (closest.size() == count && distance > closest.peek().distance) {
+                    break;
+                }
+                closest.add(new Match(person, distance));
+                if (closest.size() > count) {
+                    closest.poll();
+                }
+            }
+
+            radius = closest.size() < count ? Integer.MAX_VALUE : closest.peek().distance;
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                int minDistance = Math.abs(child.getKey() - distance);
+                if (minDistance <= radius) {
+                    subtreesToVisit.add(new Subtree(child.getValue(), minDistance));
+                }
+            }
+        }
+
+        List<Match> matches = new ArrayList<>(closest);
+        matches.sort(CLOSEST_FIRST);
+        List<Person> persons = new ArrayList<>(matches.size());
+        matches.forEach(match -> persons.add(match.person));
+        return persons;
+    }
+
+    private void rebuild() {
+        List<Person> persons = new ArrayList<>();
+        collectPersons(root, persons);
+        clear();
+        persons.forEach(this::add);
+    }
+
+    private static void collectPersons(Node node, List<Person> persons) {
+        persons.addAll(node.persons);
+        node.children.values().forEach(child -> collectPersons(child, persons));
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, the least number of single character
+     * insertions, deletions and substitutions that turn one into the other.
+     */
+    static int distance(String first, String second) {
+        return distance(first, second, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second} if it is at most {@code limit}, or
+     * else any number greater than {@code limit}. Stops as soon as the distance is known to exceed {@code limit}.
+     */
+    static int distance(String first, String second, int limit) {
+        if (Math.abs(first.length() - second.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = i;
+            char c = first.charAt(i - 1);
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (c == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            // the distance is at least the least value in any row
+            if (rowMinimum > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * A node of the tree, with the persons that have its name and its children by distance from its name.
+     */
+    private static class Node {
+        private final String key;
+        private final List<Person> persons = new ArrayList<>(1);
+        private final Map<Integer, Node> children = new HashMap<>(4);
+        private int maxChildDistance;
+
+        Node(String key, Person person) {
+            this.key = key;
+            persons.add(person);
+        }
+    }
+
+    /**
+     * A subtree still to be searched, and the least distance from the query that any name in it can be at.
+     */
+    private static class Subtree {
+        private final Node root;
+        private final int minDistance;
+
+        Subtree(Node root, int minDistance) {
+            this.root = root;
+            this.minDistance = minDistance;
+        }
+    }
+
+    /**
+     * A person found by a search and the distance of their name from the query.
+     */
+    private static class Match {
+        private final Person person;
+        private final int distance;
+
+        Match(Person person, int distance) {
+            this.person = person;
+            this.distance = distance;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package seedu.realodex.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Secondary indexes over a list of persons, on the fields with only a few possible values: the preferred housing
+ * type, the tag roles and the birth month, on the Soundex codes of the words in the names, on the phone numbers and
+ * on the emails in lower case, trigram indexes over the names and remarks, and a BK-tree of the names.
+ * <p>
+ * Each possible value has a posting set of the persons with that value, so that the persons with a value can be looked
+ * up without testing every person in the list. Only the Soundex codes, phone numbers and emails that some person has
+ * are kept, so looking one of them up is a single hash lookup, and the phone numbers and emails, which are almost
+ * unique, only have a posting set when they are shared, as described in {@link UniqueKeyPostings}. The trigram
+ * indexes, described in {@link TrigramIndex}, give the candidates for a name or remark containing a keyphrase, with
+ * the persons whose remark is longer than {@value #MAX_REMARK_TRIGRAMS} trigrams always among the candidates, and the
+ * BK-tree, described in {@link NameBkTree}, finds the names closest to a possibly misspelt name. Persons are compared
+ * by identity, as the list holds each person only once. The owner of the list must call {@link #add(Person)} and
+ * {@link #remove(Person)} on every change to the list, and every change increments the {@link #getVersion() version}
+ * of the index.
+ */
+public class PersonIndex {
+
+    /** The initial size of the posting sets of keys that only a few persons are expected to have. */
+    static final int SMALL_POSTING_SET_SIZE = 2;
+
+    /** The most distinct trigrams of a remark that are indexed, which is about as many as in 250 characters. */
+    static final int MAX_REMARK_TRIGRAMS = 250;
+
+    private final Map<HousingType.House, Set<Person>> personsByHouse = new EnumMap<>(HousingType.House.class);
+    private final Map<Tag.Role, Set<Person>> personsByRole = new EnumMap<>(Tag.Role.class);
+    private final Map<Month, Set<Person>> personsByBirthMonth = new EnumMap<>(Month.class);
+    private final Map<String, Set<Person>> personsByPhoneticCode = new HashMap<>();
+    private final UniqueKeyPostings<String> personsByPhone = new UniqueKeyPostings<>();
+    private final UniqueKeyPostings<String> personsByEmail = new UniqueKeyPostings<>();
+    private final TrigramIndex nameTrigrams = new TrigramIndex();
+    private final TrigramIndex remarkTrigrams = new TrigramIndex(MAX_REMARK_TRIGRAMS);
+    private final NameBkTree nameTree = new NameBkTree();
+    private long version;
+
+    /**
+     * Creates an empty index.
+     */
+    public PersonIndex() {
+        for (HousingType.House house : HousingType.House.values()) {
+            personsByHouse.put(house, newPostingSet());
+        }
+        for (Tag.Role role : Tag.Role.values()) {
+            personsByRole.put(role, newPostingSet());
+        }
+        for (Month month : Month.values()) {
+            personsByBirthMonth.put(month, newPostingSet());
+        }
+    }
+
+    /**
+     * Adds {@code person} to the posting sets of its values.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        personsByHouse.get(person.getHousingType().getHouse()).add(person);
+        for (Tag tag : person.getTags()) {
+            personsByRole.get(tag.tagName).add(person);
+        }
+        person.getBirthday().getOptionalBirthday()
+                .map(LocalDate::getMonth)
+                .ifPresent(month -> personsByBirthMonth.get(month).add(person));
+        for (String code : person.getName().getPhoneticCodes()) {
+            addPosting(personsByPhoneticCode, code, person);
+        }
+        personsByPhone.add(person.getPhone().value, person);
+        personsByEmail.add(person.getEmail().getValueInLowerCase(), person);
+        nameTrigrams.add(person, person.getName().getFullNameInLowerCase());
+        remarkTrigrams.add(person, person.getRemark().getRemarkNameInLowerCase());
+        nameTree.add(person);
+        version++;
+    }
+
+    /**
+     * Removes {@code person} from the posting sets of its values.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        personsByHouse.get(person.getHousingType().getHouse()).remove(person);
+        for (Tag tag : person.getTags()) {
+            personsByRole.get(tag.tagName).remove(person);
+        }
+        person.getBirthday().getOptionalBirthday()
+                .map(LocalDate::getMonth)
+                .ifPresent(month -> personsByBirthMonth.get(month).remove(person));
+        for (String code : person.getName().getPhoneticCodes()) {
+            removePosting(personsByPhoneticCode, code, person);
+        }
+        personsByPhone.remove(person.getPhone().value, person);
+        personsByEmail.remove(person.getEmail().getValueInLowerCase(), person);
+        nameTrigrams.remove(person, person.getName().getFullNameInLowerCase());
+        remarkTrigrams.remove(person, person.getRemark().getRemarkNameInLowerCase());
+        nameTree.remove(person);
+        version++;
+    }
+
+    /**
+     * Replaces the indexed persons with {@code persons}.
+     */
+    public void setAll(List<Person> persons) {
+        requireNonNull(persons);
+        personsByHouse.values().forEach(Set::clear);
+        personsByRole.values().forEach(Set::clear);
+        personsByBirthMonth.values().forEach(Set::clear);
+        personsByPhoneticCode.clear();
+        personsByPhone.clear();
+        personsByEmail.clear();
+        nameTrigrams.clear();
+        remarkTrigrams.clear();
+        nameTree.clear();
+        persons.forEach(this::add);
+        version++;
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons whose preferred housing type is {@code house}.
+     */
+    public Set<Person> getPersonsWithHouse(HousingType.House house) {
+        requireNonNull(house);
+        return Collections.unmodifiableSet(personsByHouse.get(house));
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons tagged with {@code role}.
+     */
+    public Set<Person> getPersonsWithRole(Tag.Role role) {
+        requireNonNull(role);
+        return Collections.unmodifiableSet(personsByRole.get(role));
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons born in {@code month}.
+     */
+    public Set<Person> getPersonsBornIn(Month month) {
+        requireNonNull(month);
+        return Collections.unmodifiableSet(personsByBirthMonth.get(month));
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons with a word in their name whose Soundex code is {@code code}.
+     */
+    public Set<Person> getPersonsWithPhoneticCode(String code) {
+        requireNonNull(code);
+        return Collections.unmodifiableSet(personsByPhoneticCode.getOrDefault(code, Set.of()));
+    }
+
+    /**
+     * Returns an unmodifiable set of the persons with the phone number {@code phone}.
+     */
+    public Set<Person> getPersonsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return personsByPhone.get(phone.value);
+    }
+
+    /**
+     * Returns an unmodifiable set of the persons with the email {@code email}, ignoring case.
+     */
+    public Set<Person> getPersonsWithEmail(Email email) {
+        requireNonNull(email);
+        return personsByEmail.get(email.getValueInLowerCase());
+    }
+
+    /**
+     * Returns the persons whose name in lower case may contain {@code keyphraseInLowerCase}, which include all of
+     * those whose name does, or an empty {@code Optional} if the keyphrase is shorter than a trigram.
+     * The returned set is unmodifiable, and may be a view of the index that changes with it.
+     */
+    public Optional<Set<Person>> getNameCandidates(String keyphraseInLowerCase) {
+        requireNonNull(keyphraseInLowerCase);
+        return nameTrigrams.getCandidates(keyphraseInLowerCase);
+    }
+
+    /**
+     * Returns the persons whose remark in lower case may contain {@code keyphraseInLowerCase}, which include all of
+     * those whose remark does, or an empty {@code Optional} if the keyphrase is shorter than a trigram.
+     * The returned set is unmodifiable, and may be a view of the index that changes with it.
+     */
+    public Optional<Set<Person>> getRemarkCandidates(String keyphraseInLowerCase) {
+        requireNonNull(keyphraseInLowerCase);
+        return remarkTrigrams.getCandidates(keyphraseInLowerCase);
+    }
+
+    /**
+     * Returns up to {@code count} persons whose names are closest to {@code name} by edit distance, ignoring case,
+     * closest first.
+     */
+    public List<Person> getPersonsWithClosestNames(String name, int count) {
+        requireNonNull(name);
+        return nameTree.findClosest(name.toLowerCase(), count);
+    }
+
+    /**
+     * Returns the number of changes made to this index since it was created.
+     * The posting sets looked up at one version are only up to date while the version stays the same.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private static void addPosting(Map<String, Set<Person>> personsByKey, String key, Person person) {
+        personsByKey.computeIfAbsent(key, unused -> newPostingSet(SMALL_POSTING_SET_SIZE)).add(person);
+    }
+
+    /**
+     * Removes {@code person} from the posting set of {@code key}, and the posting set once it is empty.
+     */
+    private static void removePosting(Map<String, Set<Person>> personsByKey, String key, Person person) {
+        Set<Person> persons = personsByKey.get(key);
+        if (persons != null && persons.remove(person) && persons.isEmpty()) {
+            personsByKey.remove(key);
+        }
+    }
+
+    /**
+     * Returns an empty set that compares persons by identity.
+     */
+    public static Set<Person> newPostingSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Returns an empty set that compares persons by identity, sized to hold {@code expectedSize} persons before it
+     * grows. Posting sets of keys that only a few persons have should be created with a small size, as the default
+     * size takes a few hundred bytes for each key.
+     */
+    public static Set<Person> newPostingSet(int expectedSize) {
+        return Collections.newSetFromMap(new IdentityHashMap<>(expectedSize));
+    }
+
+    /**
+     * Returns the persons in both {@code smaller} and {@code larger}, in a new set that compares persons by identity.
+     * Takes time proportional to the size of {@code smaller}.
+     */
+    public static Set<Person> intersect(Set<Person> smaller, Set<Person> larger) {
+        Set<Person> intersection = newPostingSet();
+        for (Person person : smaller) {
+            if (larger.contains(person)) {
+                intersection.add(person);
+            }
+        }
+        return intersection;
+    }
+}
@@ -3,6 +3,8 @@ package seedu.realodex.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.realodex.commons.util.AppUtil.checkArgument;
 
+import seedu.realodex.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's phone number in realodex.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -12,7 +14,8 @@ public class Phone {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
-    public static final String VALIDATION_REGEX = "\\d{3,}";
+    public static final int MIN_LENGTH = 3;
+    public static final String VALIDATION_REGEX = "\\d{" + MIN_LENGTH + ",}";
     public static final String DEFAULT_PHONE = "88888888";
     public final String value;
 
@@ -31,11 +34,19 @@ public class Phone {
         value = DEFAULT_PHONE;
     }
 
+    /**
+     * Returns {@code phone} without the spaces and hyphens that group its digits, e.g. "9123 4567" becomes "91234567".
+     */
+    public static String stripSeparators(String phone) {
+        requireNonNull(phone);
+        return phone.replace(" ", "").replace("-", "");
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isDigits(test, MIN_LENGTH);
     }
 
     @Override
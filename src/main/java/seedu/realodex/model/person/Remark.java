@@ -11,6 +11,8 @@ public class Remark {
 
     public final String remarkName;
 
+    private final String remarkNameInLowerCase;
+
     /**
      * Constructs a {@code Remark}.
      *
@@ -19,6 +21,14 @@ public class Remark {
     public Remark(String remarkName) {
         requireNonNull(remarkName);
         this.remarkName = remarkName;
+        this.remarkNameInLowerCase = remarkName.toLowerCase();
+    }
+
+    /**
+     * Returns the remark in lower case, which is computed once when the remark is created.
+     */
+    public String getRemarkNameInLowerCase() {
+        return remarkNameInLowerCase;
     }
 
     /**
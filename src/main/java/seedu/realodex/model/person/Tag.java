@@ -3,6 +3,8 @@ package seedu.realodex.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.realodex.commons.util.AppUtil.checkArgument;
 
+import seedu.realodex.commons.util.ValidationUtil;
+
 /**
  * Represents a Tag in the realodex.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -55,7 +57,7 @@ public class Tag {
         } catch (IllegalArgumentException e) {
             return false;
         }
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(test, VALIDATION_REGEX);
     }
 
     @Override
@@ -0,0 +1,129 @@
+package seedu.realodex.model.person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An index of the persons whose text contains each trigram, i.e. each sequence of three consecutive characters.
+ * <p>
+ * A text can only contain a keyphrase of at least three characters if it contains every trigram of the keyphrase, so
+ * intersecting the persons with each trigram of the keyphrase gives a small set of candidates to check, instead of
+ * every person. Trigrams are packed into a {@code long} key, persons are compared by identity, and a trigram that
+ * only one person has maps straight to that person, as described in {@link UniqueKeyPostings}.
+ * <p>
+ * The index can be limited to a number of distinct trigrams per text, so that a few long texts do not take most of
+ * the memory of the index. The persons with a longer text are not indexed, and are a candidate for every keyphrase.
+ */
+class TrigramIndex {
+
+    static final int TRIGRAM_LENGTH = 3;
+
+    private final UniqueKeyPostings<Long> personsByTrigram = new UniqueKeyPostings<>();
+    private final Set<Person> unindexedPersons = PersonIndex.newPostingSet(PersonIndex.SMALL_POSTING_SET_SIZE);
+    private final int maxTrigramsPerText;
+
+    /**
+     * Creates an empty index of every trigram of each text.
+     */
+    TrigramIndex() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates an empty index that does not index the texts with more than {@code maxTrigramsPerText} distinct
+     * trigrams.
+     */
+    TrigramIndex(int maxTrigramsPerText) {
+        this.maxTrigramsPerText = maxTrigramsPerText;
+    }
+
+    /**
+     * Adds {@code person} to the persons with each trigram of {@code text}.
+     */
+    void add(Person person, String text) {
+        long[] trigrams = trigrams(text);
+        if (trigrams.length > maxTrigramsPerText) {
+            unindexedPersons.add(person);
+            return;
+        }
+        for (long trigram : trigrams) {
+            personsByTrigram.add(trigram, person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the persons with each trigram of {@code text}.
+     */
+    void remove(Person person, String text) {
+        long[] trigrams = trigrams(text);
+        if (trigrams.length > maxTrigramsPerText) {
+            unindexedPersons.remove(person);
+            return;
+        }
+        for (long trigram : trigrams) {
+            personsByTrigram.remove(trigram, person);
+        }
+    }
+
+    void clear() {
+        personsByTrigram.clear();
+        unindexedPersons.clear();
+    }
+
+    /**
+     * Returns the persons whose text contains every trigram of {@code keyphrase}, together with the persons whose text
+     * is not indexed, which includes every person whose text contains {@code keyphrase}, or an empty
+     * {@code Optional} if {@code keyphrase} is too short to have a trigram.
+     * The returned set is unmodifiable, and may be a view of the index that changes with it.
+     */
+    Optional<Set<Person>> getCandidates(String keyphrase) {
+        if (keyphrase.length() < TRIGRAM_LENGTH) {
+            return Optional.empty();
+        }
+        List<Set<Person>> postings = new ArrayList<>();
+        for (long trigram : trigrams(keyphrase)) {
+            Set<Person> persons = personsByTrigram.get(trigram);
+            if (persons.isEmpty()) {
+                return Optional.of(Collections.unmodifiableSet(unindexedPersons));
+            }
+            postings.add(persons);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<Person> candidates = postings.get(0);
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates = PersonIndex.intersect(candidates, postings.get(i));
+        }
+        if (unindexedPersons.isEmpty()) {
+            return Optional.of(Collections.unmodifiableSet(candidates));
+        }
+        Set<Person> candidatesWithUnindexed = PersonIndex.newPostingSet(candidates.size() + unindexedPersons.size());
+        candidatesWithUnindexed.addAll(candidates);
+        candidatesWithUnindexed.addAll(unindexedPersons);
+        return Optional.of(Collections.unmodifiableSet(candidatesWithUnindexed));
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code text}, each packed into a {@code long}, in increasing order.
+     */
+    static long[] trigrams(String text) {
+        int count = Math.max(0, text.length() - TRIGRAM_LENGTH + 1);
+        long[] trigrams = new long[count];
+        for (int i = 0; i < count; i++) {
+            trigrams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        Arrays.sort(trigrams);
+
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+                trigrams[distinct++] = trigrams[i];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinct);
+    }
+}
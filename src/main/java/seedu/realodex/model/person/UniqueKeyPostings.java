@@ -0,0 +1,73 @@
+package seedu.realodex.model.person;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The persons with each key, for keys that most persons have a value of their own, such as phone numbers.
+ * <p>
+ * A key with a single person maps straight to that person, and only a key shared by several persons has a posting
+ * set, so that the index takes one map entry per person rather than one posting set per person. Persons are compared
+ * by identity.
+ */
+class UniqueKeyPostings<K> {
+
+    private final Map<K, Person> personByKey = new HashMap<>();
+    private final Map<K, Set<Person>> personsBySharedKey = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the persons with {@code key}.
+     */
+    void add(K key, Person person) {
+        Set<Person> persons = personsBySharedKey.get(key);
+        if (persons != null) {
+            persons.add(person);
+            return;
+        }
+        Person existing = personByKey.putIfAbsent(key, person);
+        if (existing == null || existing == person) {
+            return;
+        }
+        persons = PersonIndex.newPostingSet(PersonIndex.SMALL_POSTING_SET_SIZE);
+        persons.add(existing);
+        persons.add(person);
+        personByKey.remove(key);
+        personsBySharedKey.put(key, persons);
+    }
+
+    /**
+     * Removes {@code person} from the persons with {@code key}, and the key once no person has it.
+     */
+    void remove(K key, Person person) {
+        if (personByKey.get(key) == person) {
+            personByKey.remove(key);
+            return;
+        }
+        Set<Person> persons = personsBySharedKey.get(key);
+        if (persons == null || !persons.remove(person) || persons.size() > 1) {
+            return;
+        }
+        personsBySharedKey.remove(key);
+        if (!persons.isEmpty()) {
+            personByKey.put(key, persons.iterator().next());
+        }
+    }
+
+    void clear() {
+        personByKey.clear();
+        personsBySharedKey.clear();
+    }
+
+    /**
+     * Returns an unmodifiable set of the persons with {@code key}.
+     */
+    Set<Person> get(K key) {
+        Person person = personByKey.get(key);
+        if (person != null) {
+            return Collections.singleton(person);
+        }
+        return Collections.unmodifiableSet(personsBySharedKey.getOrDefault(key, Set.of()));
+    }
+}
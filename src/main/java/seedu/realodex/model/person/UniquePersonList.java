@@ -3,8 +3,10 @@ package seedu.realodex.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.realodex.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +20,9 @@ import seedu.realodex.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are answered by a hash index keyed on {@code Name}, which is kept in sync with the backing list
+ * on every mutation.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +32,14 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> personsByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -45,6 +51,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        personsByName.put(toAdd.getName(), toAdd);
         internalList.add(toAdd);
     }
 
@@ -65,6 +72,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        personsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -74,26 +83,33 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        personsByName.remove(toRemove.getName());
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException carrying the first conflicting {@code Name} if {@code persons} is not unique.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Name, Person> replacementIndex = indexByName(persons);
 
+        personsByName.clear();
+        personsByName.putAll(replacementIndex);
         internalList.setAll(persons);
     }
 
@@ -141,16 +157,17 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Builds a name index over {@code persons} in a single pass, failing on the first name seen twice.
+     *
+     * @throws DuplicatePersonException if {@code persons} does not contain only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Person> indexByName(List<Person> persons) {
+        Map<Name, Person> index = new HashMap<>(Math.max(16, (int) (persons.size() / 0.75f) + 1));
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getName(), person) != null) {
+                throw new DuplicatePersonException(person.getName());
             }
         }
-        return true;
+        return index;
     }
 }
@@ -1,5 +1,7 @@
 package seedu.realodex.model.person.exceptions;
 
+import seedu.realodex.model.person.Name;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
@@ -8,4 +10,11 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * Creates the exception for a duplicate identity, naming the first {@code conflictingName} that clashed.
+     */
+    public DuplicatePersonException(Name conflictingName) {
+        super("Operation would result in duplicate persons: " + conflictingName);
+    }
 }
@@ -1,52 +1,44 @@
 package seedu.realodex.model.person.predicates;
 
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Date;
+import java.time.Month;
+import java.time.format.TextStyle;
+import java.util.Locale;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.realodex.commons.util.ToStringBuilder;
 import seedu.realodex.model.person.Birthday;
 import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.PersonIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Birthday} is in the Month given.
  */
-public class BirthdayIsInMonthPredicate implements Predicate<Person> {
-    private final SimpleDateFormat monthFormat = new SimpleDateFormat(Birthday.INPUT_MONTH_PATTERN);
-    private final Optional<Calendar> month;
+public class BirthdayIsInMonthPredicate implements IndexedPredicate {
+    private final Optional<Month> month;
 
     /**
      * Creates object {@code BirthdayIsInMonthPredicate}
      * @param monthName month to be tested
      */
     public BirthdayIsInMonthPredicate(String monthName) {
-        Optional<Calendar> tempMonth;
-        Date monthDate;
-        try {
-            monthDate = monthFormat.parse(monthName);
-            tempMonth = Optional.of(Calendar.getInstance());
-            tempMonth.get().setTime(monthDate);
-        } catch (java.text.ParseException e) {
-            // will not reach here because Parser checks for valid month
-            assert false;
-            tempMonth = Optional.empty();
-        }
-        this.month = tempMonth;
+        this.month = Birthday.parseMonth(monthName);
+        // will not fail because Parser checks for valid month
+        assert month.isPresent();
     }
 
     @Override
     public boolean test(Person person) {
         return person.getBirthday().getOptionalBirthday()
-                .map(birthday -> {
-                    Calendar personCalendar = Calendar.getInstance();
-                    personCalendar.setTime(birthday);
-                    return personCalendar.get(Calendar.MONTH) == month.map(m -> m.get(Calendar.MONTH)).orElse(-1);
-                })
+                .map(birthday -> month.map(m -> birthday.getMonth() == m).orElse(false))
                 .orElse(false);
     }
 
+    @Override
+    public Optional<Set<Person>> lookUp(PersonIndex index) {
+        return month.map(index::getPersonsBornIn);
+    }
+
 
     @Override
     public boolean equals(Object other) {
@@ -63,10 +55,15 @@ public class BirthdayIsInMonthPredicate implements Predicate<Person> {
         return month.equals(otherBirthdayIsInMonthPredicate.month);
     }
 
+    @Override
+    public int hashCode() {
+        return month.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("month", month.map(m -> monthFormat.format(m.getTime()))
+                .add("month", month.map(m -> m.getDisplayName(TextStyle.SHORT, Locale.ENGLISH))
                         .orElse("No month specified"))
                 .toString();
     }
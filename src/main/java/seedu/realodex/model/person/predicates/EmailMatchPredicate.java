@@ -0,0 +1,55 @@
+package seedu.realodex.model.person.predicates;
+
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.realodex.commons.util.ToStringBuilder;
+import seedu.realodex.model.person.Email;
+import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.PersonIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code Email} equals the specified Email, ignoring case.
+ */
+public class EmailMatchPredicate implements IndexedPredicate {
+    private final Email email;
+
+    public EmailMatchPredicate(Email email) {
+        this.email = email;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getEmail().getValueInLowerCase().equals(email.getValueInLowerCase());
+    }
+
+    @Override
+    public Optional<Set<Person>> lookUp(PersonIndex index) {
+        return Optional.of(index.getPersonsWithEmail(email));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EmailMatchPredicate)) {
+            return false;
+        }
+
+        EmailMatchPredicate otherEmailMatchPredicate = (EmailMatchPredicate) other;
+        return email.equals(otherEmailMatchPredicate.email);
+    }
+
+    @Override
+    public int hashCode() {
+        return email.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("email", email).toString();
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.realodex.model.person.predicates;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.realodex.commons.util.ToStringBuilder;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Tests that a {@code Person}'s {@code Family} size is within an inclusive range.
+ */
+public class FamilyInRangePredicate implements Predicate<Person> {
+    private final int min;
+    private final int max;
+
+    /**
+     * Creates a predicate for family sizes from {@code min} to {@code max}, both inclusive.
+     */
+    public FamilyInRangePredicate(int min, int max) {
+        assert min <= max;
+        this.min = min;
+        this.max = max;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        int familySize = person.getFamily().getValue();
+        return familySize >= min && familySize <= max;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FamilyInRangePredicate)) {
+            return false;
+        }
+
+        FamilyInRangePredicate otherFamilyInRangePredicate = (FamilyInRangePredicate) other;
+        return min == otherFamilyInRangePredicate.min && max == otherFamilyInRangePredicate.max;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(min, max);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("min", min)
+                .add("max", max)
+                .toString();
+    }
+}
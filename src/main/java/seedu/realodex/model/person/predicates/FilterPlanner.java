@@ -0,0 +1,138 @@
+package seedu.realodex.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.realodex.model.person.Person;
+
+/**
+ * Plans the order in which the clauses of a combined filter are tested.
+ * <p>
+ * Each clause is given an estimated cost of testing one person and an estimated selectivity, the fraction of persons
+ * it matches. Nested {@code AndPredicate}s and {@code OrPredicate}s are flattened, and their clauses are reordered so
+ * that the clauses most likely to decide the result cheaply are tested first: clauses of an {@code AndPredicate} in
+ * increasing order of cost per person rejected, and clauses of an {@code OrPredicate} in increasing order of cost per
+ * person matched. Since testing stops at the first clause that decides the result, later and more expensive clauses
+ * are tested on as few persons as possible. Clauses with the same estimates keep the order they were given in.
+ */
+public class FilterPlanner {
+
+    // cost and selectivity of the predicates on a single field, where comparing a number costs 1
+    private static final Map<Class<?>, Estimate> FIELD_ESTIMATES = Map.of(
+            IncomeInRangePredicate.class, new Estimate(1, 0.5),
+            FamilyInRangePredicate.class, new Estimate(1, 0.5),
+            HousingTypeMatchPredicate.class, new Estimate(1, 0.25),
+            BirthdayIsInMonthPredicate.class, new Estimate(2, 1.0 / 12),
+            TagsMatchPredicate.class, new Estimate(2, 0.5),
+            NameContainsKeyphrasePredicate.class, new Estimate(4, 0.1),
+            NameSoundsLikePredicate.class, new Estimate(2, 0.05),
+            PhoneMatchPredicate.class, new Estimate(1, 0.01),
+            EmailMatchPredicate.class, new Estimate(1, 0.01),
+            RemarkContainsKeyphrasePredicate.class, new Estimate(6, 0.1));
+    private static final Estimate DEFAULT_ESTIMATE = new Estimate(4, 0.5);
+
+    /**
+     * Returns a predicate that matches the same persons as {@code predicate}, with its clauses reordered as described
+     * in {@link FilterPlanner}.
+     */
+    public static Predicate<Person> plan(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return planWithEstimate(predicate).predicate;
+    }
+
+    private static Plan planWithEstimate(Predicate<Person> predicate) {
+        if (predicate instanceof AndPredicate) {
+            return planAnd(((AndPredicate) predicate).getPredicates());
+        }
+        if (predicate instanceof OrPredicate) {
+            return planOr(((OrPredicate) predicate).getPredicates());
+        }
+        if (predicate instanceof NotPredicate) {
+            Plan negated = planWithEstimate(((NotPredicate) predicate).getPredicate());
+            return new Plan(new NotPredicate(negated.predicate),
+                    new Estimate(negated.estimate.cost, 1 - negated.estimate.selectivity));
+        }
+        return new Plan(predicate, FIELD_ESTIMATES.getOrDefault(predicate.getClass(), DEFAULT_ESTIMATE));
+    }
+
+    private static Plan planAnd(List<Predicate<Person>> clauses) {
+        List<Plan> plans = new ArrayList<>();
+        for (Predicate<Person> clause : clauses) {
+            Plan plan = planWithEstimate(clause);
+            if (plan.predicate instanceof AndPredicate) {
+                ((AndPredicate) plan.predicate).getPredicates().forEach(nested -> plans.add(planWithEstimate(nested)));
+            } else {
+                plans.add(plan);
+            }
+        }
+        plans.sort(Comparator.comparingDouble(plan -> plan.estimate.cost / (1 - plan.estimate.selectivity)));
+
+        // each clause is only tested on the persons matched by all of the clauses before it
+        double cost = 0;
+        double selectivity = 1;
+        List<Predicate<Person>> ordered = new ArrayList<>();
+        for (Plan plan : plans) {
+            cost += selectivity * plan.estimate.cost;
+            selectivity *= plan.estimate.selectivity;
+            ordered.add(plan.predicate);
+        }
+        return new Plan(ordered.size() == 1 ? ordered.get(0) : new AndPredicate(ordered),
+                new Estimate(cost, selectivity));
+    }
+
+    private static Plan planOr(List<Predicate<Person>> clauses) {
+        List<Plan> plans = new ArrayList<>();
+        for (Predicate<Person> clause : clauses) {
+            Plan plan = planWithEstimate(clause);
+            if (plan.predicate instanceof OrPredicate) {
+                ((OrPredicate) plan.predicate).getPredicates().forEach(nested -> plans.add(planWithEstimate(nested)));
+            } else {
+                plans.add(plan);
+            }
+        }
+        plans.sort(Comparator.comparingDouble(plan -> plan.estimate.cost / plan.estimate.selectivity));
+
+        // each clause is only tested on the persons not matched by any of the clauses before it
+        double cost = 0;
+        double unmatched = 1;
+        List<Predicate<Person>> ordered = new ArrayList<>();
+        for (Plan plan : plans) {
+            cost += unmatched * plan.estimate.cost;
+            unmatched *= 1 - plan.estimate.selectivity;
+            ordered.add(plan.predicate);
+        }
+        return new Plan(ordered.size() == 1 ? ordered.get(0) : new OrPredicate(ordered),
+                new Estimate(cost, 1 - unmatched));
+    }
+
+    /**
+     * The estimated cost of testing one person against a predicate, and the estimated fraction of persons it matches.
+     */
+    private static class Estimate {
+        private final double cost;
+        private final double selectivity;
+
+        Estimate(double cost, double selectivity) {
+            this.cost = cost;
+            this.selectivity = selectivity;
+        }
+    }
+
+    /**
+     * A planned predicate and its estimate.
+     */
+    private static class Plan {
+        private final Predicate<Person> predicate;
+        private final Estimate estimate;
+
+        Plan(Predicate<Person> predicate, Estimate estimate) {
+            this.predicate = predicate;
+            this.estimate = estimate;
+        }
+    }
+}
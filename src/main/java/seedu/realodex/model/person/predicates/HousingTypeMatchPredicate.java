@@ -1,16 +1,18 @@
 package seedu.realodex.model.person.predicates;
 
-import java.util.function.Predicate;
+import java.util.Optional;
+import java.util.Set;
 
 import seedu.realodex.commons.util.ToStringBuilder;
 import seedu.realodex.model.person.HousingType;
 import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.PersonIndex;
 
 
 /**
  * Tests that a {@code Person}'s preferred HousingType equals the specified HousingType.
  */
-public class HousingTypeMatchPredicate implements Predicate<Person> {
+public class HousingTypeMatchPredicate implements IndexedPredicate {
     private final HousingType housingType;
 
     public HousingTypeMatchPredicate(HousingType housingType) {
@@ -23,6 +25,11 @@ public class HousingTypeMatchPredicate implements Predicate<Person> {
         return personHousingType.equals(housingType);
     }
 
+    @Override
+    public Optional<Set<Person>> lookUp(PersonIndex index) {
+        return Optional.of(index.getPersonsWithHouse(housingType.getHouse()));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -38,6 +45,11 @@ public class HousingTypeMatchPredicate implements Predicate<Person> {
         return housingType.equals(otherHousingTypeMatchPredicate.housingType);
     }
 
+    @Override
+    public int hashCode() {
+        return housingType.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("Housing Type", housingType).toString();
@@ -0,0 +1,58 @@
+package seedu.realodex.model.person.predicates;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.realodex.commons.util.ToStringBuilder;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Tests that a {@code Person}'s {@code Income} is within an inclusive range.
+ */
+public class IncomeInRangePredicate implements Predicate<Person> {
+    private final long min;
+    private final long max;
+
+    /**
+     * Creates a predicate for incomes from {@code min} to {@code max} dollars, both inclusive.
+     */
+    public IncomeInRangePredicate(long min, long max) {
+        assert min <= max;
+        this.min = min;
+        this.max = max;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        long income = person.getIncome().getValue();
+        return income >= min && income <= max;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IncomeInRangePredicate)) {
+            return false;
+        }
+
+        IncomeInRangePredicate otherIncomeInRangePredicate = (IncomeInRangePredicate) other;
+        return min == otherIncomeInRangePredicate.min && max == otherIncomeInRangePredicate.max;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(min, max);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("min", min)
+                .add("max", max)
+                .toString();
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.realodex.model.person.predicates;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.PersonIndex;
+
+/**
+ * A predicate on persons whose matches can be looked up in a {@link PersonIndex} instead of testing every person.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons in {@code index} that match this predicate, or an empty {@code Optional} if they cannot
+     * be looked up. The returned set compares persons by identity, may be a view of the index, and must not be
+     * modified.
+     */
+    Optional<Set<Person>> lookUp(PersonIndex index);
+}
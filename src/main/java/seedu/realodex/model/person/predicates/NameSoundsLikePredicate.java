@@ -0,0 +1,67 @@
+package seedu.realodex.model.person.predicates;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.realodex.commons.util.ToStringBuilder;
+import seedu.realodex.model.person.Name;
+import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.PersonIndex;
+
+/**
+ * Tests that every word of the name given sounds like a word in a {@code Person}'s {@code Name}, that is, the
+ * Soundex codes of the words in the {@code Name} include those of the words of the name given.
+ */
+public class NameSoundsLikePredicate implements IndexedPredicate {
+    private final String name;
+    private final Set<String> phoneticCodes;
+
+    public NameSoundsLikePredicate(String name) {
+        this.name = name;
+        this.phoneticCodes = Name.toPhoneticCodes(name);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getName().getPhoneticCodes().containsAll(phoneticCodes);
+    }
+
+    /**
+     * Returns the persons in {@code index} with all of the Soundex codes, by intersecting the persons with each code,
+     * or an empty {@code Optional} if there are no codes to look up.
+     */
+    @Override
+    public Optional<Set<Person>> lookUp(PersonIndex index) {
+        return phoneticCodes.stream()
+                .map(index::getPersonsWithPhoneticCode)
+                .sorted(Comparator.comparingInt(Set::size))
+                .reduce(PersonIndex::intersect);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameSoundsLikePredicate)) {
+            return false;
+        }
+
+        NameSoundsLikePredicate otherNameSoundsLikePredicate = (NameSoundsLikePredicate) other;
+        return name.equals(otherNameSoundsLikePredicate.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("name", name).toString();
+    }
+
+}
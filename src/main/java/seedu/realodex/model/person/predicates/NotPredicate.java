@@ -0,0 +1,57 @@
+package seedu.realodex.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.realodex.commons.util.ToStringBuilder;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Tests that a {@code Person} does not match the given predicate.
+ */
+public class NotPredicate implements Predicate<Person> {
+    private final Predicate<Person> predicate;
+
+    public NotPredicate(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    /**
+     * Returns the predicate negated by this predicate.
+     */
+    public Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !predicate.test(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotPredicate)) {
+            return false;
+        }
+
+        NotPredicate otherNotPredicate = (NotPredicate) other;
+        return predicate.equals(otherNotPredicate.predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return predicate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicate", predicate).toString();
+    }
+}
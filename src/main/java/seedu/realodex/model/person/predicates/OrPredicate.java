@@ -0,0 +1,68 @@
+package seedu.realodex.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.realodex.commons.util.ToStringBuilder;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Tests that a {@code Person} matches any of the given predicates.
+ * The predicates are tested in the given order, and testing stops at the first predicate the person matches.
+ */
+public class OrPredicate implements Predicate<Person> {
+    private final List<Predicate<Person>> predicates;
+
+    /**
+     * Creates a predicate that matches persons matching at least one of {@code predicates}.
+     */
+    public OrPredicate(List<Predicate<Person>> predicates) {
+        requireNonNull(predicates);
+        assert !predicates.isEmpty();
+        this.predicates = List.copyOf(predicates);
+    }
+
+    /**
+     * Returns the predicates combined by this predicate, in the order they are tested.
+     */
+    public List<Predicate<Person>> getPredicates() {
+        return predicates;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Predicate<Person> predicate : predicates) {
+            if (predicate.test(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrPredicate)) {
+            return false;
+        }
+
+        OrPredicate otherOrPredicate = (OrPredicate) other;
+        return predicates.equals(otherOrPredicate.predicates);
+    }
+
+    @Override
+    public int hashCode() {
+        return predicates.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicates", predicates).toString();
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.realodex.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.PersonIndex;
+
+/**
+ * Answers the indexed parts of a predicate with a {@link PersonIndex}.
+ * <p>
+ * The clauses of a predicate that are {@link IndexedPredicate}s, or combinations of them with {@code AndPredicate}
+ * and {@code OrPredicate}, are looked up in the index and intersected into a set of candidates. The remaining clauses
+ * are then only tested on the candidates, and every other person is rejected by a single lookup in that set.
+ * The candidates are only valid for the version of the index they were looked up at, so persons tested after the
+ * index has changed are tested against the whole predicate instead.
+ */
+public class PersonIndexLookup {
+
+    /**
+     * Returns a predicate that matches the same persons in {@code index} as {@code predicate}, using the index to
+     * answer its indexed clauses. Returns {@code predicate} itself if none of its clauses are indexed.
+     */
+    public static Predicate<Person> resolve(Predicate<Person> predicate, PersonIndex index) {
+        requireNonNull(predicate);
+        requireNonNull(index);
+
+        Optional<Set<Person>> matches = lookUp(predicate, index);
+        if (matches.isPresent()) {
+            return new LookedUpPredicate(predicate, matches.get(), null, index);
+        }
+        if (!(predicate instanceof AndPredicate)) {
+            return predicate;
+        }
+
+        List<Set<Person>> indexedMatches = new ArrayList<>();
+        List<Predicate<Person>> residualClauses = new ArrayList<>();
+        for (Predicate<Person> clause : ((AndPredicate) predicate).getPredicates()) {
+            lookUp(clause, index).ifPresentOrElse(indexedMatches::add, () -> residualClauses.add(clause));
+        }
+        if (indexedMatches.isEmpty()) {
+            return predicate;
+        }
+        Predicate<Person> residual = residualClauses.size() == 1
+                ? residualClauses.get(0)
+                : new AndPredicate(residualClauses);
+        return new LookedUpPredicate(predicate, intersectAll(indexedMatches), residual, index);
+    }
+
+    /**
+     * Returns the persons in {@code index} that match {@code predicate}, or an empty {@code Optional} if any part
+     * of {@code predicate} is not indexed.
+     * The returned set may be a posting set of {@code index} itself, so it must not be modified, and it is only up to
+     * date while the version of {@code index} stays the same.
+     */
+    public static Optional<Set<Person>> lookUp(Predicate<Person> predicate, PersonIndex index) {
+        if (predicate instanceof IndexedPredicate) {
+            return ((IndexedPredicate) predicate).lookUp(index);
+        }
+        boolean isAnd = predicate instanceof AndPredicate;
+        if (!isAnd && !(predicate instanceof OrPredicate)) {
+            return Optional.empty();
+        }
+
+        List<Predicate<Person>> clauses = isAnd
+                ? ((AndPredicate) predicate).getPredicates()
+                : ((OrPredicate) predicate).getPredicates();
+        List<Set<Person>> clauseMatches = new ArrayList<>();
+        for (Predicate<Person> clause : clauses) {
+            Optional<Set<Person>> matches = lookUp(clause, index);
+            if (matches.isEmpty()) {
+                return Optional.empty();
+            }
+            clauseMatches.add(matches.get());
+        }
+        return Optional.of(isAnd ? intersectAll(clauseMatches) : unionAll(clauseMatches));
+    }
+
+    private static Set<Person> intersectAll(List<Set<Person>> sets) {
+        sets.sort(Comparator.comparingInt(Set::size));
+        Set<Person> intersection = sets.get(0);
+        for (int i = 1; i < sets.size() && !intersection.isEmpty(); i++) {
+            intersection = PersonIndex.intersect(intersection, sets.get(i));
+        }
+        return intersection;
+    }
+
+    private static Set<Person> unionAll(List<Set<Person>> sets) {
+        if (sets.size() == 1) {
+            return sets.get(0);
+        }
+        Set<Person> union = PersonIndex.newPostingSet();
+        sets.forEach(union::addAll);
+        return union;
+    }
+
+    /**
+     * A predicate answered by a set of candidates looked up in an index, and a residual predicate tested on the
+     * candidates only.
+     */
+    private static class LookedUpPredicate implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private final Set<Person> candidates;
+        private final Predicate<Person> residual;
+        private final PersonIndex index;
+        private final long version;
+
+        /**
+         * Creates a predicate equivalent to {@code predicate} while {@code index} is unchanged, that matches the
+         * {@code candidates} that also match {@code residual}, or all of them if {@code residual} is null.
+         */
+        LookedUpPredicate(Predicate<Person> predicate, Set<Person> candidates, Predicate<Person> residual,
+                PersonIndex index) {
+            this.predicate = predicate;
+            this.candidates = candidates;
+            this.residual = residual;
+            this.index = index;
+            this.version = index.getVersion();
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (index.getVersion() != version) {
+                return predicate.test(person);
+            }
+            return candidates.contains(person) && (residual == null || residual.test(person));
+        }
+    }
+}
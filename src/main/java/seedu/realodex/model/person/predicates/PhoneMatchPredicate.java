@@ -0,0 +1,55 @@
+package seedu.realodex.model.person.predicates;
+
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.realodex.commons.util.ToStringBuilder;
+import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.PersonIndex;
+import seedu.realodex.model.person.Phone;
+
+/**
+ * Tests that a {@code Person}'s {@code Phone} equals the specified Phone.
+ */
+public class PhoneMatchPredicate implements IndexedPredicate {
+    private final Phone phone;
+
+    public PhoneMatchPredicate(Phone phone) {
+        this.phone = phone;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getPhone().equals(phone);
+    }
+
+    @Override
+    public Optional<Set<Person>> lookUp(PersonIndex index) {
+        return Optional.of(index.getPersonsWithPhone(phone));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PhoneMatchPredicate)) {
+            return false;
+        }
+
+        PhoneMatchPredicate otherPhoneMatchPredicate = (PhoneMatchPredicate) other;
+        return phone.equals(otherPhoneMatchPredicate.phone);
+    }
+
+    @Override
+    public int hashCode() {
+        return phone.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("phone", phone).toString();
+    }
+}
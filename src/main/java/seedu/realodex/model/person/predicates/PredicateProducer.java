@@ -2,9 +2,14 @@ package seedu.realodex.model.person.predicates;
 
 import static seedu.realodex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_BIRTHDAY;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_FAMILY;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_HOUSINGTYPE;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_INCOME;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_SOUNDS_LIKE;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.HashMap;
@@ -20,6 +25,7 @@ import seedu.realodex.logic.parser.Prefix;
 import seedu.realodex.logic.parser.exceptions.ParseException;
 import seedu.realodex.model.person.HousingType;
 import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.Phone;
 import seedu.realodex.model.person.Tag;
 
 /**
@@ -45,12 +51,18 @@ public class PredicateProducer {
     private void initialize() {
         predicateMap.put(PREFIX_NAME, keyphrases ->
                 new NameContainsKeyphrasePredicate(keyphrases.get(keyphrases.size() - 1)));
+        predicateMap.put(PREFIX_SOUNDS_LIKE, keyphrases ->
+                new NameSoundsLikePredicate(keyphrases.get(keyphrases.size() - 1)));
+        predicateMap.put(PREFIX_PHONE, this::createPhoneMatchPredicate);
+        predicateMap.put(PREFIX_EMAIL, this::createEmailMatchPredicate);
         predicateMap.put(PREFIX_REMARK, keyphrases ->
                 new RemarkContainsKeyphrasePredicate(keyphrases.get(keyphrases.size() - 1)));
         predicateMap.put(PREFIX_TAG, this::createMatchTagsPredicate);
         predicateMap.put(PREFIX_BIRTHDAY, keyphrases ->
                 new BirthdayIsInMonthPredicate(keyphrases.get(keyphrases.size() - 1)));
         predicateMap.put(PREFIX_HOUSINGTYPE, this::createHousingTypeMatchPredicate);
+        predicateMap.put(PREFIX_INCOME, this::createIncomeInRangePredicate);
+        predicateMap.put(PREFIX_FAMILY, this::createFamilyInRangePredicate);
     }
 
     /**
@@ -115,4 +127,63 @@ public class PredicateProducer {
         }
     }
 
+    /**
+     * Creates a predicate to evaluate if a {@code Person} has a phone number.
+     *
+     * @param phones The phone numbers, of which only the last is used. Spaces and hyphens between digits are ignored.
+     * @return A {@code Predicate<Person>} that tests whether a person has the phone number,
+     *         or null if the phone number is invalid.
+     */
+    public Predicate<Person> createPhoneMatchPredicate(List<String> phones) {
+        try {
+            return new PhoneMatchPredicate(ParserUtil.parsePhone(Phone.stripSeparators(phones.get(phones.size() - 1))));
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a predicate to evaluate if a {@code Person} has an email, ignoring case.
+     *
+     * @param emails The emails, of which only the last is used.
+     * @return A {@code Predicate<Person>} that tests whether a person has the email, or null if the email is invalid.
+     */
+    public Predicate<Person> createEmailMatchPredicate(List<String> emails) {
+        try {
+            return new EmailMatchPredicate(ParserUtil.parseEmail(emails.get(emails.size() - 1)));
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a predicate to evaluate if a {@code Person}'s income is within a range.
+     *
+     * @param ranges The ranges in the MIN-MAX format, of which only the last is used.
+     * @return A {@code Predicate<Person>} that tests whether a person's income is within the range,
+     *         or null if the range is invalid.
+     */
+    public Predicate<Person> createIncomeInRangePredicate(List<String> ranges) {
+        try {
+            return ParserUtil.parseIncomeRange(ranges.get(ranges.size() - 1));
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a predicate to evaluate if a {@code Person}'s family size is within a range.
+     *
+     * @param ranges The ranges in the MIN-MAX format, of which only the last is used.
+     * @return A {@code Predicate<Person>} that tests whether a person's family size is within the range,
+     *         or null if the range is invalid.
+     */
+    public Predicate<Person> createFamilyInRangePredicate(List<String> ranges) {
+        try {
+            return ParserUtil.parseFamilyRange(ranges.get(ranges.size() - 1));
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
 }
@@ -1,25 +1,39 @@
 package seedu.realodex.model.person.predicates;
 
-import java.util.function.Predicate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.realodex.commons.util.ToStringBuilder;
 import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.PersonIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Remark} contains the keyphrase given.
  */
-public class RemarkContainsKeyphrasePredicate implements Predicate<Person> {
+public class RemarkContainsKeyphrasePredicate implements IndexedPredicate {
     private final String keyphrase;
+    private final String keyphraseInLowerCase;
 
     public RemarkContainsKeyphrasePredicate(String keyphrase) {
         this.keyphrase = keyphrase;
+        this.keyphraseInLowerCase = keyphrase.toLowerCase();
     }
 
     @Override
     public boolean test(Person person) {
-        String remarkInLowerCase = person.getRemark().remarkName.toLowerCase();
-        String keyphraseInLowerCase = keyphrase.toLowerCase();
-        return remarkInLowerCase.contains(keyphraseInLowerCase);
+        return person.getRemark().getRemarkNameInLowerCase().contains(keyphraseInLowerCase);
+    }
+
+    /**
+     * Returns the persons in {@code index} that match this predicate, by checking only the candidates from the
+     * trigram index, or an empty {@code Optional} if the keyphrase is too short to look up.
+     */
+    @Override
+    public Optional<Set<Person>> lookUp(PersonIndex index) {
+        return index.getRemarkCandidates(keyphraseInLowerCase).map(candidates -> candidates.stream()
+                .filter(this)
+                .collect(Collectors.toCollection(PersonIndex::newPostingSet)));
     }
 
     @Override
@@ -37,6 +51,11 @@ public class RemarkContainsKeyphrasePredicate implements Predicate<Person> {
         return keyphrase.equals(otherNameContainsKeyphrasePredicate.keyphrase);
     }
 
+    @Override
+    public int hashCode() {
+        return keyphrase.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keyphrase", keyphrase).toString();
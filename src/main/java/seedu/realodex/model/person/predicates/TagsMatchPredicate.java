@@ -1,17 +1,19 @@
 package seedu.realodex.model.person.predicates;
 
+import java.util.Comparator;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import seedu.realodex.commons.util.ToStringBuilder;
 import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.PersonIndex;
 import seedu.realodex.model.person.Tag;
 
 
 /**
  * Tests that a {@code Person}'s {@code Tag} contains the Tag(s) given.
  */
-public class TagsMatchPredicate implements Predicate<Person> {
+public class TagsMatchPredicate implements IndexedPredicate {
     private final Set<Tag> tagSet;
 
     public TagsMatchPredicate(Set<Tag> tagSet) {
@@ -24,6 +26,18 @@ public class TagsMatchPredicate implements Predicate<Person> {
         return personTags.containsAll(tagSet);
     }
 
+    /**
+     * Returns the persons in {@code index} with all of the tags, by intersecting the persons with each tag,
+     * or an empty {@code Optional} if there are no tags to look up.
+     */
+    @Override
+    public Optional<Set<Person>> lookUp(PersonIndex index) {
+        return tagSet.stream()
+                .map(tag -> index.getPersonsWithRole(tag.tagName))
+                .sorted(Comparator.comparingInt(Set::size))
+                .reduce(PersonIndex::intersect);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -39,6 +53,11 @@ public class TagsMatchPredicate implements Predicate<Person> {
         return tagSet.equals(otherTagsMatchPredicate.tagSet);
     }
 
+    @Override
+    public int hashCode() {
+        return tagSet.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("Tag Set", tagSet).toString();
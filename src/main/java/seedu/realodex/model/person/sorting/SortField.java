@@ -0,0 +1,64 @@
+package seedu.realodex.model.person.sorting;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+import seedu.realodex.model.person.Person;
+
+/**
+ * A field of a {@code Person} that persons can be sorted by.
+ */
+public enum SortField {
+    INCOME("income"),
+    FAMILY("family size"),
+    HOUSING_TYPE("housing type"),
+    NAME("name"),
+    BIRTHDAY("days to their birthday");
+
+    private final String description;
+
+    SortField(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Returns a comparator of persons by this field, in descending order if {@code isDescending}.
+     * Persons whose birthday is unspecified are placed after all others when sorting by {@link #BIRTHDAY},
+     * in either order.
+     *
+     * @param today the date that the days to each birthday are counted from.
+     */
+    public Comparator<Person> getComparator(LocalDate today, boolean isDescending) {
+        requireNonNull(today);
+        if (this == BIRTHDAY) {
+            Comparator<Person> byDaysUntilBirthday =
+                    Comparator.comparingLong(person -> person.getBirthday().getDaysUntilBirthday(today));
+            return Comparator.<Person, Boolean>comparing(person -> person.getBirthday().getOptionalBirthday().isEmpty())
+                    .thenComparing(isDescending ? byDaysUntilBirthday.reversed() : byDaysUntilBirthday);
+        }
+        Comparator<Person> comparator = getAscendingComparator();
+        return isDescending ? comparator.reversed() : comparator;
+    }
+
+    private Comparator<Person> getAscendingComparator() {
+        switch (this) {
+        case INCOME:
+            return Comparator.comparing(Person::getIncome);
+        case FAMILY:
+            return Comparator.comparing(Person::getFamily);
+        case HOUSING_TYPE:
+            return Comparator.comparing(Person::getHousingType);
+        case NAME:
+            return Comparator.comparing(person -> person.getName().fullName, String.CASE_INSENSITIVE_ORDER);
+        default:
+            throw new AssertionError("Unknown sort field: " + this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
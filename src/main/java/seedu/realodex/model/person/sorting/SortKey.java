@@ -0,0 +1,88 @@
+package seedu.realodex.model.person.sorting;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.realodex.model.person.Person;
+
+/**
+ * A field to sort persons by, in ascending or descending order.
+ * Guarantees: immutable.
+ */
+public class SortKey {
+
+    private final SortField field;
+    private final boolean isDescending;
+
+    /**
+     * Creates a key that sorts by {@code field}, in descending order if {@code isDescending}.
+     */
+    public SortKey(SortField field, boolean isDescending) {
+        requireNonNull(field);
+        this.field = field;
+        this.isDescending = isDescending;
+    }
+
+    public SortField getField() {
+        return field;
+    }
+
+    public boolean isDescending() {
+        return isDescending;
+    }
+
+    /**
+     * Returns a comparator of persons by this key.
+     *
+     * @param today the date that the days to each birthday are counted from.
+     */
+    public Comparator<Person> toComparator(LocalDate today) {
+        return field.getComparator(today, isDescending);
+    }
+
+    /**
+     * Returns a comparator of persons by each of {@code keys} in turn, comparing by a key only if the persons are
+     * equal by all of the keys before it.
+     *
+     * @param keys the keys to sort by, of which there must be at least one.
+     * @param today the date that the days to each birthday are counted from.
+     */
+    public static Comparator<Person> toComparator(List<SortKey> keys, LocalDate today) {
+        requireNonNull(keys);
+        assert !keys.isEmpty();
+        Comparator<Person> comparator = keys.get(0).toComparator(today);
+        for (SortKey key : keys.subList(1, keys.size())) {
+            comparator = comparator.thenComparing(key.toComparator(today));
+        }
+        return comparator;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortKey)) {
+            return false;
+        }
+
+        SortKey otherSortKey = (SortKey) other;
+        return field == otherSortKey.field && isDescending == otherSortKey.isDescending;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, isDescending);
+    }
+
+    @Override
+    public String toString() {
+        return isDescending ? field + " (descending)" : field.toString();
+    }
+}
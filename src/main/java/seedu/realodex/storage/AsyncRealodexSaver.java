@@ -0,0 +1,113 @@
+package seedu.realodex.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.realodex.commons.core.LogsCenter;
+import seedu.realodex.commons.util.StringUtil;
+import seedu.realodex.model.ReadOnlyRealodex;
+
+/**
+ * Saves Realodex snapshots to a {@code RealodexStorage} on a single background thread.
+ * Snapshots submitted while an earlier one is still waiting to be written replace it, so a burst of mutations
+ * results in a single write of the latest state. Snapshots must not be modified after they are submitted.
+ */
+public class AsyncRealodexSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncRealodexSaver.class);
+
+    private final RealodexStorage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "realodex-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<ReadOnlyRealodex> pendingSnapshot = new AtomicReference<>();
+    private final AtomicReference<IOException> lastFailure = new AtomicReference<>();
+
+    public AsyncRealodexSaver(RealodexStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Queues {@code snapshot} to be written, superseding any snapshot that has not been written yet.
+     */
+    public void submit(ReadOnlyRealodex snapshot) {
+        requireNonNull(snapshot);
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            writer.execute(this::writePendingSnapshot);
+        }
+    }
+
+    /**
+     * Returns and clears the failure of the most recent write that failed since the last call, if any.
+     */
+    public Optional<IOException> pollFailure() {
+        return Optional.ofNullable(lastFailure.getAndSet(null));
+    }
+
+    /**
+     * Blocks until every snapshot submitted so far has been written or has failed to be written.
+     * Failures are left to be picked up by {@link #pollFailure()}.
+     *
+     * @throws InterruptedIOException if interrupted while waiting.
+     */
+    public void awaitPendingWrites() throws InterruptedIOException {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for pending saves");
+        } catch (ExecutionException ee) {
+            throw new AssertionError("An empty task cannot fail", ee);
+        }
+    }
+
+    /**
+     * Blocks until every snapshot submitted so far has been written.
+     *
+     * @throws IOException if a write failed and the failure has not been polled yet.
+     */
+    public void flush() throws IOException {
+        awaitPendingWrites();
+        Optional<IOException> failure = pollFailure();
+        if (failure.isPresent()) {
+            throw failure.get();
+        }
+    }
+
+    /**
+     * Writes every pending snapshot, then stops the background thread. No snapshots may be submitted afterwards.
+     *
+     * @throws IOException if a write failed and the failure has not been polled yet.
+     */
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    private void writePendingSnapshot() {
+        ReadOnlyRealodex snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            storage.saveRealodex(snapshot);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save Realodex in the background: " + StringUtil.getDetails(ioe));
+            lastFailure.set(ioe);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package seedu.realodex.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.realodex.commons.exceptions.IllegalValueException;
+import seedu.realodex.model.Realodex;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Encodes and decodes the binary Realodex data format.
+ * <p>
+ * The file starts with a fixed header: the magic bytes {@code RDXB}, a 2-byte format version, 2 bytes of flags,
+ * the 8-byte length of the body and the CRC-32 of the body, all big-endian. The body holds a string table of the
+ * values that repeat across persons (housing types, tags and comma-separated address fragments), followed by the
+ * persons. Each person is a length-prefixed record of its fields, where repeated values are indices into the string
+ * table. Counts, lengths and indices are unsigned variable-length integers.
+ */
+class BinaryRealodexCodec {
+
+    static final byte[] MAGIC = {'R', 'D', 'X', 'B'};
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_LENGTH = 20;
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    static final String MESSAGE_NOT_BINARY = "File is not in the binary Realodex format";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary Realodex format version %d";
+    static final String MESSAGE_CORRUPTED = "Binary Realodex data is truncated or corrupted";
+
+    private static final String ADDRESS_FRAGMENT_SEPARATOR = ", ";
+
+    private BinaryRealodexCodec() {}
+
+    /**
+     * Returns true if {@code file} starts with the magic bytes of the binary format.
+     */
+    static boolean isBinaryFile(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] start = in.readNBytes(MAGIC.length);
+            return Arrays.equals(MAGIC, start);
+        }
+    }
+
+    /**
+     * Writes {@code persons} in the binary format to {@code channel}, starting at its current position, which must
+     * be 0. The channel is not closed.
+     */
+    static void encode(List<Person> persons, FileChannel channel) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(channel);
+
+        Map<String, Integer> stringTable = buildStringTable(persons);
+
+        channel.write(ByteBuffer.allocate(HEADER_LENGTH));
+        CRC32 crc = new CRC32();
+        OutputStream out = new CheckedOutputStream(
+                new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE), crc);
+
+        writeVarInt(out, stringTable.size());
+        for (String value : stringTable.keySet()) {
+            writeString(out, value);
+        }
+
+        writeVarInt(out, persons.size());
+        ByteArrayOutputStream record = new ByteArrayOutputStream(256);
+        for (Person person : persons) {
+            record.reset();
+            writeRecord(record, new JsonAdaptedPerson(person), stringTable);
+            writeVarInt(out, record.size());
+            record.writeTo(out);
+        }
+        out.flush();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).order(ByteOrder.BIG_ENDIAN);
+        header.put(MAGIC);
+        header.putShort((short) FORMAT_VERSION);
+        header.putShort((short) 0);
+        header.putLong(channel.position() - HEADER_LENGTH);
+        header.putInt((int) crc.getValue());
+        header.flip();
+        channel.write(header, 0);
+    }
+
+    /**
+     * Decodes a Realodex from {@code buffer}, from its current position to its limit.
+     * The position of {@code buffer} is left unchanged.
+     *
+     * @throws IOException if the data is not in a supported binary format, or is truncated or corrupted.
+     * @throws IllegalValueException if a person violates the data constraints, or persons are duplicated.
+     */
+    static Realodex decode(ByteBuffer buffer) throws IOException, IllegalValueException {
+        return decode(buffer, PersonLoader.strict());
+    }
+
+    /**
+     * Similar to {@link #decode(ByteBuffer)}, but loads each person with {@code personLoader}.
+     */
+    static Realodex decode(ByteBuffer buffer, PersonLoader personLoader) throws IOException, IllegalValueException {
+        requireNonNull(buffer);
+        requireNonNull(personLoader);
+        ByteBuffer in = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        try {
+            checkHeader(in);
+
+            String[] strings = new String[readLength(in)];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = readString(in);
+            }
+
+            int personCount = readLength(in);
+            for (int i = 0; i < personCount; i++) {
+                int recordLength = readLength(in);
+                int recordEnd = in.position() + recordLength;
+                JsonAdaptedPerson person = readRecord(in, strings);
+                if (in.position() > recordEnd) {
+                    throw new IOException(MESSAGE_CORRUPTED);
+                }
+                // fields added by later minor revisions of a record are skipped
+                in.position(recordEnd);
+                personLoader.load(person);
+            }
+            return personLoader.finish();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException(MESSAGE_CORRUPTED, e);
+        }
+    }
+
+    private static void checkHeader(ByteBuffer in) throws IOException {
+        if (in.remaining() < HEADER_LENGTH) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        byte[] magic = new byte[MAGIC.length];
+        in.get(magic);
+        if (!Arrays.equals(MAGIC, magic)) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        int version = in.getShort() & 0xFFFF;
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        in.getShort(); // flags, none defined yet
+        long bodyLength = in.getLong();
+        int expectedCrc = in.getInt();
+        if (bodyLength != in.remaining()) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(in.duplicate());
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    private static Map<String, Integer> buildStringTable(List<Person> persons) {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Person person : persons) {
+            JsonAdaptedPerson adapted = new JsonAdaptedPerson(person);
+            addToStringTable(stringTable, adapted.getHousingType());
+            adapted.getTagNames().forEach(tagName -> addToStringTable(stringTable, tagName));
+            for (String fragment : splitAddress(adapted.getAddress())) {
+                addToStringTable(stringTable, fragment);
+            }
+        }
+        return stringTable;
+    }
+
+    private static void addToStringTable(Map<String, Integer> stringTable, String value) {
+        stringTable.putIfAbsent(value, stringTable.size());
+    }
+
+    private static String[] splitAddress(String address) {
+        return address.split(ADDRESS_FRAGMENT_SEPARATOR, -1);
+    }
+
+    private static void writeRecord(OutputStream out, JsonAdaptedPerson person, Map<String, Integer> stringTable)
+            throws IOException {
+        writeString(out, person.getName());
+        writeString(out, person.getPhone());
+        writeString(out, person.getIncome());
+        writeString(out, person.getEmail());
+        String[] addressFragments = splitAddress(person.getAddress());
+        writeVarInt(out, addressFragments.length);
+        for (String fragment : addressFragments) {
+            writeVarInt(out, stringTable.get(fragment));
+        }
+        writeString(out, person.getFamily());
+        List<String> tagNames = person.getTagNames();
+        writeVarInt(out, tagNames.size());
+        for (String tagName : tagNames) {
+            writeVarInt(out, stringTable.get(tagName));
+        }
+        writeVarInt(out, stringTable.get(person.getHousingType()));
+        writeString(out, person.getRemark());
+        writeString(out, person.getBirthday());
+    }
+
+    private static JsonAdaptedPerson readRecord(ByteBuffer in, String[] strings) throws IOException {
+        String name = readString(in);
+        String phone = readString(in);
+        String income = readString(in);
+        String email = readString(in);
+        String[] addressFragments = new String[readLength(in)];
+        for (int i = 0; i < addressFragments.length; i++) {
+            addressFragments[i] = strings[readVarInt(in)];
+        }
+        String family = readString(in);
+        int tagCount = readLength(in);
+        List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(strings[readVarInt(in)]));
+        }
+        String housingType = strings[readVarInt(in)];
+        String remark = readString(in);
+        String birthday = readString(in);
+        return new JsonAdaptedPerson(name, phone, income, email,
+                String.join(ADDRESS_FRAGMENT_SEPARATOR, addressFragments), family, tags, housingType, remark,
+                birthday);
+    }
+
+    private static void writeString(OutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) throws IOException {
+        int length = readLength(in);
+        if (in.hasArray()) {
+            String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+            return value;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(OutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    /**
+     * Reads a length or a count of the values that follow, each of which takes at least one byte, and checks that
+     * the rest of {@code in} can hold them before anything is allocated for them.
+     */
+    private static int readLength(ByteBuffer in) throws IOException {
+        int length = readVarInt(in);
+        if (length < 0 || length > in.remaining()) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        return length;
+    }
+
+    private static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Variable-length integer is too long");
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.realodex.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import seedu.realodex.commons.core.Config;
+import seedu.realodex.commons.core.LogsCenter;
+import seedu.realodex.commons.exceptions.DataLoadingException;
+import seedu.realodex.commons.exceptions.IllegalValueException;
+import seedu.realodex.commons.util.FileUtil;
+import seedu.realodex.model.ReadOnlyRealodex;
+import seedu.realodex.model.person.Person;
+
+/**
+ * A class to access Realodex data stored in the compact binary format described in {@link BinaryRealodexCodec}.
+ * A data file that is still in the json format is read as json, so that switching an existing data file to the
+ * binary format only takes effect on the next save.
+ * Data files of at least the mapped read threshold are decoded straight from a memory-mapped region of the file
+ * instead of from a copy of the file on the heap.
+ * If validation is deferred, persons are loaded with only the checks done by the model itself, and the rest of
+ * the data constraints are checked on a background thread afterwards, as described in {@link DeferredPersonValidator}.
+ * If loading is parallel, persons are converted on several threads, as described in {@link PersonLoader}.
+ */
+public class BinaryRealodexStorage implements RealodexStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryRealodexStorage.class);
+
+    private Path filePath;
+    private final long mappedReadThresholdBytes;
+    private final boolean isValidationDeferred;
+    private final boolean isLoadParallel;
+    private CompletableFuture<Map<Person, String>> deferredValidation = CompletableFuture.completedFuture(Map.of());
+
+    public BinaryRealodexStorage(Path filePath) {
+        this(filePath, Config.DEFAULT_MAPPED_READ_THRESHOLD_BYTES, false, false);
+    }
+
+    /**
+     * Creates a storage for {@code filePath} that memory-maps data files of at least {@code mappedReadThresholdBytes}
+     * bytes when reading them. Part of the validation of loaded persons is deferred to a background thread if
+     * {@code isValidationDeferred} is true, and loaded persons are converted in parallel if {@code isLoadParallel}
+     * is true.
+     */
+    public BinaryRealodexStorage(Path filePath, long mappedReadThresholdBytes, boolean isValidationDeferred,
+            boolean isLoadParallel) {
+        this.filePath = filePath;
+        this.mappedReadThresholdBytes = mappedReadThresholdBytes;
+        this.isValidationDeferred = isValidationDeferred;
+        this.isLoadParallel = isLoadParallel;
+    }
+
+    public Path getRealodexFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyRealodex> readRealodex() throws DataLoadingException {
+        return readRealodex(filePath);
+    }
+
+    /**
+     * Similar to {@link #readRealodex()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyRealodex> readRealodex(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Data file " + filePath + " found.");
+
+        try {
+            if (!isValidationDeferred) {
+                return Optional.of(readFile(filePath, mappedReadThresholdBytes,
+                        new PersonLoader(PersonConverter.STRICT, isLoadParallel)));
+            }
+            DeferredPersonValidator validator = new DeferredPersonValidator();
+            ReadOnlyRealodex realodex = readFile(filePath, mappedReadThresholdBytes,
+                    new PersonLoader(validator, isLoadParallel));
+            deferredValidation = validator.validateInBackground();
+            return Optional.of(realodex);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the Realodex in {@code filePath}, which may be in either the binary or the json format.
+     * A binary file of at least {@code mappedReadThresholdBytes} bytes is memory-mapped, and unmapped once it has
+     * been decoded, so that it can be replaced by the next save.
+     * Each person is loaded into the model with {@code personLoader}.
+     */
+    static ReadOnlyRealodex readFile(Path filePath, long mappedReadThresholdBytes, PersonLoader personLoader)
+            throws IOException, IllegalValueException {
+        if (!BinaryRealodexCodec.isBinaryFile(filePath)) {
+            return JsonRealodexStreamReader.read(filePath, personLoader);
+        }
+        ByteBuffer buffer = FileUtil.readToBuffer(filePath, mappedReadThresholdBytes);
+        try {
+            // decoding copies every value onto the heap, so nothing refers to the buffer once it returns
+            return BinaryRealodexCodec.decode(buffer, personLoader);
+        } finally {
+            try {
+                FileUtil.release(buffer);
+            } catch (IOException ioe) {
+                // the data has been read, and the mapping is released once the buffer is garbage collected
+                logger.warning("Could not unmap data file " + filePath + ": " + ioe);
+            }
+        }
+    }
+
+    @Override
+    public Map<Person, String> awaitInvalidPersons() {
+        return deferredValidation.join();
+    }
+
+    @Override
+    public void saveRealodex(ReadOnlyRealodex realodex) throws IOException {
+        saveRealodex(realodex, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveRealodex(ReadOnlyRealodex)}.
+     * The file is replaced atomically.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveRealodex(ReadOnlyRealodex realodex, Path filePath) throws IOException {
+        requireNonNull(realodex);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, channel -> BinaryRealodexCodec.encode(realodex.getPersonList(), channel));
+    }
+}
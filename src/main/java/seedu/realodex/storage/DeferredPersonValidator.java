@@ -0,0 +1,72 @@
+package seedu.realodex.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import seedu.realodex.commons.core.LogsCenter;
+import seedu.realodex.commons.exceptions.IllegalValueException;
+import seedu.realodex.model.person.Person;
+
+/**
+ * A {@code PersonConverter} that only enforces the data constraints checked by the model's own constructors while
+ * loading, and checks the remaining constraints of the loaded persons afterwards on a background thread.
+ * <p>
+ * Only the converted persons are kept until they are checked, so each {@code JsonAdaptedPerson} can be dropped as
+ * soon as it is converted. The persons found to violate a constraint are already in the loaded data by then, so they
+ * are returned for the caller to reject, as described in {@link RealodexStorage#awaitInvalidPersons()}.
+ */
+class DeferredPersonValidator implements PersonConverter {
+
+    static final String MESSAGE_VIOLATION = "Person %s violates a data constraint: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(DeferredPersonValidator.class);
+
+    // persons may be converted concurrently when loading in parallel
+    private final List<Person> converted = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public Person convert(JsonAdaptedPerson person) throws IllegalValueException {
+        Person modelPerson = person.toModelTypeDeferringChecks();
+        converted.add(modelPerson);
+        return modelPerson;
+    }
+
+    /**
+     * Starts checking every person converted so far against all of the data constraints on a background thread.
+     *
+     * @return a future that completes with the persons that violate a constraint, in the order they were converted,
+     *     each with a message describing the violation.
+     */
+    CompletableFuture<Map<Person, String>> validateInBackground() {
+        List<Person> toValidate;
+        synchronized (converted) {
+            toValidate = new ArrayList<>(converted);
+            converted.clear();
+        }
+        return CompletableFuture.supplyAsync(() -> validate(toValidate), runnable -> {
+            Thread thread = new Thread(runnable, "realodex-validator");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    private static Map<Person, String> validate(List<Person> persons) {
+        Map<Person, String> violations = new LinkedHashMap<>();
+        for (Person person : persons) {
+            try {
+                new JsonAdaptedPerson(person).checkConstraints();
+            } catch (IllegalValueException ive) {
+                String violation = String.format(MESSAGE_VIOLATION, person.getName(), ive.getMessage());
+                logger.warning(violation);
+                violations.put(person, violation);
+            }
+        }
+        logger.info("Background validation of " + persons.size() + " persons finished");
+        return Collections.unmodifiableMap(violations);
+    }
+}
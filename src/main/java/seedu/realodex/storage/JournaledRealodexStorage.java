@@ -0,0 +1,495 @@
+package seedu.realodex.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.realodex.commons.core.LogsCenter;
+import seedu.realodex.commons.exceptions.DataLoadingException;
+import seedu.realodex.commons.exceptions.IllegalValueException;
+import seedu.realodex.commons.util.FileUtil;
+import seedu.realodex.commons.util.JsonUtil;
+import seedu.realodex.model.ReadOnlyRealodex;
+import seedu.realodex.model.Realodex;
+import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access Realodex data stored as a json snapshot plus an append-only journal on the hard disk.
+ * <p>
+ * Each save is compared with the data last persisted by this storage. A single added, edited or deleted person is
+ * appended to the journal as one compact line, so the cost of a save grows with the change rather than with the
+ * book. Any other change, such as a sort, is written as a fresh snapshot. The journal is fsync-ed once every
+ * {@value #SYNC_BATCH_SIZE} entries or {@value #SYNC_INTERVAL_MILLIS}ms, whichever comes first, and is folded into
+ * a new snapshot in the background once it grows past the compaction threshold.
+ * <p>
+ * The snapshot has the same format as the one written by {@link JsonRealodexStorage}, with an extra
+ * {@code journalSequence} field recording the last journal entry it includes. Reading the data replays the journal
+ * entries after that sequence number on top of the snapshot.
+ */
+public class JournaledRealodexStorage implements RealodexStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+
+    static final int SYNC_BATCH_SIZE = 32;
+    static final long SYNC_INTERVAL_MILLIS = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledRealodexStorage.class);
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final long compactionThresholdBytes;
+    private final ScheduledExecutorService background = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "realodex-journal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by this. persistedPersons is null until the data file has been read or written by this storage.
+    private List<Person> persistedPersons;
+    private long sequence;
+    private FileChannel journalChannel;
+    private long journalSize;
+    private int unsyncedEntries;
+    private boolean isSyncScheduled;
+    private boolean isCompactionScheduled;
+
+    // Guarded by snapshotLock, which is never held while waiting for this.
+    private final Object snapshotLock = new Object();
+    private long snapshotSequence;
+    private Future<?> pendingCompaction;
+
+    public JournaledRealodexStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Creates a storage that compacts its journal once it is at least {@code compactionThresholdBytes} long.
+     */
+    public JournaledRealodexStorage(Path filePath, long compactionThresholdBytes) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalPath = journalPathOf(filePath);
+        this.compactionThresholdBytes = compactionThresholdBytes;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path journalPathOf(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getRealodexFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyRealodex> readRealodex() throws DataLoadingException {
+        return readRealodex(filePath);
+    }
+
+    /**
+     * Similar to {@link #readRealodex()}.
+     * Only data read from this storage's own file path is used as the base for later incremental saves.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyRealodex> readRealodex(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path journal = journalPathOf(filePath);
+        if (!Files.exists(filePath) && !Files.exists(journal)) {
+            return Optional.empty();
+        }
+
+        try {
+            long[] snapshotSequenceRead = {0};
+            List<Person> persons = new ArrayList<>();
+            if (Files.exists(filePath)) {
+                persons.addAll(JsonRealodexStreamReader.read(filePath, seq -> snapshotSequenceRead[0] = seq)
+                        .getPersonList());
+            }
+            JournalReplay replay = replayJournal(journal, snapshotSequenceRead[0], persons);
+
+            Realodex realodex = new Realodex();
+            realodex.setPersons(persons);
+            if (filePath.equals(this.filePath)) {
+                adopt(persons, snapshotSequenceRead[0], replay);
+            }
+            return Optional.of(realodex);
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + e.getMessage());
+            throw new DataLoadingException(e);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Duplicate persons found in " + filePath + " or its journal");
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableRealodex.MESSAGE_DUPLICATE_PERSON));
+        }
+    }
+
+    @Override
+    public void saveRealodex(ReadOnlyRealodex realodex) throws IOException {
+        saveRealodex(realodex, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveRealodex(ReadOnlyRealodex)}.
+     * Saves to a path other than this storage's own file path are written as plain snapshots without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveRealodex(ReadOnlyRealodex realodex, Path filePath) throws IOException {
+        requireNonNull(realodex);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            FileUtil.createIfMissing(filePath);
+            JsonRealodexStreamWriter.write(realodex, filePath);
+            return;
+        }
+        save(realodex.getPersonList());
+    }
+
+    /**
+     * Blocks until the background work queued so far, such as compaction, has finished.
+     *
+     * @throws ExecutionException if the last compaction failed with an unexpected exception.
+     */
+    void awaitBackgroundTasks() throws InterruptedException, ExecutionException {
+        background.submit(() -> { }).get();
+        Future<?> compaction;
+        synchronized (this) {
+            compaction = pendingCompaction;
+        }
+        if (compaction != null) {
+            compaction.get();
+        }
+    }
+
+    private synchronized void save(List<Person> persons) throws IOException {
+        if (persistedPersons == null) {
+            writeFullSnapshot(persons);
+            return;
+        }
+
+        ListChange change = ListChange.between(persistedPersons, persons);
+        if (change.isEmpty()) {
+            return;
+        }
+        if (!change.isSingleChange()) {
+            writeFullSnapshot(persons);
+            return;
+        }
+
+        int index = change.index;
+        try {
+            if (change.inserted == 0) {
+                append(JsonAdaptedJournalEntry.delete(sequence + 1, index));
+                persistedPersons.remove(index);
+            } else if (change.removed == 0) {
+                append(JsonAdaptedJournalEntry.add(sequence + 1, index, persons.get(index)));
+                persistedPersons.add(index, persons.get(index));
+            } else {
+                append(JsonAdaptedJournalEntry.set(sequence + 1, index, persons.get(index)));
+                persistedPersons.set(index, persons.get(index));
+            }
+        } catch (IOException ioe) {
+            // the journal may now end with a partial entry, so fall back to a full snapshot on the next save
+            persistedPersons = null;
+            throw ioe;
+        }
+
+        if (journalSize >= compactionThresholdBytes && !isCompactionScheduled) {
+            scheduleCompaction();
+        }
+    }
+
+    private void append(JsonAdaptedJournalEntry entry) throws IOException {
+        byte[] line = (JsonUtil.toCompactJsonString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+        FileChannel channel = openJournal();
+        ByteBuffer buffer = ByteBuffer.wrap(line);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        sequence = entry.getSeq();
+        journalSize += line.length;
+
+        unsyncedEntries++;
+        if (unsyncedEntries >= SYNC_BATCH_SIZE) {
+            syncJournal();
+        } else if (!isSyncScheduled) {
+            isSyncScheduled = true;
+            background.schedule(this::syncJournalQuietly, SYNC_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private FileChannel openJournal() throws IOException {
+        if (journalChannel == null) {
+            FileUtil.createParentDirsOfFile(journalPath);
+            journalChannel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            journalChannel.position(journalChannel.size());
+        }
+        return journalChannel;
+    }
+
+    private void syncJournal() throws IOException {
+        if (journalChannel != null && unsyncedEntries > 0) {
+            journalChannel.force(false);
+        }
+        unsyncedEntries = 0;
+    }
+
+    private synchronized void syncJournalQuietly() {
+        isSyncScheduled = false;
+        try {
+            syncJournal();
+        } catch (IOException ioe) {
+            logger.warning("Failed to sync journal " + journalPath + ": " + ioe);
+        }
+    }
+
+    /**
+     * Writes {@code persons} as a new snapshot and empties the journal.
+     */
+    private void writeFullSnapshot(List<Person> persons) throws IOException {
+        List<Person> snapshot = new ArrayList<>(persons);
+        long snapshotSeq = sequence + 1;
+        synchronized (snapshotLock) {
+            writeSnapshotFile(snapshot, snapshotSeq);
+            snapshotSequence = snapshotSeq;
+        }
+        sequence = snapshotSeq;
+        persistedPersons = snapshot;
+        rewriteJournal(snapshotSeq);
+    }
+
+    private void scheduleCompaction() {
+        isCompactionScheduled = true;
+        List<Person> snapshot = new ArrayList<>(persistedPersons);
+        long snapshotSeq = sequence;
+        pendingCompaction = background.submit(() -> compact(snapshot, snapshotSeq));
+    }
+
+    private void compact(List<Person> snapshot, long snapshotSeq) {
+        try {
+            synchronized (snapshotLock) {
+                if (snapshotSeq > snapshotSequence) {
+                    writeSnapshotFile(snapshot, snapshotSeq);
+                    snapshotSequence = snapshotSeq;
+                }
+            }
+            synchronized (this) {
+                // a full snapshot written since the compaction was scheduled has already emptied the journal
+                if (snapshotSequence > snapshotSeq) {
+                    return;
+                }
+                rewriteJournal(snapshotSeq);
+            }
+            logger.fine("Compacted journal " + journalPath + " up to entry " + snapshotSeq);
+        } catch (IOException ioe) {
+            logger.warning("Failed to compact journal " + journalPath + ": " + ioe);
+        } finally {
+            synchronized (this) {
+                isCompactionScheduled = false;
+            }
+        }
+    }
+
+    private void writeSnapshotFile(List<Person> persons, long snapshotSeq) throws IOException {
+        JsonRealodexStreamWriter.write(persons, filePath, OptionalLong.of(snapshotSeq));
+    }
+
+    /**
+     * Replaces the journal with one holding only the entries after {@code snapshotSeq}.
+     * The journal ends with the entries up to {@link #sequence} in order, so they are kept by counting lines from
+     * the end rather than by parsing them, and the journal is simply emptied if the snapshot includes every entry.
+     */
+    private void rewriteJournal(long snapshotSeq) throws IOException {
+        List<byte[]> keptLines = new ArrayList<>();
+        long keptSize = 0;
+        long keptEntries = sequence - snapshotSeq;
+        if (keptEntries > 0 && Files.exists(journalPath)) {
+            List<byte[]> lines = splitLines(Files.readAllBytes(journalPath)).lines;
+            assert keptEntries <= lines.size();
+            for (byte[] line : lines.subList(lines.size() - (int) keptEntries, lines.size())) {
+                keptLines.add(line);
+                keptSize += line.length + 1;
+            }
+        }
+
+        closeJournal();
+        FileUtil.writeAtomically(journalPath, channel -> {
+            for (byte[] line : keptLines) {
+                channel.write(ByteBuffer.wrap(line));
+                channel.write(ByteBuffer.wrap(new byte[] {'\n'}));
+            }
+        });
+        journalSize = keptSize;
+    }
+
+    private void closeJournal() throws IOException {
+        if (journalChannel != null) {
+            journalChannel.close();
+            journalChannel = null;
+        }
+        unsyncedEntries = 0;
+    }
+
+    private synchronized void adopt(List<Person> persons, long snapshotSeq, JournalReplay replay)
+            throws IOException {
+        closeJournal();
+        if (Files.exists(journalPath) && Files.size(journalPath) > replay.validLength) {
+            logger.warning("Discarding incomplete last entry of journal " + journalPath);
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(replay.validLength);
+            }
+        }
+        synchronized (snapshotLock) {
+            snapshotSequence = snapshotSeq;
+        }
+        persistedPersons = new ArrayList<>(persons);
+        sequence = replay.lastSequence;
+        journalSize = replay.validLength;
+    }
+
+    /**
+     * Applies the entries of {@code journal} after {@code snapshotSeq} to {@code persons}.
+     * An incomplete last line, as left by a crash during an append, is ignored.
+     */
+    private static JournalReplay replayJournal(Path journal, long snapshotSeq, List<Person> persons)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journal)) {
+            return new JournalReplay(snapshotSeq, 0);
+        }
+
+        SplitLines split = splitLines(Files.readAllBytes(journal));
+        long lastSequence = snapshotSeq;
+        for (byte[] line : split.lines) {
+            JsonAdaptedJournalEntry entry = parseEntry(line);
+            if (entry.getSeq() <= snapshotSeq) {
+                continue;
+            }
+            if (entry.getSeq() != lastSequence + 1) {
+                throw new IOException("Journal " + journal + " is missing entries before entry " + entry.getSeq());
+            }
+            entry.applyTo(persons);
+            lastSequence = entry.getSeq();
+        }
+        return new JournalReplay(lastSequence, split.terminatedLength);
+    }
+
+    private static JsonAdaptedJournalEntry parseEntry(byte[] line) throws IOException {
+        return JsonUtil.fromJsonString(new String(line, StandardCharsets.UTF_8), JsonAdaptedJournalEntry.class);
+    }
+
+    /**
+     * Splits {@code bytes} into its newline-terminated lines, dropping any unterminated tail.
+     */
+    private static SplitLines splitLines(byte[] bytes) {
+        List<byte[]> lines = new ArrayList<>();
+        int lineStart = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                if (i > lineStart) {
+                    byte[] line = new byte[i - lineStart];
+                    System.arraycopy(bytes, lineStart, line, 0, line.length);
+                    lines.add(line);
+                }
+                lineStart = i + 1;
+            }
+        }
+        return new SplitLines(lines, lineStart);
+    }
+
+    /**
+     * The contiguous range of persons that differs between two lists, comparing persons by reference.
+     */
+    private static class ListChange {
+        private final int index;
+        private final int removed;
+        private final int inserted;
+
+        private ListChange(int index, int removed, int inserted) {
+            this.index = index;
+            this.removed = removed;
+            this.inserted = inserted;
+        }
+
+        /**
+         * Returns the change that turns {@code before} into {@code after}, found by trimming their common prefix
+         * and suffix.
+         */
+        static ListChange between(List<Person> before, List<Person> after) {
+            int commonLength = Math.min(before.size(), after.size());
+            int prefix = 0;
+            while (prefix < commonLength && before.get(prefix) == after.get(prefix)) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < commonLength - prefix
+                    && before.get(before.size() - 1 - suffix) == after.get(after.size() - 1 - suffix)) {
+                suffix++;
+            }
+            return new ListChange(prefix, before.size() - prefix - suffix, after.size() - prefix - suffix);
+        }
+
+        boolean isEmpty() {
+            return removed == 0 && inserted == 0;
+        }
+
+        /**
+         * Returns true if the change is a single add, edit or delete of a person.
+         */
+        boolean isSingleChange() {
+            return removed <= 1 && inserted <= 1;
+        }
+    }
+
+    /**
+     * Lines of a journal file, and the length of the file up to the end of its last complete line.
+     */
+    private static class SplitLines {
+        private final List<byte[]> lines;
+        private final long terminatedLength;
+
+        SplitLines(List<byte[]> lines, long terminatedLength) {
+            this.lines = lines;
+            this.terminatedLength = terminatedLength;
+        }
+    }
+
+    /**
+     * Outcome of replaying a journal.
+     */
+    private static class JournalReplay {
+        private final long lastSequence;
+        private final long validLength;
+
+        JournalReplay(long lastSequence, long validLength) {
+            this.lastSequence = lastSequence;
+            this.validLength = validLength;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.realodex.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.realodex.commons.exceptions.IllegalValueException;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Jackson-friendly record of a single change to the person list, as stored in a journal.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_INVALID_INDEX = "Journal entry %d refers to a person index out of range.";
+
+    /**
+     * Kinds of change that can be journaled.
+     */
+    enum Operation {
+        ADD, SET, DELETE
+    }
+
+    private final long seq;
+    private final Operation op;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("seq") long seq, @JsonProperty("op") Operation op,
+                                   @JsonProperty("index") Integer index,
+                                   @JsonProperty("person") JsonAdaptedPerson person) {
+        this.seq = seq;
+        this.op = op;
+        this.index = index;
+        this.person = person;
+    }
+
+    /**
+     * Creates an entry that inserts {@code person} at {@code index}.
+     */
+    static JsonAdaptedJournalEntry add(long seq, int index, Person person) {
+        return new JsonAdaptedJournalEntry(seq, Operation.ADD, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Creates an entry that replaces the person at {@code index} with {@code person}.
+     */
+    static JsonAdaptedJournalEntry set(long seq, int index, Person person) {
+        return new JsonAdaptedJournalEntry(seq, Operation.SET, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Creates an entry that removes the person at {@code index}.
+     */
+    static JsonAdaptedJournalEntry delete(long seq, int index) {
+        return new JsonAdaptedJournalEntry(seq, Operation.DELETE, index, null);
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    /**
+     * Applies this change to {@code persons}.
+     * Uniqueness of the resulting list is not checked here.
+     *
+     * @throws IllegalValueException if this entry is incomplete, refers to an index out of range, or holds an
+     *     invalid person.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "op"));
+        }
+        if (index == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+        }
+        int position = index;
+        int upperBound = op == Operation.ADD ? persons.size() : persons.size() - 1;
+        if (position < 0 || position > upperBound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, seq));
+        }
+        if (op == Operation.DELETE) {
+            persons.remove(position);
+            return;
+        }
+
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        Person modelPerson = person.toModelType();
+        if (op == Operation.ADD) {
+            persons.add(position, modelPerson);
+        } else {
+            persons.set(position, modelPerson);
+        }
+    }
+}
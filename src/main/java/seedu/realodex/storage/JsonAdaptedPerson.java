@@ -87,86 +87,145 @@ class JsonAdaptedPerson {
         birthday = source.getBirthday().toString();
     }
 
+    String getName() {
+        return name;
+    }
+
+    String getPhone() {
+        return phone;
+    }
+
+    String getIncome() {
+        return income;
+    }
+
+    String getEmail() {
+        return email;
+    }
+
+    String getAddress() {
+        return address;
+    }
+
+    String getFamily() {
+        return family;
+    }
+
+    List<String> getTagNames() {
+        return tags.stream().map(JsonAdaptedTag::getTagName).collect(Collectors.toList());
+    }
+
+    String getHousingType() {
+        return housingType;
+    }
+
+    String getRemark() {
+        return remark;
+    }
+
+    String getBirthday() {
+        return birthday;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
-        final List<Tag> personTags = new ArrayList<>();
-        for (JsonAdaptedTag tag : tags) {
-            personTags.add(tag.toModelType());
+        checkConstraints();
+        return createPerson();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, enforcing only
+     * the constraints that the model's constructors check themselves. The remaining constraints, such as the range
+     * of the birthday, are left to a later call to {@link #checkConstraints()}.
+     *
+     * @throws IllegalValueException if a field is missing or violates a constraint enforced by the model.
+     */
+    Person toModelTypeDeferringChecks() throws IllegalValueException {
+        requirePresent(name, Name.class);
+        requirePresent(phone, Phone.class);
+        requirePresent(income, Income.class);
+        requirePresent(email, Email.class);
+        requirePresent(address, Address.class);
+        requirePresent(family, Family.class);
+        requirePresent(housingType, HousingType.class);
+        requirePresent(birthday, Birthday.class);
+        try {
+            return createPerson();
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage());
         }
+    }
 
-        if (name == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+    /**
+     * Checks that every field of this adapted person is present and satisfies the data constraints.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    void checkConstraints() throws IllegalValueException {
+        for (JsonAdaptedTag tag : tags) {
+            if (!Tag.isValidTagName(tag.getTagName())) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
         }
+
+        requirePresent(name, Name.class);
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
 
-        if (phone == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
-        }
+        requirePresent(phone, Phone.class);
         if (!Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
 
-        if (income == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Income.class.getSimpleName()));
-        }
+        requirePresent(income, Income.class);
         if (!Income.isValidIncome(income)) {
             throw new IllegalValueException(Income.MESSAGE_CONSTRAINTS);
         }
-        final Income modelIncome = new Income(income);
 
-        if (email == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
-        }
+        requirePresent(email, Email.class);
         if (!Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
 
-        if (address == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
-        }
+        requirePresent(address, Address.class);
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
 
-        if (family == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Family.class.getSimpleName()));
-        }
+        requirePresent(family, Family.class);
         if (!Family.isValidFamily(family)) {
             throw new IllegalValueException(Family.MESSAGE_CONSTRAINTS);
         }
-        final Family modelFamily = new Family(family);
-
-        final Set<Tag> modelTags = new HashSet<>(personTags);
 
-        if (housingType == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                                                          HousingType.class.getSimpleName()));
-        }
+        requirePresent(housingType, HousingType.class);
         if (!HousingType.isValidHousingType(housingType)) {
             throw new IllegalValueException(HousingType.MESSAGE_CONSTRAINTS);
         }
-        final HousingType modelHousingType = new HousingType(housingType);
 
-        final Remark modelRemark = new Remark(remark);
-        if (birthday == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                                                          Birthday.class.getSimpleName()));
-        }
+        requirePresent(birthday, Birthday.class);
         if (!Birthday.isValidBirthday(birthday)) {
             throw new IllegalValueException(Birthday.MESSAGE_CONSTRAINTS);
         }
-        final Birthday modelBirthday = new Birthday(birthday);
-        return new Person(modelName, modelPhone, modelIncome, modelEmail, modelAddress, modelFamily,
-                modelTags, modelHousingType, modelRemark, modelBirthday);
+    }
+
+    private static void requirePresent(String value, Class<?> fieldType) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldType.getSimpleName()));
+        }
+    }
+
+    private Person createPerson() {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(new Tag(tag.getTagName()));
+        }
+        return new Person(new Name(name), new Phone(phone), new Income(income), new Email(email), new Address(address),
+                new Family(family), modelTags, new HousingType(housingType), new Remark(remark),
+                new Birthday(birthday));
     }
 }
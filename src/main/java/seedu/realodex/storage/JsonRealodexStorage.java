@@ -3,28 +3,58 @@ package seedu.realodex.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import seedu.realodex.commons.core.Config;
 import seedu.realodex.commons.core.LogsCenter;
 import seedu.realodex.commons.exceptions.DataLoadingException;
 import seedu.realodex.commons.exceptions.IllegalValueException;
 import seedu.realodex.commons.util.FileUtil;
-import seedu.realodex.commons.util.JsonUtil;
 import seedu.realodex.model.ReadOnlyRealodex;
+import seedu.realodex.model.person.Person;
 
 /**
  * A class to access Realodex data stored as a json file on the hard disk.
+ * Reads and writes are streamed person by person through {@link JsonRealodexStreamReader} and
+ * {@link JsonRealodexStreamWriter}.
+ * If validation is deferred, persons are loaded with only the checks done by the model itself, and the rest of
+ * the data constraints are checked on a background thread afterwards, as described in {@link DeferredPersonValidator}.
+ * If loading is parallel, persons are converted on several threads, as described in {@link PersonLoader}.
  */
 public class JsonRealodexStorage implements RealodexStorage {
 
+    /** Number of previous versions of the data file kept alongside it. */
+    public static final int MAX_BACKUPS = 3;
+
     private static final Logger logger = LogsCenter.getLogger(JsonRealodexStorage.class);
 
     private Path filePath;
+    private final long mappedReadThresholdBytes;
+    private final boolean isValidationDeferred;
+    private final boolean isLoadParallel;
+    private CompletableFuture<Map<Person, String>> deferredValidation = CompletableFuture.completedFuture(Map.of());
 
     public JsonRealodexStorage(Path filePath) {
+        this(filePath, Config.DEFAULT_MAPPED_READ_THRESHOLD_BYTES, false, false);
+    }
+
+    /**
+     * Creates a storage for {@code filePath} that defers part of the validation of loaded persons to a background
+     * thread if {@code isValidationDeferred} is true, and converts loaded persons in parallel if
+     * {@code isLoadParallel} is true. A data file last saved in the binary format is memory-mapped when read if it
+     * is at least {@code mappedReadThresholdBytes} bytes.
+     */
+    public JsonRealodexStorage(Path filePath, long mappedReadThresholdBytes, boolean isValidationDeferred,
+            boolean isLoadParallel) {
         this.filePath = filePath;
+        this.mappedReadThresholdBytes = mappedReadThresholdBytes;
+        this.isValidationDeferred = isValidationDeferred;
+        this.isLoadParallel = isLoadParallel;
     }
 
     public Path getRealodexFilePath() {
@@ -38,27 +68,65 @@ public class JsonRealodexStorage implements RealodexStorage {
 
     /**
      * Similar to {@link #readRealodex()}.
+     * If the file cannot be loaded, its backups are tried from the most recent one onwards.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * @throws DataLoadingException if loading the data from storage and from all of its backups failed.
      */
     public Optional<ReadOnlyRealodex> readRealodex(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableRealodex> jsonRealodex = JsonUtil.readJsonFile(
-                filePath, JsonSerializableRealodex.class);
-        if (!jsonRealodex.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
+
+        try {
+            return Optional.of(readFile(filePath));
+        } catch (DataLoadingException dle) {
+            for (int generation = 1; generation <= MAX_BACKUPS; generation++) {
+                Path backupPath = FileUtil.getBackupPath(filePath, generation);
+                if (!Files.exists(backupPath)) {
+                    continue;
+                }
+                try {
+                    ReadOnlyRealodex recovered = readFile(backupPath);
+                    logger.warning("Recovered data from backup " + backupPath);
+                    return Optional.of(recovered);
+                } catch (DataLoadingException backupDle) {
+                    logger.warning("Backup " + backupPath + " could not be loaded either");
+                }
+            }
+            throw dle;
+        }
+    }
 
+    private ReadOnlyRealodex readFile(Path filePath) throws DataLoadingException {
         try {
-            return Optional.of(jsonRealodex.get().toModelType());
+            // a data file last saved in the binary format is migrated back to json on the next save
+            if (!isValidationDeferred) {
+                return BinaryRealodexStorage.readFile(filePath, mappedReadThresholdBytes,
+                        new PersonLoader(PersonConverter.STRICT, isLoadParallel));
+            }
+            DeferredPersonValidator validator = new DeferredPersonValidator();
+            ReadOnlyRealodex realodex = BinaryRealodexStorage.readFile(filePath,
+                    mappedReadThresholdBytes, new PersonLoader(validator, isLoadParallel));
+            deferredValidation = validator.validateInBackground();
+            return realodex;
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    @Override
+    public Map<Person, String> awaitInvalidPersons() {
+        return deferredValidation.join();
+    }
+
     @Override
     public void saveRealodex(ReadOnlyRealodex realodex) throws IOException {
         saveRealodex(realodex, filePath);
@@ -66,6 +134,8 @@ public class JsonRealodexStorage implements RealodexStorage {
 
     /**
      * Similar to {@link #saveRealodex(ReadOnlyRealodex)}.
+     * The file is replaced atomically, after its current content is kept as the most recent of
+     * {@value #MAX_BACKUPS} rolling backups.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,7 +143,7 @@ public class JsonRealodexStorage implements RealodexStorage {
         requireNonNull(realodex);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableRealodex(realodex), filePath);
+        FileUtil.rotateBackups(filePath, MAX_BACKUPS);
+        JsonRealodexStreamWriter.write(realodex, filePath);
     }
 }
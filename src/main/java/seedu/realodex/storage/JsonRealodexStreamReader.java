@@ -0,0 +1,95 @@
+package seedu.realodex.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.realodex.commons.exceptions.IllegalValueException;
+import seedu.realodex.commons.util.JsonUtil;
+import seedu.realodex.model.Realodex;
+
+/**
+ * Reads a Realodex json file incrementally, converting each person into the model as soon as it is parsed.
+ * Only one {@code JsonAdaptedPerson} is alive at any time, so the peak memory used while loading is the model itself
+ * plus the parser's buffer, rather than the whole file, its adapted form and the model together.
+ */
+class JsonRealodexStreamReader {
+
+    static final String PERSONS_FIELD = "persons";
+    static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+
+    private JsonRealodexStreamReader() {}
+
+    /**
+     * Reads the Realodex stored at {@code filePath}, which must exist.
+     * Fields other than {@code persons} at the top level are skipped.
+     *
+     * @throws IOException if the file could not be read or is not in the expected json structure.
+     * @throws IllegalValueException if a person violates the data constraints, or persons are duplicated.
+     */
+    static Realodex read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, PersonLoader.strict());
+    }
+
+    /**
+     * Similar to {@link #read(Path)}, but loads each person with {@code personLoader}.
+     */
+    static Realodex read(Path filePath, PersonLoader personLoader) throws IOException, IllegalValueException {
+        return read(filePath, journalSequence -> { }, personLoader);
+    }
+
+    /**
+     * Similar to {@link #read(Path)}, but also passes the value of the {@code journalSequence} field, if present,
+     * to {@code journalSequenceConsumer}.
+     */
+    static Realodex read(Path filePath, LongConsumer journalSequenceConsumer)
+            throws IOException, IllegalValueException {
+        return read(filePath, journalSequenceConsumer, PersonLoader.strict());
+    }
+
+    private static Realodex read(Path filePath, LongConsumer journalSequenceConsumer, PersonLoader personLoader)
+            throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(journalSequenceConsumer);
+        requireNonNull(personLoader);
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName) && valueToken != JsonToken.VALUE_NULL) {
+                    expect(parser, valueToken, JsonToken.START_ARRAY);
+                    readPersons(parser, personLoader);
+                } else if (JOURNAL_SEQUENCE_FIELD.equals(fieldName) && valueToken == JsonToken.VALUE_NUMBER_INT) {
+                    journalSequenceConsumer.accept(parser.getLongValue());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+            return personLoader.finish();
+        }
+    }
+
+    private static void readPersons(JsonParser parser, PersonLoader personLoader)
+            throws IOException, IllegalValueException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expect(parser, token, JsonToken.START_OBJECT);
+            personLoader.load(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.realodex.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.realodex.storage.JsonRealodexStreamReader.JOURNAL_SEQUENCE_FIELD;
+import static seedu.realodex.storage.JsonRealodexStreamReader.PERSONS_FIELD;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalLong;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.realodex.commons.util.FileUtil;
+import seedu.realodex.commons.util.JsonUtil;
+import seedu.realodex.model.ReadOnlyRealodex;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Writes a Realodex to a json file incrementally, one person at a time, through a buffered file channel.
+ * The file is replaced atomically with {@link FileUtil#writeAtomically(Path, FileUtil.ChannelWriter)}.
+ * The output has the same structure as {@link JsonSerializableRealodex}, but neither that object nor the full
+ * document string is ever built, so the memory used by a save does not grow with the number of persons.
+ */
+class JsonRealodexStreamWriter {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private JsonRealodexStreamWriter() {}
+
+    /**
+     * Writes {@code realodex} to {@code filePath}, atomically replacing any existing content.
+     * Missing parent directories of {@code filePath} are created.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    static void write(ReadOnlyRealodex realodex, Path filePath) throws IOException {
+        requireNonNull(realodex);
+        write(realodex.getPersonList(), filePath, OptionalLong.empty());
+    }
+
+    /**
+     * Writes {@code persons} to {@code filePath} as a Realodex, atomically replacing any existing content.
+     * If {@code journalSequence} is present, it is recorded in the {@code journalSequence} field.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    static void write(List<Person> persons, Path filePath, OptionalLong journalSequence) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+        requireNonNull(journalSequence);
+
+        FileUtil.writeAtomically(filePath, channel -> writeTo(channel, persons, journalSequence));
+    }
+
+    private static void writeTo(FileChannel channel, List<Person> persons, OptionalLong journalSequence)
+            throws IOException {
+        // the channel is owned by the caller, so neither the stream nor the generator may close it
+        OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartObject();
+            if (journalSequence.isPresent()) {
+                generator.writeNumberField(JOURNAL_SEQUENCE_FIELD, journalSequence.getAsLong());
+            }
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : persons) {
+                JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,16 @@
+package seedu.realodex.storage;
+
+import seedu.realodex.commons.exceptions.IllegalValueException;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Converts a {@code JsonAdaptedPerson} read from storage into the model's {@code Person}.
+ */
+@FunctionalInterface
+interface PersonConverter {
+
+    /** Converts every person with all of its data constraints checked. */
+    PersonConverter STRICT = JsonAdaptedPerson::toModelType;
+
+    Person convert(JsonAdaptedPerson person) throws IllegalValueException;
+}
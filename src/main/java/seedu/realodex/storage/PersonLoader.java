@@ -0,0 +1,119 @@
+package seedu.realodex.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.realodex.commons.exceptions.IllegalValueException;
+import seedu.realodex.model.Realodex;
+import seedu.realodex.model.person.Person;
+
+/**
+ * Converts the persons read from storage into the model and adds them to a {@code Realodex} in the order they
+ * were read, rejecting duplicates.
+ * <p>
+ * If parallel, persons are converted in batches of {@value #BATCH_SIZE} on the common fork-join pool, and then added
+ * in their original order. Loading fails with the error of the first person in that order which either could not be
+ * converted or duplicates an earlier person, exactly as when converting one person at a time.
+ */
+class PersonLoader {
+
+    static final int BATCH_SIZE = 512;
+
+    private final PersonConverter personConverter;
+    private final boolean isParallel;
+    private final Realodex realodex = new Realodex();
+    private final List<JsonAdaptedPerson> batch = new ArrayList<>();
+
+    /**
+     * Creates a loader that converts persons with {@code personConverter}, in parallel if {@code isParallel}.
+     */
+    PersonLoader(PersonConverter personConverter, boolean isParallel) {
+        requireNonNull(personConverter);
+        this.personConverter = personConverter;
+        this.isParallel = isParallel;
+    }
+
+    /**
+     * Returns a loader that converts persons one at a time, with all of their data constraints checked.
+     */
+    static PersonLoader strict() {
+        return new PersonLoader(PersonConverter.STRICT, false);
+    }
+
+    /**
+     * Loads {@code person} after the persons loaded before it.
+     * If parallel, the conversion may only happen, and fail, on a later call or in {@link #finish()}.
+     *
+     * @throws IllegalValueException if a person violates the data constraints, or persons are duplicated.
+     */
+    void load(JsonAdaptedPerson person) throws IllegalValueException {
+        requireNonNull(person);
+        if (!isParallel) {
+            add(personConverter.convert(person));
+            return;
+        }
+
+        batch.add(person);
+        if (batch.size() == BATCH_SIZE) {
+            convertBatch();
+        }
+    }
+
+    /**
+     * Returns the {@code Realodex} with all of the loaded persons.
+     *
+     * @throws IllegalValueException if a person violates the data constraints, or persons are duplicated.
+     */
+    Realodex finish() throws IllegalValueException {
+        convertBatch();
+        return realodex;
+    }
+
+    private void convertBatch() throws IllegalValueException {
+        List<Conversion> conversions = batch.parallelStream()
+                .map(this::convert)
+                .collect(Collectors.toList());
+        batch.clear();
+        for (Conversion conversion : conversions) {
+            add(conversion.get());
+        }
+    }
+
+    private Conversion convert(JsonAdaptedPerson person) {
+        try {
+            return new Conversion(personConverter.convert(person), null);
+        } catch (IllegalValueException ive) {
+            return new Conversion(null, ive);
+        }
+    }
+
+    private void add(Person person) throws IllegalValueException {
+        if (realodex.hasPerson(person)) {
+            throw new IllegalValueException(JsonSerializableRealodex.MESSAGE_DUPLICATE_PERSON);
+        }
+        realodex.addPerson(person);
+    }
+
+    /**
+     * The outcome of converting a single person: either the person or the error it failed with.
+     */
+    private static class Conversion {
+        private final Person person;
+        private final IllegalValueException error;
+
+        Conversion(Person person, IllegalValueException error) {
+            this.person = person;
+            this.error = error;
+        }
+
+        Person get() throws IllegalValueException {
+            if (error != null) {
+                throw error;
+            }
+            return person;
+        }
+    }
+}
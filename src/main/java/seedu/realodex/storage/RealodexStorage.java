@@ -2,11 +2,13 @@ package seedu.realodex.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 
 import seedu.realodex.commons.exceptions.DataLoadingException;
 import seedu.realodex.model.ReadOnlyRealodex;
 import seedu.realodex.model.Realodex;
+import seedu.realodex.model.person.Person;
 
 /**
  * Represents a storage for {@link Realodex}.
@@ -43,4 +45,13 @@ public interface RealodexStorage {
      */
     void saveRealodex(ReadOnlyRealodex realodex, Path filePath) throws IOException;
 
+    /**
+     * Returns the persons in the data last read by this storage that were loaded before all of their data
+     * constraints were checked, and turned out to violate one, each with a message describing the violation.
+     * Blocks until those checks have finished. The persons must be removed from the data before it is saved again.
+     */
+    default Map<Person, String> awaitInvalidPersons() {
+        return Map.of();
+    }
+
 }
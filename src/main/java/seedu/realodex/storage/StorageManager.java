@@ -2,6 +2,7 @@ package seedu.realodex.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -10,6 +11,7 @@ import seedu.realodex.commons.exceptions.DataLoadingException;
 import seedu.realodex.model.ReadOnlyRealodex;
 import seedu.realodex.model.ReadOnlyUserPrefs;
 import seedu.realodex.model.UserPrefs;
+import seedu.realodex.model.person.Person;
 
 /**
  * Manages storage of Realodex data in local storage.
@@ -75,4 +77,9 @@ public class StorageManager implements Storage {
         realodexStorage.saveRealodex(realodex, filePath);
     }
 
+    @Override
+    public Map<Person, String> awaitInvalidPersons() {
+        return realodexStorage.awaitInvalidPersons();
+    }
+
 }
@@ -1,6 +1,7 @@
 package seedu.realodex.commons.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -12,7 +13,11 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", asyncSaveEnabled=" + config.isAsyncSaveEnabled()
+                + ", mappedReadThresholdBytes=" + config.getMappedReadThresholdBytes()
+                + ", deferredValidationEnabled=" + config.isDeferredValidationEnabled()
+                + ", parallelLoadEnabled=" + config.isParallelLoadEnabled() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -21,6 +26,22 @@ public class ConfigTest {
         Config defaultConfig = new Config();
         assertNotNull(defaultConfig);
         assertTrue(defaultConfig.equals(defaultConfig));
+
+        Config asyncConfig = new Config();
+        asyncConfig.setAsyncSaveEnabled(true);
+        assertFalse(defaultConfig.equals(asyncConfig));
+
+        Config mappedReadConfig = new Config();
+        mappedReadConfig.setMappedReadThresholdBytes(0);
+        assertFalse(defaultConfig.equals(mappedReadConfig));
+
+        Config deferredValidationConfig = new Config();
+        deferredValidationConfig.setDeferredValidationEnabled(true);
+        assertFalse(defaultConfig.equals(deferredValidationConfig));
+
+        Config parallelLoadConfig = new Config();
+        parallelLoadConfig.setParallelLoadEnabled(true);
+        assertFalse(defaultConfig.equals(parallelLoadConfig));
     }
 
 
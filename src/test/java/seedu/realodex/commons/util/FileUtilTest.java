@@ -1,13 +1,31 @@
 package seedu.realodex.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static seedu.realodex.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +38,106 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_missingParentDirectories_createsFile() throws Exception {
+        Path file = testFolder.resolve("nested").resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, "content");
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_replacesContentWithoutLeavingTempFiles() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "a much longer old content");
+        FileUtil.writeToFileAtomically(file, "new");
+        assertEquals("new", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_permissionsKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        assumeTrue(Files.getFileAttributeView(file, PosixFileAttributeView.class) != null);
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeToFileAtomically(file, "new");
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_newFile_defaultPermissions() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Path plainFile = testFolder.resolve("plain.txt");
+        FileUtil.writeToFile(plainFile, "plain");
+        assumeTrue(Files.getFileAttributeView(plainFile, PosixFileAttributeView.class) != null);
+
+        FileUtil.writeToFileAtomically(file, "new");
+        assertEquals(Files.getPosixFilePermissions(plainFile), Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_oldContentKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, channel -> {
+            channel.write(ByteBuffer.wrap(new byte[] {'x'}));
+            throw new IOException("simulated failure");
+        }));
+        assertEquals("old", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void readToBuffer_belowAndAboveMapThreshold_sameContent() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+
+        ByteBuffer copied = FileUtil.readToBuffer(file, Long.MAX_VALUE);
+        assertFalse(copied.isDirect());
+        assertEquals(ByteBuffer.wrap("content".getBytes(StandardCharsets.UTF_8)), copied);
+
+        ByteBuffer mapped = FileUtil.readToBuffer(file, 0);
+        assertTrue(mapped instanceof MappedByteBuffer);
+        assertEquals(ByteBuffer.wrap("content".getBytes(StandardCharsets.UTF_8)), mapped);
+        FileUtil.release(copied);
+        FileUtil.release(mapped);
+    }
+
+    @Test
+    public void release_mappedFile_fileCanBeReplaced() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        FileUtil.release(FileUtil.readToBuffer(file, 0));
+
+        FileUtil.writeToFileAtomically(file, "new");
+        assertEquals("new", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void rotateBackups_missingFile_noBackups() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.rotateBackups(file, 3);
+        assertFalse(Files.exists(FileUtil.getBackupPath(file, 1)));
+    }
+
+    @Test
+    public void rotateBackups_repeatedSaves_keepsMostRecentGenerations() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        for (int version = 1; version <= 5; version++) {
+            FileUtil.rotateBackups(file, 3);
+            FileUtil.writeToFileAtomically(file, "v" + version);
+        }
+        assertEquals("v5", FileUtil.readFromFile(file));
+        assertEquals("v4", FileUtil.readFromFile(FileUtil.getBackupPath(file, 1)));
+        assertEquals("v3", FileUtil.readFromFile(FileUtil.getBackupPath(file, 2)));
+        assertEquals("v2", FileUtil.readFromFile(FileUtil.getBackupPath(file, 3)));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file, 4)));
+    }
+
 }
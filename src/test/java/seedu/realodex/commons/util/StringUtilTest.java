@@ -1,5 +1,6 @@
 package seedu.realodex.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.realodex.testutil.Assert.assertThrows;
@@ -46,6 +47,61 @@ public class StringUtilTest {
     }
 
 
+    //---------------- Tests for compareUnsignedIntegers --------------------------------------
+
+    @Test
+    public void compareUnsignedIntegers() {
+        // null strings
+        assertThrows(NullPointerException.class, () -> StringUtil.compareUnsignedIntegers(null, "1"));
+        assertThrows(NullPointerException.class, () -> StringUtil.compareUnsignedIntegers("1", null));
+
+        // same value
+        assertEquals(0, StringUtil.compareUnsignedIntegers("0", "000"));
+        assertEquals(0, StringUtil.compareUnsignedIntegers("42", "0042"));
+
+        // different lengths
+        assertTrue(StringUtil.compareUnsignedIntegers("9", "010") < 0);
+        assertTrue(StringUtil.compareUnsignedIntegers("100", "99") > 0);
+
+        // same length
+        assertTrue(StringUtil.compareUnsignedIntegers("123", "124") < 0);
+
+        // larger than Long.MAX_VALUE
+        assertTrue(StringUtil.compareUnsignedIntegers("99999999999999999999", "100000000000000000000") < 0);
+    }
+
+    //---------------- Tests for toSoundex --------------------------------------
+
+    @Test
+    public void toSoundex() {
+        // null word
+        assertThrows(NullPointerException.class, () -> StringUtil.toSoundex(null));
+
+        // no letters
+        assertEquals("", StringUtil.toSoundex(""));
+        assertEquals("", StringUtil.toSoundex("123"));
+
+        // padded with zeros
+        assertEquals("S500", StringUtil.toSoundex("Sean"));
+        assertEquals("L000", StringUtil.toSoundex("Lee"));
+
+        // same sound, different spelling
+        assertEquals("S500", StringUtil.toSoundex("shawn"));
+        assertEquals("R163", StringUtil.toSoundex("Robert"));
+        assertEquals("R163", StringUtil.toSoundex("Rupert"));
+
+        // adjacent letters with the same digit, also when the first letter has it
+        assertEquals("P236", StringUtil.toSoundex("Pfister"));
+        assertEquals("T522", StringUtil.toSoundex("Tymczak"));
+
+        // h and w do not separate letters with the same digit, but vowels do
+        assertEquals("A261", StringUtil.toSoundex("Ashcraft"));
+        assertEquals("H555", StringUtil.toSoundex("Honeyman"));
+
+        // case and characters other than letters ignored
+        assertEquals(StringUtil.toSoundex("Robert"), StringUtil.toSoundex("rOB3ert"));
+    }
+
     //---------------- Tests for containsWordIgnoreCase --------------------------------------
 
     /*
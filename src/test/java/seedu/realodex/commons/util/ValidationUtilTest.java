@@ -0,0 +1,57 @@
+package seedu.realodex.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.Family;
+import seedu.realodex.model.person.Income;
+import seedu.realodex.model.person.Phone;
+
+public class ValidationUtilTest {
+
+    private static final List<String> SAMPLES = List.of("", " ", "0", "00", "000", "1", "01", "10", "007", "123",
+            "9312 1534", "93121534", "12a", "a12", "-1", "+65123", "１２３", "\n123", "123\n", "0000000001");
+
+    @Test
+    public void getPattern_sameRegex_sameInstance() {
+        assertSame(ValidationUtil.getPattern("\\p{Alnum}+"), ValidationUtil.getPattern("\\p{Alnum}+"));
+    }
+
+    @Test
+    public void matches_nullTest_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.matches(null, "a"));
+    }
+
+    @Test
+    public void matches_sameAsStringMatches() {
+        String regex = "[^\\s].*";
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(regex), ValidationUtil.matches(sample, regex), sample);
+        }
+    }
+
+    @Test
+    public void isDigits_sameAsRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(Phone.VALIDATION_REGEX), ValidationUtil.isDigits(sample, Phone.MIN_LENGTH),
+                    sample);
+            assertEquals(sample.matches(Income.VALIDATION_REGEX), ValidationUtil.isDigits(sample, 1), sample);
+        }
+    }
+
+    @Test
+    public void isPositiveDigits_sameAsRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(Family.VALIDATION_REGEX), ValidationUtil.isPositiveDigits(sample), sample);
+        }
+        assertTrue(ValidationUtil.isPositiveDigits("0001"));
+        assertFalse(ValidationUtil.isPositiveDigits("000"));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.realodex.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.realodex.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.realodex.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.realodex.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -18,14 +19,19 @@ import static seedu.realodex.testutil.TypicalPersons.AMY_NAME_CAPS;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.realodex.commons.core.Config;
 import seedu.realodex.logic.commands.AddCommand;
 import seedu.realodex.logic.commands.CommandResult;
+import seedu.realodex.logic.commands.EditCommand;
 import seedu.realodex.logic.commands.ListCommand;
 import seedu.realodex.logic.commands.exceptions.CommandException;
 import seedu.realodex.logic.parser.exceptions.ParseException;
@@ -34,6 +40,7 @@ import seedu.realodex.model.ModelManager;
 import seedu.realodex.model.ReadOnlyRealodex;
 import seedu.realodex.model.UserPrefs;
 import seedu.realodex.model.person.Person;
+import seedu.realodex.storage.AsyncRealodexSaver;
 import seedu.realodex.storage.JsonRealodexStorage;
 import seedu.realodex.storage.JsonUserPrefsStorage;
 import seedu.realodex.storage.StorageManager;
@@ -43,6 +50,11 @@ public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
 
+    private static final String ADD_COMMAND_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY_CAPS + PHONE_DESC_AMY
+            + INCOME_DESC_AMY + EMAIL_DESC_AMY
+            + ADDRESS_DESC_AMY + FAMILY_DESC_AMY
+            + TAG_DESC_AMY + HOUSINGTYPE_DESC_AMY + BIRTHDAY_DESC_AMY;
+
     @TempDir
     public Path temporaryFolder;
 
@@ -88,6 +100,140 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_nonMutatingCommands_savedOnlyWhenModified() throws Exception {
+        int[] saveCount = new int[1];
+        JsonRealodexStorage realodexStorage = new JsonRealodexStorage(temporaryFolder.resolve("realodex.json")) {
+            @Override
+            public void saveRealodex(ReadOnlyRealodex realodex, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveRealodex(realodex, filePath);
+            }
+        };
+        StorageManager storage = new StorageManager(realodexStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        // the first command always saves, so that the data file exists
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+        logic.execute(ADD_COMMAND_AMY);
+        assertEquals(2, saveCount[0]);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saveCount[0]);
+    }
+
+    @Test
+    public void execute_saveFailed_retriedByNextCommand() throws Exception {
+        boolean[] shouldFail = {true};
+        JsonRealodexStorage realodexStorage = new JsonRealodexStorage(temporaryFolder.resolve("realodex.json")) {
+            @Override
+            public void saveRealodex(ReadOnlyRealodex realodex, Path filePath) throws IOException {
+                if (shouldFail[0]) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                super.saveRealodex(realodex, filePath);
+            }
+        };
+        StorageManager storage = new StorageManager(realodexStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        assertThrows(CommandException.class, () -> logic.execute(ADD_COMMAND_AMY));
+        shouldFail[0] = false;
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(model.getRealodex(), realodexStorage.readRealodex().get());
+    }
+
+    @Test
+    public void execute_invalidPersonsLoadedWithDeferredValidation_removedBeforeSave() throws Exception {
+        Path realodexPath = temporaryFolder.resolve("deferred.json");
+        StorageManager storage = loadFutureBirthdayRealodex(realodexPath);
+
+        // commands that do not change the Realodex leave the invalid persons in place
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(1, model.getRealodex().getPersonList().size());
+
+        CommandResult result = logic.execute(ADD_COMMAND_AMY);
+        assertTrue(result.getFeedbackToUser().contains("\n"
+                + String.format(LogicManager.MESSAGE_INVALID_PERSONS_REMOVED, 1, "")));
+        assertEquals(1, model.getRealodex().getPersonList().size());
+        assertEquals(model.getRealodex(), storage.readRealodex().get());
+
+        // the invalid persons are only reported once
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_invalidPersonEditedBeforeRemoval_keptAndReported() throws Exception {
+        loadFutureBirthdayRealodex(temporaryFolder.resolve("deferred.json"));
+
+        CommandResult result = logic.execute(EditCommand.COMMAND_WORD + " 1" + PHONE_DESC_AMY);
+        assertTrue(result.getFeedbackToUser().contains("\n"
+                + String.format(LogicManager.MESSAGE_INVALID_PERSONS_KEPT, 1, "")));
+        assertEquals(1, model.getRealodex().getPersonList().size());
+    }
+
+    /**
+     * Sets up {@code model} and {@code logic} with a data file at {@code realodexPath} holding one person with a
+     * future birthday, which is only found invalid after loading.
+     */
+    private StorageManager loadFutureBirthdayRealodex(Path realodexPath) throws Exception {
+        Files.copy(Paths.get("src", "test", "data", "JsonRealodexStorageTest", "futureBirthdayRealodex.json"),
+                realodexPath);
+        JsonRealodexStorage realodexStorage = new JsonRealodexStorage(realodexPath,
+                Config.DEFAULT_MAPPED_READ_THRESHOLD_BYTES, true, false);
+        StorageManager storage = new StorageManager(realodexStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        model = new ModelManager(storage.readRealodex().get(), new UserPrefs());
+        assertEquals(1, model.getRealodex().getPersonList().size());
+        logic = new LogicManager(model, storage);
+        return storage;
+    }
+
+    @Test
+    public void shutdown_asyncSavePending_saved() throws Exception {
+        Path realodexPath = temporaryFolder.resolve("asyncRealodex.json");
+        JsonRealodexStorage realodexStorage = new JsonRealodexStorage(realodexPath);
+        StorageManager storage = new StorageManager(realodexStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, new AsyncRealodexSaver(storage));
+
+        logic.execute(ADD_COMMAND_AMY);
+        logic.shutdown();
+        assertEquals(model.getRealodex(), realodexStorage.readRealodex().get());
+    }
+
+    @Test
+    public void execute_asyncSaveFailed_nextCommandThrowsCommandException() throws Exception {
+        // the save only fails once the command that submitted it has returned
+        CountDownLatch commandReturned = new CountDownLatch(1);
+        JsonRealodexStorage realodexStorage = new JsonRealodexStorage(temporaryFolder.resolve("realodex.json")) {
+            @Override
+            public void saveRealodex(ReadOnlyRealodex realodex, Path filePath) throws IOException {
+                try {
+                    commandReturned.await();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        StorageManager storage = new StorageManager(realodexStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        AsyncRealodexSaver asyncSaver = new AsyncRealodexSaver(storage);
+        logic = new LogicManager(model, storage, asyncSaver);
+
+        logic.execute(ADD_COMMAND_AMY);
+        commandReturned.countDown();
+        asyncSaver.awaitPendingWrites();
+
+        assertCommandException(ListCommand.COMMAND_WORD,
+                String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -171,10 +317,7 @@ public class LogicManagerTest {
         logic = new LogicManager(model, storage);
 
         // Triggers the saveRealodex method by executing an add command
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY_CAPS + PHONE_DESC_AMY
-                + INCOME_DESC_AMY + EMAIL_DESC_AMY
-                + ADDRESS_DESC_AMY + FAMILY_DESC_AMY
-                + TAG_DESC_AMY + HOUSINGTYPE_DESC_AMY + BIRTHDAY_DESC_AMY;
+        String addCommand = ADD_COMMAND_AMY;
 
         Person expectedPerson = new PersonBuilder(AMY_NAME_CAPS).withTags(VALID_TAG_AMY).build();
         ModelManager expectedModel = new ModelManager();
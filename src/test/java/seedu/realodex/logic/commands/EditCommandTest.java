@@ -26,6 +26,8 @@ import static seedu.realodex.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.realodex.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.realodex.commons.core.index.Index;
@@ -107,9 +109,12 @@ public class EditCommandTest {
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson));
 
         Model expectedModel = new ModelManager(new Realodex(model.getRealodex()), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
         expectedModel.setPerson(model.getFilteredPersonList().get(0), editedPerson);
 
+        // the edited person no longer matches the filter, but stays in view
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+        assertEquals(List.of(editedPerson), model.getFilteredPersonList());
     }
 
     @Test
@@ -8,6 +8,7 @@ import static seedu.realodex.logic.commands.EditCommand.MESSAGE_EDIT_HELP;
 import static seedu.realodex.logic.commands.FilterCommand.MESSAGE_FILTER_HELP;
 import static seedu.realodex.logic.commands.HelpCommand.SHOWING_HELP_MESSAGE;
 import static seedu.realodex.logic.commands.ListCommand.MESSAGE_LIST_HELP;
+import static seedu.realodex.logic.commands.SearchCommand.MESSAGE_SEARCH_HELP;
 import static seedu.realodex.logic.commands.SortCommand.MESSAGE_SORT_HELP;
 import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
 
@@ -53,6 +54,10 @@ public class HelpCommandTest {
                 false, false);
         assertCommandSuccess(new HelpCommand("list"), model, expectedListHelpCommandResult, expectedModel);
 
+        CommandResult expectedSearchHelpCommandResult = new CommandResult(MESSAGE_SEARCH_HELP,
+                false, false);
+        assertCommandSuccess(new HelpCommand("search"), model, expectedSearchHelpCommandResult, expectedModel);
+
         CommandResult expectedSortHelpCommandResult = new CommandResult(MESSAGE_SORT_HELP,
                                                                         false, false);
         assertCommandSuccess(new HelpCommand("sort"), model, expectedSortHelpCommandResult, expectedModel);
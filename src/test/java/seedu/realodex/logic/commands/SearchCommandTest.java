@@ -0,0 +1,78 @@
+package seedu.realodex.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.DANIEL;
+import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.Model;
+import seedu.realodex.model.ModelManager;
+import seedu.realodex.model.UserPrefs;
+
+public class SearchCommandTest {
+
+    private Model model = new ModelManager(getTypicalRealodex(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalRealodex(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchCommand searchCommand = new SearchCommand("Alise", 3);
+
+        // same object -> returns true
+        assertTrue(searchCommand.equals(searchCommand));
+
+        // same values -> returns true
+        assertTrue(searchCommand.equals(new SearchCommand("Alise", 3)));
+
+        // different types -> returns false
+        assertFalse(searchCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchCommand.equals(null));
+
+        // different name -> returns false
+        assertFalse(searchCommand.equals(new SearchCommand("Alice", 3)));
+
+        // different count -> returns false
+        assertFalse(searchCommand.equals(new SearchCommand("Alise", 4)));
+    }
+
+    @Test
+    public void execute_misspeltName_closestPersonsListed() {
+        String expectedMessage = String.format(SearchCommand.MESSAGE_SUCCESS, 2, "Benson Meier, Daniel Meier");
+        expectedModel.updateFilteredPersonList(List.of(BENSON, DANIEL));
+        assertCommandSuccess(new SearchCommand("bensen meir", 2), model, expectedMessage, expectedModel);
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_closestStoredLater_listedClosestFirst() {
+        String expectedMessage = String.format(SearchCommand.MESSAGE_SUCCESS, 2, "Daniel Meier, Benson Meier");
+        expectedModel.updateFilteredPersonList(List.of(DANIEL, BENSON));
+        assertCommandSuccess(new SearchCommand("daniel meier", 2), model, expectedMessage, expectedModel);
+        assertEquals(List.of(DANIEL, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_countAboveNumberOfPersons_allPersonsListed() {
+        new SearchCommand("alice", SearchCommand.MAX_COUNT).execute(model);
+        assertEquals(getTypicalRealodex().getPersonList().size(), model.getFilteredPersonList().size());
+        assertEquals(model.getPersonsWithClosestNames("alice", SearchCommand.MAX_COUNT), model.getFilteredPersonList());
+        assertEquals(ALICE, model.getPersonsWithClosestNames("ALICE PAULINE", 1).get(0));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SearchCommand searchCommand = new SearchCommand("Alise", 3);
+        String expected = SearchCommand.class.getCanonicalName() + "{name=Alise, count=3}";
+        assertEquals(expected, searchCommand.toString());
+    }
+}
@@ -1,10 +1,17 @@
 package seedu.realodex.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.realodex.testutil.TypicalPersons.getSecondTypicalRealodex;
 import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
@@ -16,16 +23,19 @@ import seedu.realodex.model.ModelManager;
 import seedu.realodex.model.Realodex;
 import seedu.realodex.model.UserPrefs;
 import seedu.realodex.model.person.Person;
-import seedu.realodex.model.person.sorting.BirthdayComparator;
+import seedu.realodex.model.person.sorting.SortField;
+import seedu.realodex.model.person.sorting.SortKey;
+import seedu.realodex.testutil.PersonBuilder;
 
 public class SortCommandTest {
+    private static final LocalDate TODAY = LocalDate.of(2023, 6, 1);
+    private static final Clock CLOCK = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
     private final Model model = new ModelManager(getTypicalRealodex(), new UserPrefs());
     private final Model modelSecond = new ModelManager(getSecondTypicalRealodex(), new UserPrefs());
+
     @Test
     public void execute_sortsListByBirthday_success() {
-        // Create a list of persons with birthdays in random order
-        Realodex realodex = (Realodex) model.getRealodex();
-
         // Execute the sort command
         SortCommand sortCommand = new SortCommand();
         try {
@@ -35,18 +45,25 @@ public class SortCommandTest {
         }
 
         // Verify that the list is sorted by birthday
-        List<Person> sortedList = realodex.getCopyOfInternalListOfUniquePersonsList();
-        assertTrue(isSortedByBirthday(sortedList));
+        assertTrue(isSortedByBirthday(model.getFilteredPersonList()));
 
-        realodex = (Realodex) modelSecond.getRealodex();
         try {
             sortCommand.execute(modelSecond);
         } catch (CommandException e) {
             Assertions.fail();
         }
-        sortedList = realodex.getCopyOfInternalListOfUniquePersonsList();
-        assertTrue(isSortedByBirthday(sortedList));
+        assertTrue(isSortedByBirthday(modelSecond.getFilteredPersonList()));
+    }
 
+    @Test
+    public void execute_storedOrderUnchanged() throws Exception {
+        List<Person> storedPersons = new ArrayList<>(model.getRealodex().getPersonList());
+        long modificationCount = model.getRealodexModificationCount();
+
+        new SortCommand(List.of(new SortKey(SortField.NAME, true)), CLOCK).execute(model);
+
+        assertEquals(storedPersons, model.getRealodex().getPersonList());
+        assertEquals(modificationCount, model.getRealodexModificationCount());
     }
 
     @Test
@@ -55,18 +72,93 @@ public class SortCommandTest {
         SortCommand sortCommand = new SortCommand();
         try {
             CommandResult result = sortCommand.execute(model);
-            assertEquals(SortCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+            assertEquals(String.format(SortCommand.MESSAGE_SUCCESS, "days to their birthday"),
+                    result.getFeedbackToUser());
+            assertEquals("Sorted list by days to their birthday!", result.getFeedbackToUser());
         } catch (CommandException e) {
             Assertions.fail();
         }
     }
 
+    @Test
+    public void execute_fixedClock_sortsByDaysFromClockDate() throws Exception {
+        Person june = new PersonBuilder().withName("June").withBirthday("02Jun1990").build();
+        Person may = new PersonBuilder().withName("May").withBirthday("31May1990").build();
+        Person unspecified = new PersonBuilder().withName("Unspecified").withBirthday("").build();
+        Person december = new PersonBuilder().withName("December").withBirthday("25Dec1990").build();
+        Model model = createModel(unspecified, may, december, june);
+
+        new SortCommand(SortCommand.DEFAULT_SORT_KEYS, CLOCK).execute(model);
+        assertEquals(Arrays.asList(june, december, may, unspecified), model.getFilteredPersonList());
+
+        // unspecified birthdays stay last in descending order
+        new SortCommand(List.of(new SortKey(SortField.BIRTHDAY, true)), CLOCK).execute(model);
+        assertEquals(Arrays.asList(may, december, june, unspecified), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_multipleKeys_sortsByLaterKeysOnTies() throws Exception {
+        Person richAlice = new PersonBuilder().withName("Alice").withIncome("9000").withFamily("2").build();
+        Person richBob = new PersonBuilder().withName("bob").withIncome("9000").withFamily("4").build();
+        Person poorCarl = new PersonBuilder().withName("Carl").withIncome("800").withFamily("4").build();
+        Model model = createModel(poorCarl, richBob, richAlice);
+
+        new SortCommand(List.of(new SortKey(SortField.INCOME, true), new SortKey(SortField.NAME, false)), CLOCK)
+                .execute(model);
+        assertEquals(Arrays.asList(richAlice, richBob, poorCarl), model.getFilteredPersonList());
+
+        new SortCommand(List.of(new SortKey(SortField.FAMILY, true), new SortKey(SortField.INCOME, false)), CLOCK)
+                .execute(model);
+        assertEquals(Arrays.asList(poorCarl, richBob, richAlice), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personAddedAfterSort_staysSorted() throws Exception {
+        Person alice = new PersonBuilder().withName("Alice").build();
+        Person carl = new PersonBuilder().withName("Carl").build();
+        Model model = createModel(carl, alice);
+        new SortCommand(List.of(new SortKey(SortField.NAME, false)), CLOCK).execute(model);
+
+        Person bob = new PersonBuilder().withName("Bob").build();
+        model.addPerson(bob);
+
+        assertEquals(Arrays.asList(alice, bob, carl), model.getFilteredPersonList());
+        assertEquals(Arrays.asList(carl, alice, bob), model.getRealodex().getPersonList());
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortCommand = new SortCommand(SortCommand.DEFAULT_SORT_KEYS, CLOCK);
+
+        // same object -> returns true
+        assertTrue(sortCommand.equals(sortCommand));
+
+        // same values -> returns true
+        assertTrue(sortCommand.equals(new SortCommand(List.of(new SortKey(SortField.BIRTHDAY, false)), CLOCK)));
+
+        // null -> returns false
+        assertFalse(sortCommand.equals(null));
+
+        // different clock -> returns false
+        assertFalse(sortCommand.equals(new SortCommand()));
+
+        // different keys -> returns false
+        assertFalse(sortCommand.equals(new SortCommand(List.of(new SortKey(SortField.BIRTHDAY, true)), CLOCK)));
+    }
+
+    private static Model createModel(Person... persons) {
+        Realodex realodex = new Realodex();
+        realodex.setPersons(Arrays.asList(persons));
+        return new ModelManager(realodex, new UserPrefs());
+    }
+
     // Helper method to check if the list is sorted by birthday
     private boolean isSortedByBirthday(List<Person> persons) {
+        Comparator<Person> byBirthday = SortKey.toComparator(SortCommand.DEFAULT_SORT_KEYS, LocalDate.now());
         for (int i = 1; i < persons.size(); i++) {
             Person previousPerson = persons.get(i - 1);
             Person currentPerson = persons.get(i);
-            if (new BirthdayComparator().compare(previousPerson, currentPerson) > 0) {
+            if (byBirthday.compare(previousPerson, currentPerson) > 0) {
                 return false;
             }
         }
@@ -7,6 +7,7 @@ import static seedu.realodex.logic.parser.CommandParserTestUtil.assertParseFailu
 import static seedu.realodex.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.realodex.testutil.Assert.assertThrows;
 
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -14,12 +15,24 @@ import org.junit.jupiter.api.Test;
 import seedu.realodex.logic.Messages;
 import seedu.realodex.logic.commands.FilterCommand;
 import seedu.realodex.model.person.Birthday;
+import seedu.realodex.model.person.Email;
+import seedu.realodex.model.person.Family;
 import seedu.realodex.model.person.HousingType;
+import seedu.realodex.model.person.Income;
 import seedu.realodex.model.person.Name;
+import seedu.realodex.model.person.Phone;
 import seedu.realodex.model.person.Tag;
+import seedu.realodex.model.person.predicates.AndPredicate;
 import seedu.realodex.model.person.predicates.BirthdayIsInMonthPredicate;
+import seedu.realodex.model.person.predicates.EmailMatchPredicate;
+import seedu.realodex.model.person.predicates.FamilyInRangePredicate;
 import seedu.realodex.model.person.predicates.HousingTypeMatchPredicate;
+import seedu.realodex.model.person.predicates.IncomeInRangePredicate;
 import seedu.realodex.model.person.predicates.NameContainsKeyphrasePredicate;
+import seedu.realodex.model.person.predicates.NameSoundsLikePredicate;
+import seedu.realodex.model.person.predicates.NotPredicate;
+import seedu.realodex.model.person.predicates.OrPredicate;
+import seedu.realodex.model.person.predicates.PhoneMatchPredicate;
 import seedu.realodex.model.person.predicates.RemarkContainsKeyphrasePredicate;
 import seedu.realodex.model.person.predicates.TagsMatchPredicate;
 
@@ -49,6 +62,49 @@ public class FilterCommandParserTest {
         assertParseFailure(parser, " n/", Name.MESSAGE_CONSTRAINTS);
     }
 
+    @Test
+    void parse_validArgsWithSoundsLikeName_returnsFilterCommand() {
+        String userInput = " s/Shawn Mayer";
+        FilterCommand expectedCommand = new FilterCommand(new NameSoundsLikePredicate("Shawn Mayer"));
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
+    @Test
+    void parse_invalidArgsWithSoundsLikeName_throwsParseException() {
+        assertParseFailure(parser, " s/#$@%^", Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " s/", Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " s/123", FilterCommand.MESSAGE_FILTER_SOUNDS_LIKE_NO_LETTERS);
+    }
+
+    @Test
+    void parse_validArgsWithPhone_returnsFilterCommand() {
+        FilterCommand expectedCommand = new FilterCommand(new PhoneMatchPredicate(new Phone("91234567")));
+        assertParseSuccess(parser, " p/91234567", expectedCommand);
+
+        // spaces and hyphens between digits
+        assertParseSuccess(parser, " p/9123 4567", expectedCommand);
+        assertParseSuccess(parser, " p/9123-4567", expectedCommand);
+    }
+
+    @Test
+    void parse_invalidArgsWithPhone_throwsParseException() {
+        assertParseFailure(parser, " p/", Phone.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " p/91a", Phone.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " p/+65 9123 4567", Phone.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    void parse_validArgsWithEmail_returnsFilterCommand() {
+        FilterCommand expectedCommand = new FilterCommand(new EmailMatchPredicate(new Email("alice@example.com")));
+        assertParseSuccess(parser, " e/alice@example.com", expectedCommand);
+    }
+
+    @Test
+    void parse_invalidArgsWithEmail_throwsParseException() {
+        assertParseFailure(parser, " e/", Email.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " e/alice", Email.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     void parse_validArgsWithRemark_returnsFilterCommand() {
         String userInput = " r/Loves cats";
@@ -150,7 +206,7 @@ public class FilterCommandParserTest {
 
     @Test
     void parse_invalidPrefix_throwsParseException() {
-        String userInput = " p/999";
+        String userInput = " a/Jurong West";
         assertParseFailure(parser, userInput,
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
     }
@@ -189,4 +245,59 @@ public class FilterCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    void parse_validArgsWithIncomeRange_returnsFilterCommand() {
+        assertParseSuccess(parser, " i/5000-8000", new FilterCommand(new IncomeInRangePredicate(5000, 8000)));
+        assertParseSuccess(parser, " i/5000-", new FilterCommand(new IncomeInRangePredicate(5000, Long.MAX_VALUE)));
+    }
+
+    @Test
+    void parse_invalidArgsWithIncomeRange_throwsParseException() {
+        assertParseFailure(parser, " i/8000-5000", Income.FILTER_RANGE_MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " i/5000", Income.FILTER_RANGE_MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    void parse_validArgsWithFamilyRange_returnsFilterCommand() {
+        assertParseSuccess(parser, " f/2-4", new FilterCommand(new FamilyInRangePredicate(2, 4)));
+    }
+
+    @Test
+    void parse_invalidArgsWithFamilyRange_throwsParseException() {
+        assertParseFailure(parser, " f/0-4", Family.FILTER_RANGE_MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    void parse_validExpression_returnsPlannedFilterCommand() {
+        // clauses are reordered so that the housing type, which is cheaper to test, is tested first
+        String userInput = " n/alice tan AND h/landed property";
+        FilterCommand expectedCommand = new FilterCommand(new AndPredicate(List.of(
+                new HousingTypeMatchPredicate(new HousingType("landed property")),
+                new NameContainsKeyphrasePredicate("alice tan"))));
+        assertParseSuccess(parser, userInput, expectedCommand);
+
+        userInput = " t/buyer t/seller OR ( NOT i/-5000 AND f/2- )";
+        expectedCommand = new FilterCommand(new OrPredicate(List.of(
+                new TagsMatchPredicate(Set.of(new Tag("buyer"), new Tag("seller"))),
+                new AndPredicate(List.of(new NotPredicate(new IncomeInRangePredicate(0, 5000)),
+                        new FamilyInRangePredicate(2, Integer.MAX_VALUE))))));
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
+    @Test
+    void parse_expressionWithInvalidClause_throwsParseException() {
+        assertParseFailure(parser, " n/Alice AND n/Bob r/coffee",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_FILTER_CONFLICT));
+        assertParseFailure(parser, " n/Alice OR b/notamonth", Birthday.FILTER_MONTH_MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " ( n/Alice AND n/Bob",
+                String.format(FilterCommand.MESSAGE_INVALID_FILTER_EXPRESSION, "missing )"));
+    }
+
+    @Test
+    void parse_operatorWordsInRemark_singleClause() {
+        assertParseSuccess(parser, " r/call AND text",
+                new FilterCommand(new RemarkContainsKeyphrasePredicate("call AND text")));
+        assertParseSuccess(parser, " r/meet AND w/ client",
+                new FilterCommand(new RemarkContainsKeyphrasePredicate("meet AND w/ client")));
+    }
 }
@@ -0,0 +1,107 @@
+package seedu.realodex.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.logic.commands.FilterCommand.MESSAGE_INVALID_FILTER_EXPRESSION;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.realodex.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.logic.parser.exceptions.ParseException;
+import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.predicates.AndPredicate;
+import seedu.realodex.model.person.predicates.NameContainsKeyphrasePredicate;
+import seedu.realodex.model.person.predicates.NotPredicate;
+import seedu.realodex.model.person.predicates.OrPredicate;
+
+public class FilterExpressionParserTest {
+
+    // parses each clause into a predicate on its trimmed text, so that the structure of the result is easy to check
+    private final FilterExpressionParser parser =
+            new FilterExpressionParser(clause -> new NameContainsKeyphrasePredicate(clause.trim()), PREFIX_NAME,
+                    PREFIX_REMARK);
+
+    private final Predicate<Person> a = new NameContainsKeyphrasePredicate("n/a");
+    private final Predicate<Person> b = new NameContainsKeyphrasePredicate("n/b");
+    private final Predicate<Person> c = new NameContainsKeyphrasePredicate("n/c");
+
+    @Test
+    public void isExpression() {
+        assertTrue(parser.isExpression(" n/a AND n/b"));
+        assertTrue(parser.isExpression(" NOT n/a"));
+        assertTrue(parser.isExpression(" ( n/a )"));
+
+        // operators in lower case or inside a word are part of a keyphrase
+        assertFalse(parser.isExpression(" r/rock and roll"));
+        assertFalse(parser.isExpression(" r/ANDROID"));
+        assertFalse(parser.isExpression(" r/likes (cats)"));
+        assertFalse(parser.isExpression(""));
+
+        // operators that do not join, negate or group prefixed clauses are part of a keyphrase
+        assertFalse(parser.isExpression(" r/call AND text"));
+        assertFalse(parser.isExpression(" r/NOT ( yet"));
+        assertFalse(parser.isExpression(" r/smile :)"));
+        assertFalse(parser.isExpression(" AND n/a"));
+        assertFalse(parser.isExpression(" n/a OR"));
+
+        // only the given prefixes start a clause
+        assertFalse(parser.isExpression(" r/meet AND w/ client"));
+        assertFalse(parser.isExpression(" r/c/o AND s/o mr tan"));
+    }
+
+    @Test
+    public void parse_operatorWordsInKeyphrase_partOfClause() throws Exception {
+        assertEquals(new NameContainsKeyphrasePredicate("r/call AND text"), parser.parse(" r/call AND text"));
+        assertEquals(new AndPredicate(List.of(new NameContainsKeyphrasePredicate("r/rock OR"), a)),
+                parser.parse(" r/rock OR AND n/a"));
+        assertEquals(new OrPredicate(List.of(new NameContainsKeyphrasePredicate("r/( :)"), a)),
+                parser.parse(" r/( :) OR n/a"));
+        assertEquals(new NameContainsKeyphrasePredicate("n/a ) n/b"), parser.parse(" n/a ) n/b"));
+    }
+
+    @Test
+    public void parse_singleClause_clausePredicate() throws Exception {
+        assertEquals(new NameContainsKeyphrasePredicate("n/alice tan"), parser.parse(" ( n/alice   tan )"));
+    }
+
+    @Test
+    public void parse_precedence_notThenAndThenOr() throws Exception {
+        Predicate<Person> expected = new OrPredicate(List.of(
+                a, new AndPredicate(List.of(new NotPredicate(b), c))));
+        assertEquals(expected, parser.parse(" n/a OR NOT n/b AND n/c"));
+    }
+
+    @Test
+    public void parse_brackets_groupedFirst() throws Exception {
+        Predicate<Person> expected = new AndPredicate(List.of(new OrPredicate(List.of(a, b)), c));
+        assertEquals(expected, parser.parse(" ( n/a OR n/b ) AND n/c"));
+        assertEquals(new NotPredicate(new NotPredicate(a)), parser.parse(" NOT ( NOT n/a )"));
+    }
+
+    @Test
+    public void parse_sameOperatorRepeated_combinedOnce() throws Exception {
+        assertEquals(new AndPredicate(List.of(a, b, c)), parser.parse(" n/a AND n/b AND n/c"));
+    }
+
+    @Test
+    public void parse_invalidExpression_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_FILTER_EXPRESSION,
+                "missing )"), () -> parser.parse(" ( n/a OR n/b"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_FILTER_EXPRESSION,
+                "unexpected )"), () -> parser.parse(" ( n/a ) )"));
+    }
+
+    @Test
+    public void parse_invalidClause_throwsClauseParseException() {
+        FilterExpressionParser failingParser = new FilterExpressionParser(clause -> {
+            throw new ParseException("invalid clause");
+        }, PREFIX_NAME);
+        assertThrows(ParseException.class, "invalid clause", () -> failingParser.parse(" n/a AND n/b"));
+    }
+}
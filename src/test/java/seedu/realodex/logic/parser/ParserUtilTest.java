@@ -32,6 +32,8 @@ import seedu.realodex.model.person.Name;
 import seedu.realodex.model.person.Phone;
 import seedu.realodex.model.person.Remark;
 import seedu.realodex.model.person.Tag;
+import seedu.realodex.model.person.predicates.FamilyInRangePredicate;
+import seedu.realodex.model.person.predicates.IncomeInRangePredicate;
 
 public class ParserUtilTest {
     private static final String INVALID_NAME_CAPS = "D@nzel Washington Al Pacino";
@@ -501,4 +503,39 @@ public class ParserUtilTest {
         assertEquals(birthdayStored.returnStoredResult(), new Birthday());
         assertEquals(birthdayStored.returnExceptionMessage(), Birthday.MESSAGE_CONSTRAINTS);
     }
+
+    @Test
+    public void parseIncomeRange_validRange_returnsPredicate() throws Exception {
+        assertEquals(new IncomeInRangePredicate(5000, 8000), ParserUtil.parseIncomeRange("5000-8000"));
+        assertEquals(new IncomeInRangePredicate(5000, 8000), ParserUtil.parseIncomeRange(" 5000 - 8000 "));
+        assertEquals(new IncomeInRangePredicate(5000, 5000), ParserUtil.parseIncomeRange("5000-5000"));
+
+        // open ends
+        assertEquals(new IncomeInRangePredicate(5000, Long.MAX_VALUE), ParserUtil.parseIncomeRange("5000-"));
+        assertEquals(new IncomeInRangePredicate(0, 8000), ParserUtil.parseIncomeRange("-8000"));
+    }
+
+    @Test
+    public void parseIncomeRange_invalidRange_throwsParseException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseIncomeRange(null));
+        for (String invalidRange : new String[] {"5000", "-", "", "8000-5000", "1-2-3", "a-5", "1.5-2"}) {
+            assertThrows(ParseException.class, Income.FILTER_RANGE_MESSAGE_CONSTRAINTS, () ->
+                    ParserUtil.parseIncomeRange(invalidRange));
+        }
+    }
+
+    @Test
+    public void parseFamilyRange_validRange_returnsPredicate() throws Exception {
+        assertEquals(new FamilyInRangePredicate(2, 4), ParserUtil.parseFamilyRange("2-4"));
+        assertEquals(new FamilyInRangePredicate(2, Integer.MAX_VALUE), ParserUtil.parseFamilyRange("2-"));
+        assertEquals(new FamilyInRangePredicate(1, 3), ParserUtil.parseFamilyRange("-3"));
+    }
+
+    @Test
+    public void parseFamilyRange_invalidRange_throwsParseException() {
+        for (String invalidRange : new String[] {"3", "-", "0-3", "4-2", "2-99999999999"}) {
+            assertThrows(ParseException.class, Family.FILTER_RANGE_MESSAGE_CONSTRAINTS, () ->
+                    ParserUtil.parseFamilyRange(invalidRange));
+        }
+    }
 }
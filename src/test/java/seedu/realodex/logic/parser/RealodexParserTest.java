@@ -20,6 +20,7 @@ import seedu.realodex.logic.commands.ExitCommand;
 import seedu.realodex.logic.commands.FilterCommand;
 import seedu.realodex.logic.commands.HelpCommand;
 import seedu.realodex.logic.commands.ListCommand;
+import seedu.realodex.logic.commands.SearchCommand;
 import seedu.realodex.logic.commands.SortCommand;
 import seedu.realodex.logic.parser.exceptions.ParseException;
 import seedu.realodex.model.person.HousingType;
@@ -286,6 +287,13 @@ public class RealodexParserTest {
         assertTrue(parser.parseCommand("soRt") instanceof SortCommand);
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        assertEquals(new SearchCommand("Alise", SearchCommand.DEFAULT_COUNT),
+                parser.parseCommand(SearchCommand.COMMAND_WORD + " n/Alise"));
+        assertEquals(new HelpCommand("search"), parser.parseCommand("search help"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
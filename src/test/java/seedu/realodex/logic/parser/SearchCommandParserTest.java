@@ -0,0 +1,57 @@
+package seedu.realodex.logic.parser;
+
+import static seedu.realodex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.realodex.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.realodex.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.logic.Messages;
+import seedu.realodex.logic.commands.SearchCommand;
+import seedu.realodex.model.person.Name;
+
+public class SearchCommandParserTest {
+
+    private SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_nameOnly_defaultCount() {
+        assertParseSuccess(parser, " n/Alise Paulin", new SearchCommand("Alise Paulin", SearchCommand.DEFAULT_COUNT));
+    }
+
+    @Test
+    public void parse_nameAndCount_givenCount() {
+        assertParseSuccess(parser, " n/Alise k/3", new SearchCommand("Alise", 3));
+        assertParseSuccess(parser, " k/100 n/Alise", new SearchCommand("Alise", SearchCommand.MAX_COUNT));
+    }
+
+    @Test
+    public void parse_missingNameOrPreamble_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " k/3", expectedMessage);
+        assertParseFailure(parser, " Alise", expectedMessage);
+        assertParseFailure(parser, " yapyap n/Alise", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidName_throwsParseException() {
+        assertParseFailure(parser, " n/", Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " n/Al!ce", Name.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        assertParseFailure(parser, " n/Alise k/0", SearchCommand.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " n/Alise k/101", SearchCommand.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " n/Alise k/-1", SearchCommand.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " n/Alise k/three", SearchCommand.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " n/Alise k/99999999999999999999", SearchCommand.MESSAGE_INVALID_COUNT);
+    }
+
+    @Test
+    public void parse_duplicateCount_throwsParseException() {
+        assertParseFailure(parser, " n/Alise k/1 k/2", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_COUNT));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.realodex.logic.parser;
+
+import static seedu.realodex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.realodex.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.realodex.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.logic.Messages;
+import seedu.realodex.logic.commands.SortCommand;
+import seedu.realodex.model.person.sorting.SortField;
+import seedu.realodex.model.person.sorting.SortKey;
+
+public class SortCommandParserTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+
+    private final SortCommandParser parser = new SortCommandParser(CLOCK);
+
+    @Test
+    public void parse_emptyArgs_sortsByBirthday() {
+        assertParseSuccess(parser, "", new SortCommand(SortCommand.DEFAULT_SORT_KEYS, CLOCK));
+        assertParseSuccess(parser, "   ", new SortCommand(SortCommand.DEFAULT_SORT_KEYS, CLOCK));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        // single field, ascending by default
+        assertParseSuccess(parser, " n/", new SortCommand(List.of(new SortKey(SortField.NAME, false)), CLOCK));
+
+        // explicit orders, in any case
+        assertParseSuccess(parser, " i/DESC h/asc", new SortCommand(List.of(
+                new SortKey(SortField.INCOME, true), new SortKey(SortField.HOUSING_TYPE, false)), CLOCK));
+
+        // fields are kept in the order given
+        assertParseSuccess(parser, " b/desc  f/ n/desc i/", new SortCommand(List.of(
+                new SortKey(SortField.BIRTHDAY, true), new SortKey(SortField.FAMILY, false),
+                new SortKey(SortField.NAME, true), new SortKey(SortField.INCOME, false)), CLOCK));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormatMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+
+        // unsortable field
+        assertParseFailure(parser, " p/", invalidFormatMessage);
+
+        // not a prefix
+        assertParseFailure(parser, " name", invalidFormatMessage);
+
+        // invalid order
+        assertParseFailure(parser, " n/up", SortCommandParser.MESSAGE_INVALID_ORDER);
+
+        // duplicate field
+        assertParseFailure(parser, " n/ i/ n/desc", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_NAME));
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.realodex.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.CARL;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.HousingType;
+import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.PersonIndex;
+import seedu.realodex.model.person.predicates.HousingTypeMatchPredicate;
+import seedu.realodex.model.person.predicates.IncomeInRangePredicate;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class FilterResultCacheTest {
+
+    private final Predicate<Person> hdbPredicate = new HousingTypeMatchPredicate(new HousingType("HDB"));
+
+    @Test
+    public void get_equalPredicateAtSameCount_returnsCachedMatches() {
+        FilterResultCache cache = new FilterResultCache(2);
+        Set<Person> matches = newMatches(ALICE);
+        cache.put(hdbPredicate, matches, 3);
+
+        Optional<Set<Person>> cached = cache.get(new HousingTypeMatchPredicate(new HousingType("HDB")), 3);
+        assertTrue(cached.isPresent());
+        assertSame(matches, cached.get());
+    }
+
+    @Test
+    public void get_uncachedOrStale_returnsEmpty() {
+        FilterResultCache cache = new FilterResultCache(2);
+        assertFalse(cache.get(hdbPredicate, 0).isPresent());
+
+        cache.put(hdbPredicate, newMatches(ALICE), 3);
+        assertFalse(cache.get(hdbPredicate, 4).isPresent());
+        // the stale entry is evicted
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void update_upToDateEntries_patched() {
+        FilterResultCache cache = new FilterResultCache(2);
+        cache.put(hdbPredicate, newMatches(ALICE, BENSON), 3);
+
+        Person hdbCarl = new PersonBuilder(CARL).withHousingType("HDB").build();
+        cache.update(3, 4, null, hdbCarl);
+        assertEquals(newMatches(ALICE, BENSON, hdbCarl), cache.get(hdbPredicate, 4).get());
+
+        Person condoAlice = new PersonBuilder(ALICE).withHousingType("Condominium").build();
+        cache.update(4, 5, ALICE, condoAlice);
+        assertEquals(newMatches(BENSON, hdbCarl), cache.get(hdbPredicate, 5).get());
+
+        cache.update(5, 6, BENSON, null);
+        assertEquals(newMatches(hdbCarl), cache.get(hdbPredicate, 6).get());
+    }
+
+    @Test
+    public void update_staleEntries_evicted() {
+        FilterResultCache cache = new FilterResultCache(2);
+        cache.put(hdbPredicate, newMatches(ALICE), 3);
+        cache.update(4, 5, null, BENSON);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_beyondCapacity_leastRecentlyUsedEvicted() {
+        FilterResultCache cache = new FilterResultCache(2);
+        Predicate<Person> lowIncomePredicate = new IncomeInRangePredicate(0, 1000);
+        Predicate<Person> highIncomePredicate = new IncomeInRangePredicate(100000, 200000);
+        cache.put(hdbPredicate, newMatches(ALICE), 0);
+        cache.put(lowIncomePredicate, newMatches(BENSON), 0);
+
+        // using the older entry makes the other one the least recently used
+        cache.get(hdbPredicate, 0);
+        cache.put(highIncomePredicate, newMatches(CARL), 0);
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get(hdbPredicate, 0).isPresent());
+        assertTrue(cache.get(highIncomePredicate, 0).isPresent());
+        assertFalse(cache.get(lowIncomePredicate, 0).isPresent());
+    }
+
+    @Test
+    public void put_predicateWithoutEquals_notCached() {
+        FilterResultCache cache = new FilterResultCache(1);
+        cache.put(hdbPredicate, newMatches(ALICE), 0);
+
+        Set<Person> matches = newMatches(BENSON);
+        Predicate<Person> lambdaPredicate = matches::contains;
+        cache.put(lambdaPredicate, matches, 0);
+        assertFalse(cache.get(lambdaPredicate, 0).isPresent());
+        // the cached filter is not evicted
+        assertTrue(cache.get(hdbPredicate, 0).isPresent());
+    }
+
+    @Test
+    public void clear_evictsEveryEntry() {
+        FilterResultCache cache = new FilterResultCache(2);
+        cache.put(hdbPredicate, newMatches(ALICE), 0);
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertFalse(cache.get(hdbPredicate, 0).isPresent());
+    }
+
+    private static Set<Person> newMatches(Person... persons) {
+        Set<Person> matches = PersonIndex.newPostingSet();
+        matches.addAll(Set.of(persons));
+        return matches;
+    }
+}
@@ -7,14 +7,21 @@ import static seedu.realodex.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.realodex.testutil.Assert.assertThrows;
 import static seedu.realodex.testutil.TypicalPersons.ALICE;
 import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.realodex.commons.core.GuiSettings;
+import seedu.realodex.model.person.HousingType;
+import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.predicates.HousingTypeMatchPredicate;
 import seedu.realodex.model.person.predicates.NameContainsKeyphrasePredicate;
+import seedu.realodex.testutil.PersonBuilder;
 import seedu.realodex.testutil.RealodexBuilder;
 
 public class ModelManagerTest {
@@ -87,6 +94,117 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getRealodexModificationCount_afterModification_increases() {
+        long initialCount = modelManager.getRealodexModificationCount();
+        modelManager.addPerson(ALICE);
+        assertTrue(modelManager.getRealodexModificationCount() > initialCount);
+        long countAfterAdd = modelManager.getRealodexModificationCount();
+        modelManager.updateFilteredPersonList(person -> false);
+        assertEquals(countAfterAdd, modelManager.getRealodexModificationCount());
+    }
+
+    @Test
+    public void updateFilteredPersonList_indexedPredicateThenEdit_filteredListUpToDate() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new HousingTypeMatchPredicate(new HousingType("HDB")));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+
+        Person editedBenson = new PersonBuilder(BENSON).withHousingType("HDB").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(ALICE, editedBenson), modelManager.getFilteredPersonList());
+
+        // an edited person that no longer matches stays in view until the filter is updated
+        Person editedAlice = new PersonBuilder(ALICE).withHousingType("Condominium").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice, editedBenson), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(new HousingTypeMatchPredicate(new HousingType("HDB")));
+        assertEquals(List.of(editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void addAndDeletePerson_filteredList_filterKept() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(person -> person.equals(ALICE));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+
+        // an added person is in view even if they do not match
+        modelManager.addPerson(CARL);
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(CARL);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(ALICE);
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+        assertEquals(List.of(BENSON), modelManager.getRealodex().getPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_repeatedFilterAfterChanges_filteredListUpToDate() {
+        HousingTypeMatchPredicate hdbPredicate = new HousingTypeMatchPredicate(new HousingType("HDB"));
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(hdbPredicate);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        // the cached matches are updated on each change while another filter is shown
+        Person hdbCarl = new PersonBuilder(CARL).withHousingType("HDB").build();
+        modelManager.addPerson(hdbCarl);
+        Person editedBenson = new PersonBuilder(BENSON).withHousingType("HDB").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.deletePerson(ALICE);
+
+        modelManager.updateFilteredPersonList(new HousingTypeMatchPredicate(new HousingType("HDB")));
+        assertEquals(List.of(editedBenson, hdbCarl), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setRealodex_filteredList_filterKept() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(new HousingTypeMatchPredicate(new HousingType("HDB")));
+
+        Person hdbBenson = new PersonBuilder(BENSON).withHousingType("HDB").build();
+        modelManager.setRealodex(new RealodexBuilder().withPerson(hdbBenson).withPerson(CARL).build());
+        assertEquals(List.of(hdbBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_personsInOrder_shownInOrderUntilNextFilter() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.updateSortedPersonList(Comparator.comparing(person -> person.getName().fullName));
+
+        modelManager.updateFilteredPersonList(List.of(CARL, ALICE));
+        assertEquals(List.of(CARL, ALICE), modelManager.getFilteredPersonList());
+
+        // an added person is shown after the given persons
+        Person daniel = new PersonBuilder().withName("Aaron Daniel").build();
+        modelManager.addPerson(daniel);
+        assertEquals(List.of(CARL, ALICE, daniel), modelManager.getFilteredPersonList());
+
+        // the sort order applies again once the filter is updated
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(daniel, ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getPersonsWithClosestNames_afterChanges_indexUpToDate() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertEquals(List.of(ALICE), modelManager.getPersonsWithClosestNames(ALICE.getName().fullName, 1));
+
+        modelManager.deletePerson(ALICE);
+        assertEquals(List.of(BENSON), modelManager.getPersonsWithClosestNames(ALICE.getName().fullName, 1));
+
+        modelManager.setRealodex(new RealodexBuilder().withPerson(CARL).build());
+        assertEquals(List.of(CARL), modelManager.getPersonsWithClosestNames(BENSON.getName().fullName, 1));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
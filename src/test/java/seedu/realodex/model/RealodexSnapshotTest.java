@@ -0,0 +1,36 @@
+package seedu.realodex.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.testutil.RealodexBuilder;
+
+public class RealodexSnapshotTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RealodexSnapshot(null));
+    }
+
+    @Test
+    public void getPersonList_realodexModifiedAfterSnapshot_unchanged() {
+        Realodex realodex = new RealodexBuilder().withPerson(ALICE).build();
+        RealodexSnapshot snapshot = new RealodexSnapshot(realodex);
+        realodex.addPerson(BENSON);
+
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertEquals(new RealodexBuilder().withPerson(ALICE).build(), new Realodex(snapshot));
+    }
+
+    @Test
+    public void getPersonList_modify_throwsUnsupportedOperationException() {
+        RealodexSnapshot snapshot = new RealodexSnapshot(new RealodexBuilder().withPerson(ALICE).build());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+}
@@ -54,6 +54,36 @@ public class RealodexTest {
         assertThrows(DuplicatePersonException.class, () -> realodex.resetData(newData));
     }
 
+    @Test
+    public void getModificationCount_afterEachModification_increases() {
+        long initialCount = realodex.getModificationCount();
+        realodex.addPerson(ALICE);
+        long afterAdd = realodex.getModificationCount();
+        assertTrue(afterAdd > initialCount);
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        realodex.setPerson(ALICE, editedAlice);
+        long afterSet = realodex.getModificationCount();
+        assertTrue(afterSet > afterAdd);
+
+        realodex.removePerson(editedAlice);
+        long afterRemove = realodex.getModificationCount();
+        assertTrue(afterRemove > afterSet);
+
+        realodex.resetData(getTypicalRealodex());
+        assertTrue(realodex.getModificationCount() > afterRemove);
+    }
+
+    @Test
+    public void getModificationCount_failedOrReadOnlyOperations_unchanged() {
+        realodex.addPerson(ALICE);
+        long count = realodex.getModificationCount();
+        assertThrows(DuplicatePersonException.class, () -> realodex.addPerson(ALICE));
+        realodex.hasPerson(ALICE);
+        realodex.getPersonList();
+        assertEquals(count, realodex.getModificationCount());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> realodex.hasPerson(null));
@@ -18,4 +18,10 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setRealodexFilePath(null));
     }
 
+    @Test
+    public void setRealodexDataFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setRealodexDataFormat(null));
+    }
+
 }
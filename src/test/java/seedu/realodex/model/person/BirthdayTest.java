@@ -5,12 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.realodex.testutil.Assert.assertThrows;
 
-import java.text.SimpleDateFormat;
 import java.time.LocalDate;
+import java.time.Month;
 import java.time.format.DateTimeFormatter;
-import java.util.Calendar;
-import java.util.Date;
-import java.util.Locale;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -26,10 +24,9 @@ public class BirthdayTest {
     public void getBirthday_test() {
         Birthday birthday = new Birthday("15Jun2023");
         Birthday emptyBirthday = new Birthday("");
-        String dateString = "15Jun2023";
-        SimpleDateFormat formatter = new SimpleDateFormat("ddMMMyyyy", Locale.ENGLISH);
 
-        assertEquals(dateString, formatter.format(birthday.getOptionalBirthday().orElse(null)));
+        assertEquals(Optional.of(LocalDate.of(2023, 6, 15)), birthday.getOptionalBirthday());
+        assertEquals("15Jun2023", birthday.toString());
         assertEquals(Optional.empty(), emptyBirthday.getOptionalBirthday());
     }
 
@@ -51,11 +48,16 @@ public class BirthdayTest {
         assertFalse(Birthday.isValidBirthday("29Feb2023")); // not a leap year
         assertFalse(Birthday.isValidBirthday("31June2023")); // June does not have 31 days
         assertFalse(Birthday.isValidBirthday("1-jan-2001")); // not supposed to have '-'
+        assertFalse(Birthday.isValidBirthday("12May2003abc")); // trailing characters
+        assertFalse(Birthday.isValidBirthday("12May0999")); // earlier than year 1000
 
         // valid date
         assertTrue(Birthday.isValidBirthday("29Feb2024")); // leap year
         assertTrue(Birthday.isValidBirthday("12May2003"));
         assertTrue(Birthday.isValidBirthday("08Aug1888"));
+        assertTrue(Birthday.isValidBirthday("3jun2003")); // single digit day, lower case month
+        assertTrue(Birthday.isValidBirthday("03June2003")); // full month name
+        assertTrue(Birthday.isValidBirthday(" 12May2003 ")); // leading and trailing whitespace
 
         // invalid dates
         assertFalse(Birthday.isValidBirthday("01May2009233"));
@@ -75,6 +77,22 @@ public class BirthdayTest {
 
     }
 
+    @Test
+    public void parseMonth_test() {
+        assertEquals(Optional.of(Month.SEPTEMBER), Birthday.parseMonth("Sep"));
+        assertEquals(Optional.of(Month.SEPTEMBER), Birthday.parseMonth("september"));
+        assertEquals(Optional.of(Month.JANUARY), Birthday.parseMonth("jAn"));
+
+        // extraneous input after the month name is ignored
+        assertEquals(Optional.of(Month.APRIL), Birthday.parseMonth("AprMogger"));
+        assertEquals(Optional.of(Month.JUNE), Birthday.parseMonth("Junebug"));
+
+        // not a month
+        assertEquals(Optional.empty(), Birthday.parseMonth(""));
+        assertEquals(Optional.empty(), Birthday.parseMonth("sndjkfnksdnf"));
+        assertEquals(Optional.empty(), Birthday.parseMonth(" Sep"));
+    }
+
     @Test
     public void equals_test() {
         Birthday birthday = new Birthday("14mar1706"); // pi day!
@@ -96,37 +114,56 @@ public class BirthdayTest {
     }
 
     @Test
-    public void getDaysUntilBirthday_birthdayInFuture_returnsCorrectDays() throws java.text.ParseException {
-        // Set current date to 2023-01-01
-        Calendar currentCalendar = Calendar.getInstance();
-        Date currentDate = currentCalendar.getTime();
-
-        // Set birthday to 2023-01-15
-        SimpleDateFormat formatter = new SimpleDateFormat("ddMMMyyyy");
-        Date birthdayDate = formatter.parse("15Jan2001");
+    public void getDaysUntilBirthday_birthdayInFuture_returnsCorrectDays() {
+        LocalDate today = LocalDate.now();
 
         // Create Birthday object with birthday in future
         Birthday birthday = new Birthday("15Jan2023");
 
         // Test
-        assertEquals(getDaysUntilBirthdayStub(currentDate, birthdayDate), birthday.getDaysUntilBirthday());
+        assertEquals(getDaysUntilBirthdayStub(today, LocalDate.of(2023, 1, 15)), birthday.getDaysUntilBirthday());
     }
 
     @Test
-    public void getDaysUntilBirthday_birthdayPassedInCurrentYear_returnsCorrectDays() throws java.text.ParseException {
-        // Set current date to 2023-01-01
-        Calendar currentCalendar = Calendar.getInstance();
-        Date currentDate = currentCalendar.getTime();
-
-        // Set birthday to 2022-12-15
-        SimpleDateFormat formatter = new SimpleDateFormat("ddMMMyyyy");
-        Date birthdayDate = formatter.parse("15Dec2001");
+    public void getDaysUntilBirthday_birthdayPassedInCurrentYear_returnsCorrectDays() {
+        LocalDate today = LocalDate.now();
 
         // Create Birthday object with birthday passed in current year
         Birthday birthday = new Birthday("15Dec2022");
 
         // Test
-        assertEquals(getDaysUntilBirthdayStub(currentDate, birthdayDate), birthday.getDaysUntilBirthday());
+        assertEquals(getDaysUntilBirthdayStub(today, LocalDate.of(2022, 12, 15)), birthday.getDaysUntilBirthday());
+    }
+
+    @Test
+    public void getDaysUntilBirthday_givenDate_returnsCorrectDays() {
+        Birthday birthday = new Birthday("15Jan2001");
+
+        // birthday is today
+        assertEquals(0, birthday.getDaysUntilBirthday(LocalDate.of(2023, 1, 15)));
+
+        // birthday later this year
+        assertEquals(14, birthday.getDaysUntilBirthday(LocalDate.of(2023, 1, 1)));
+
+        // birthday passed this year
+        assertEquals(364, birthday.getDaysUntilBirthday(LocalDate.of(2023, 1, 16)));
+
+        // birthday after 29 Feb of a leap year
+        assertEquals(365, new Birthday("01Mar2001").getDaysUntilBirthday(LocalDate.of(2023, 3, 2)));
+        assertEquals(1, new Birthday("01Mar2001").getDaysUntilBirthday(LocalDate.of(2024, 2, 29)));
+
+        // unspecified birthday
+        assertEquals(0, new Birthday().getDaysUntilBirthday(LocalDate.of(2023, 1, 1)));
+    }
+
+    @Test
+    public void getDaysUntilBirthday_leapDayBirthday_fallsOnFirstOfMarchInCommonYears() {
+        Birthday birthday = new Birthday("29Feb2000");
+
+        assertEquals(0, birthday.getDaysUntilBirthday(LocalDate.of(2024, 2, 29)));
+        assertEquals(1, birthday.getDaysUntilBirthday(LocalDate.of(2023, 2, 28)));
+        assertEquals(0, birthday.getDaysUntilBirthday(LocalDate.of(2023, 3, 1)));
+        assertEquals(365, birthday.getDaysUntilBirthday(LocalDate.of(2024, 3, 1)));
     }
 
     @Test
@@ -140,20 +177,13 @@ public class BirthdayTest {
 
     @Test
     public void getDaysUntilBirthdayWithRepresentation_birthdayPresent_returnsDaysRepresentation() {
-        // Set current date to 2023-01-01
-        Calendar currentCalendar = Calendar.getInstance();
-        Date currentDate = currentCalendar.getTime();
-
-        // Set birthday to 2023-01-15
-        Calendar birthdayCalendar = Calendar.getInstance();
-        birthdayCalendar.set(2023, Calendar.JANUARY, 15);
-        Date birthdayDate = birthdayCalendar.getTime();
+        LocalDate today = LocalDate.now();
 
         // Create Birthday object with birthday present
         Birthday birthday = new Birthday("15Jan2023");
 
         // Test
-        assertEquals(getDaysUntilBirthdayWithRepresentationStub(currentDate, birthdayDate),
+        assertEquals(getDaysUntilBirthdayWithRepresentationStub(today, LocalDate.of(2023, 1, 15)),
                      birthday.getDaysUntilBirthdayWithRepresentation());
     }
 
@@ -183,46 +213,20 @@ public class BirthdayTest {
     }
 
     /**
-     * Returns the number of days from the current system date to the birthday.
+     * Returns the number of days from {@code today} to the birthday.
      * If the birthday has already passed this year, it returns the number of days
-     * from the current date of next year to the birthday.
+     * from {@code today} to the birthday of next year.
      */
-    private Long getDaysUntilBirthdayStub(Date currentDate, Date birthdayDate) {
-        // Remove time component from the dates for accurate comparison
-        Calendar currentCal = returnInstanceOfCalendar(currentDate);
-        Calendar birthdayCal = returnInstanceOfCalendar(birthdayDate);
-
-        int currentYear = currentCal.get(Calendar.YEAR);
-        int currentMonth = currentCal.get(Calendar.MONTH);
-        int currentDay = currentCal.get(Calendar.DAY_OF_MONTH);
-        int birthdayMonth = birthdayCal.get(Calendar.MONTH);
-        int birthdayDay = birthdayCal.get(Calendar.DAY_OF_MONTH);
-
-        // Check if the birthday has already passed this year
-        if (currentMonth > birthdayMonth || (currentMonth == birthdayMonth && currentDay > birthdayDay)) {
-            // If yes, set the birthday year to the next year
-            birthdayCal.set(Calendar.YEAR, currentYear + 1);
-        } else {
-            birthdayCal.set(Calendar.YEAR, currentYear);
+    private long getDaysUntilBirthdayStub(LocalDate today, LocalDate birthdayDate) {
+        LocalDate nextBirthday = birthdayDate.withYear(today.getYear());
+        if (nextBirthday.isBefore(today)) {
+            nextBirthday = birthdayDate.withYear(today.getYear() + 1);
         }
-
-        // Calculate the difference in milliseconds between the two dates and convert it to days
-        long diff = birthdayCal.getTimeInMillis() - currentCal.getTimeInMillis();
-        return diff / (1000 * 60 * 60 * 24); // Convert milliseconds to days
+        return ChronoUnit.DAYS.between(today, nextBirthday);
     }
 
-    public String getDaysUntilBirthdayWithRepresentationStub(Date currentDate, Date birthdayDate) {
-        return getDaysUntilBirthdayStub(currentDate, birthdayDate) + " More Days Till Their Birthday!";
-
-    }
+    public String getDaysUntilBirthdayWithRepresentationStub(LocalDate today, LocalDate birthdayDate) {
+        return getDaysUntilBirthdayStub(today, birthdayDate) + " More Days Till Their Birthday!";
 
-    private Calendar returnInstanceOfCalendar(Date date) {
-        Calendar toReturn = Calendar.getInstance();
-        toReturn.setTime(date);
-        toReturn.set(Calendar.HOUR_OF_DAY, 0);
-        toReturn.set(Calendar.MINUTE, 0);
-        toReturn.set(Calendar.SECOND, 0);
-        toReturn.set(Calendar.MILLISECOND, 0);
-        return toReturn;
     }
 }
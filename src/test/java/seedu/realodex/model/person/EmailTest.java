@@ -1,5 +1,6 @@
 package seedu.realodex.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.realodex.testutil.Assert.assertThrows;
@@ -127,6 +128,12 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("user-.n+++++++++++-----------ame@example.com")); // mixed consecutive periods and
     }
 
+    @Test
+    public void getValueInLowerCase() {
+        assertEquals("peterjack@example.com", new Email("PeterJack@Example.COM").getValueInLowerCase());
+        assertEquals("peterjack@example.com", new Email("peterjack@example.com").getValueInLowerCase());
+    }
+
     @Test
     public void equals() {
         Email email = new Email("valid@email");
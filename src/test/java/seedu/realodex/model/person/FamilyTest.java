@@ -36,7 +36,9 @@ public class FamilyTest {
         // valid family numbers
         assertTrue(Family.isValidFamily("2")); // more than 1
         assertTrue(Family.isValidFamily("93121")); // huge family
-        assertTrue(Family.isValidFamily("12422131313131938")); // very huge family
+        assertTrue(Family.isValidFamily("2147483647")); // largest family size
+        assertFalse(Family.isValidFamily("2147483648")); // larger than the largest family size
+        assertFalse(Family.isValidFamily("12422131313131938")); // larger than the largest family size
     }
 
     @Test
@@ -51,12 +53,13 @@ public class FamilyTest {
     public void isValidFamily_validFamilySizes_returnsTrue() {
         assertTrue(Family.isValidFamily("1")); // Minimum valid value
         assertTrue(Family.isValidFamily("123")); // Positive integer
-        assertTrue(Family.isValidFamily("999999999999999")); // Large positive integer
+        assertTrue(Family.isValidFamily("999999999")); // Large positive integer
         assertTrue(Family.isValidFamily("01")); // Prepended 0s
         assertTrue(Family.isValidFamily("001")); // Double prepended 0s
         assertTrue(Family.isValidFamily("0001")); // Three prepended 0s
         assertTrue(Family.isValidFamily("00000000000000000000000000001")); // Many prepended 0s
-        assertTrue(Family.isValidFamily("01232132131313312313131")); // Single prepended 0 with large value
+        assertTrue(Family.isValidFamily("01232132131")); // Single prepended 0 with large value
+        assertFalse(Family.isValidFamily("01232132131313312313131")); // Single prepended 0 with too large value
 
 
         assertFalse(Family.isValidFamily("0000000000000000000000000000")); // Many prepended 0s with no 1-9 value
@@ -65,6 +68,19 @@ public class FamilyTest {
     }
 
 
+    @Test
+    public void compareTo() {
+        assertTrue(new Family("9").compareTo(new Family("10")) < 0);
+        assertTrue(new Family("10").compareTo(new Family("9")) > 0);
+        assertTrue(new Family("03").compareTo(new Family("3")) == 0);
+    }
+
+    @Test
+    public void getValue() {
+        assertTrue(new Family("007").getValue() == 7);
+        assertTrue(new Family().getValue() == 1);
+    }
+
     @Test
     public void equals() {
         Family family = new Family("999");
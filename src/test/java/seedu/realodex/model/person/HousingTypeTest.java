@@ -53,6 +53,13 @@ public class HousingTypeTest {
         assertEquals(housingType4.toStringWithRepresentation(), "Preferred housing type is GOOD CLASS BUNGALOW");
     }
 
+    @Test
+    public void compareTo() {
+        assertTrue(new HousingType("HDB").compareTo(new HousingType("CONDOMINIUM")) < 0);
+        assertTrue(new HousingType("GOOD CLASS BUNGALOW").compareTo(new HousingType("LANDED PROPERTY")) > 0);
+        assertEquals(0, new HousingType("hdb").compareTo(new HousingType("HDB")));
+    }
+
     @Test
     public void equals() {
         HousingType housingType1 = new HousingType("HDB");
@@ -37,6 +37,24 @@ public class IncomeTest {
         assertTrue(Income.isValidIncome("2")); // more than 1
         assertTrue(Income.isValidIncome("93121"));
         assertTrue(Income.isValidIncome("1242938231332131313")); // long number
+        assertTrue(Income.isValidIncome("9223372036854775807")); // largest income
+
+        // larger than the largest income
+        assertFalse(Income.isValidIncome("9223372036854775808"));
+        assertFalse(Income.isValidIncome("12429382313321313130"));
+    }
+
+    @Test
+    public void compareTo() {
+        assertTrue(new Income("999").compareTo(new Income("1000")) < 0);
+        assertTrue(new Income("1000").compareTo(new Income("999")) > 0);
+        assertTrue(new Income("0500").compareTo(new Income("500")) == 0);
+    }
+
+    @Test
+    public void getValue() {
+        assertTrue(new Income("0500").getValue() == 500L);
+        assertTrue(new Income().getValue() == 0L);
     }
 
     @Test
@@ -0,0 +1,120 @@
+package seedu.realodex.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.CARL;
+import static seedu.realodex.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.testutil.PersonBuilder;
+
+public class NameBkTreeTest {
+
+    @Test
+    public void distance() {
+        assertEquals(0, NameBkTree.distance("alice", "alice"));
+        assertEquals(5, NameBkTree.distance("", "alice"));
+        assertEquals(1, NameBkTree.distance("alise", "alice"));
+        assertEquals(1, NameBkTree.distance("alce", "alice"));
+        assertEquals(1, NameBkTree.distance("aliice", "alice"));
+        assertEquals(3, NameBkTree.distance("kitten", "sitting"));
+    }
+
+    @Test
+    public void distance_withLimit() {
+        assertEquals(3, NameBkTree.distance("kitten", "sitting", 3));
+        assertTrue(NameBkTree.distance("kitten", "sitting", 2) > 2);
+        assertTrue(NameBkTree.distance("", "alice", 4) > 4);
+        assertTrue(NameBkTree.distance("abcdef", "uvwxyz", 1) > 1);
+    }
+
+    @Test
+    public void findClosest_emptyTreeOrZeroCount_noPersons() {
+        NameBkTree tree = new NameBkTree();
+        assertTrue(tree.findClosest("alice", 3).isEmpty());
+        tree.add(ALICE);
+        assertTrue(tree.findClosest("alice", 0).isEmpty());
+    }
+
+    @Test
+    public void findClosest_misspeltName_closestFirst() {
+        NameBkTree tree = new NameBkTree();
+        List.of(ALICE, BENSON, CARL, DANIEL).forEach(tree::add);
+        assertEquals(List.of(ALICE), tree.findClosest("alise paulin", 1));
+        assertEquals(List.of(ALICE), tree.findClosest("ALICE PAULINE", 1));
+        assertEquals(List.of(BENSON, DANIEL), tree.findClosest("benson meyer", 2));
+        assertEquals(4, tree.findClosest("x", 10).size());
+    }
+
+    @Test
+    public void findClosest_sameNameInDifferentCase_bothFound() {
+        NameBkTree tree = new NameBkTree();
+        Person lowerCaseAlice = new PersonBuilder(ALICE).withName("alice pauline").build();
+        tree.add(ALICE);
+        tree.add(lowerCaseAlice);
+
+        // persons at the same distance are ordered by name
+        assertEquals(List.of(ALICE, lowerCaseAlice), tree.findClosest("alice pauline", 2));
+
+        tree.remove(ALICE);
+        assertEquals(List.of(lowerCaseAlice), tree.findClosest("alice pauline", 2));
+    }
+
+    @Test
+    public void findClosest_randomNames_sameAsFullScan() {
+        Random random = new Random(21);
+        NameBkTree tree = new NameBkTree();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Person person = new PersonBuilder().withName(randomName(random) + " " + i).build();
+            persons.add(person);
+            tree.add(person);
+        }
+
+        // removing most persons also rebuilds the tree
+        for (int i = 0; i < 400; i++) {
+            tree.remove(persons.remove(random.nextInt(persons.size())));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            String query = randomName(random);
+            assertEquals(closestByFullScan(persons, query, 5), tree.findClosest(query, 5));
+        }
+    }
+
+    @Test
+    public void remove_personNotInTree_noChange() {
+        NameBkTree tree = new NameBkTree();
+        tree.add(ALICE);
+        tree.remove(BENSON);
+        tree.remove(new PersonBuilder(ALICE).build());
+        assertEquals(List.of(ALICE), tree.findClosest("alice", 5));
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int length = 3 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            name.append((char) ('a' + random.nextInt(6)));
+        }
+        return name.toString();
+    }
+
+    private static List<Person> closestByFullScan(List<Person> persons, String query, int count) {
+        return persons.stream()
+                .sorted(Comparator.<Person>comparingInt(person ->
+                                NameBkTree.distance(query, person.getName().getFullNameInLowerCase()))
+                        .thenComparing(person -> person.getName().fullName))
+                .limit(count)
+                .collect(Collectors.toList());
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.realodex.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.realodex.testutil.Assert.assertThrows;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -39,6 +42,18 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void getPhoneticCodes() {
+        assertEquals(Set.of("S500", "M600"), new Name("Sean Meier").getPhoneticCodes());
+
+        // words that sound alike have one code
+        assertEquals(Set.of("S500"), new Name("Sean Shawn").getPhoneticCodes());
+
+        // words without letters have no code
+        assertEquals(Set.of("J500"), new Name("John 3").getPhoneticCodes());
+        assertEquals(Set.of(), Name.toPhoneticCodes("2 3"));
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
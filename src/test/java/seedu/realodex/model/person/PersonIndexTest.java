@@ -0,0 +1,173 @@
+package seedu.realodex.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.CARL;
+import static seedu.realodex.testutil.TypicalPersons.DANIEL;
+import static seedu.realodex.testutil.TypicalPersons.ELLE;
+import static seedu.realodex.testutil.TypicalPersons.FIONA;
+import static seedu.realodex.testutil.TypicalPersons.getFirstTypicalPersons;
+
+import java.time.Month;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.testutil.PersonBuilder;
+
+public class PersonIndexTest {
+
+    @Test
+    public void setAll_typicalPersons_indexedByEachValue() {
+        PersonIndex index = new PersonIndex();
+        index.setAll(getFirstTypicalPersons());
+        assertEquals(Set.of(ALICE, ELLE, FIONA), index.getPersonsWithHouse(HousingType.House.HDB));
+        assertEquals(Set.of(BENSON, FIONA), index.getPersonsWithRole(Tag.Role.SELLER));
+        assertEquals(Set.of(ALICE, BENSON, CARL, FIONA), index.getPersonsBornIn(Month.JUNE));
+        assertTrue(index.getPersonsBornIn(Month.FEBRUARY).isEmpty());
+    }
+
+    @Test
+    public void add_personWithoutBirthday_notIndexedByMonth() {
+        PersonIndex index = new PersonIndex();
+        Person person = new PersonBuilder().withBirthday("").build();
+        index.add(person);
+        assertEquals(Set.of(person), index.getPersonsWithHouse(person.getHousingType().getHouse()));
+        for (Month month : Month.values()) {
+            assertTrue(index.getPersonsBornIn(month).isEmpty());
+        }
+    }
+
+    @Test
+    public void remove_indexedPerson_removedFromAllValues() {
+        PersonIndex index = new PersonIndex();
+        index.setAll(getFirstTypicalPersons());
+        index.remove(BENSON);
+        assertEquals(Set.of(FIONA), index.getPersonsWithRole(Tag.Role.SELLER));
+        assertEquals(Set.of(ALICE, CARL, FIONA), index.getPersonsBornIn(Month.JUNE));
+    }
+
+    @Test
+    public void remove_equalPerson_comparedByIdentity() {
+        PersonIndex index = new PersonIndex();
+        index.add(ALICE);
+        index.remove(new PersonBuilder(ALICE).build());
+        assertEquals(Set.of(ALICE), index.getPersonsWithHouse(HousingType.House.HDB));
+    }
+
+    @Test
+    public void getPersonsWithPhoneticCode_code_personsWithWordThatSoundsAlike() {
+        PersonIndex index = new PersonIndex();
+        index.setAll(getFirstTypicalPersons());
+        // Meier and Meyer
+        assertEquals(Set.of(BENSON, DANIEL, ELLE), index.getPersonsWithPhoneticCode("M600"));
+        assertEquals(Set.of(CARL), index.getPersonsWithPhoneticCode("K620"));
+        assertTrue(index.getPersonsWithPhoneticCode("Z000").isEmpty());
+
+        index.remove(CARL);
+        assertTrue(index.getPersonsWithPhoneticCode("K620").isEmpty());
+        index.setAll(List.of());
+        assertTrue(index.getPersonsWithPhoneticCode("M600").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithPhoneAndEmail_typicalPersons_exactMatches() {
+        PersonIndex index = new PersonIndex();
+        index.setAll(getFirstTypicalPersons());
+        assertEquals(Set.of(ALICE), index.getPersonsWithPhone(ALICE.getPhone()));
+        assertEquals(Set.of(BENSON), index.getPersonsWithEmail(BENSON.getEmail()));
+        assertTrue(index.getPersonsWithPhone(new Phone("123")).isEmpty());
+        assertTrue(index.getPersonsWithEmail(new Email("nobody@example.com")).isEmpty());
+
+        // emails in any case
+        assertEquals(Set.of(ALICE), index.getPersonsWithEmail(new Email("ALICE@Example.com")));
+
+        // removed
+        index.remove(ALICE);
+        assertTrue(index.getPersonsWithPhone(ALICE.getPhone()).isEmpty());
+        assertTrue(index.getPersonsWithEmail(ALICE.getEmail()).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithPhone_sharedPhone_allPersonsWithPhone() {
+        PersonIndex index = new PersonIndex();
+        Person spouse = new PersonBuilder().withName("Alice Spouse").withPhone(ALICE.getPhone().value).build();
+        index.add(ALICE);
+        index.add(spouse);
+        assertEquals(Set.of(ALICE, spouse), index.getPersonsWithPhone(ALICE.getPhone()));
+        index.remove(spouse);
+        assertEquals(Set.of(ALICE), index.getPersonsWithPhone(ALICE.getPhone()));
+    }
+
+    @Test
+    public void getPersonsWithEmail_sharedThenUnshared_personsWithEmailKept() {
+        PersonIndex index = new PersonIndex();
+        Person spouse = new PersonBuilder().withName("Alice Spouse").withEmail(ALICE.getEmail().value).build();
+        Person child = new PersonBuilder().withName("Alice Child").withEmail(ALICE.getEmail().value).build();
+        index.add(ALICE);
+        index.add(spouse);
+        index.add(child);
+
+        // an equal person that is not the indexed one is not removed
+        index.remove(new PersonBuilder(ALICE).build());
+        assertEquals(Set.of(ALICE, spouse, child), index.getPersonsWithEmail(ALICE.getEmail()));
+
+        index.remove(ALICE);
+        index.remove(child);
+        assertEquals(Set.of(spouse), index.getPersonsWithEmail(ALICE.getEmail()));
+        index.add(ALICE);
+        assertEquals(Set.of(ALICE, spouse), index.getPersonsWithEmail(ALICE.getEmail()));
+        index.remove(spouse);
+        index.remove(ALICE);
+        assertTrue(index.getPersonsWithEmail(ALICE.getEmail()).isEmpty());
+    }
+
+    @Test
+    public void getNameCandidates_keyphrase_personsWithTrigramsInName() {
+        PersonIndex index = new PersonIndex();
+        index.setAll(getFirstTypicalPersons());
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Meier").build();
+        index.remove(ALICE);
+        index.add(editedAlice);
+
+        // name index is in lower case
+        assertEquals(Optional.of(Set.of(BENSON, DANIEL, editedAlice)), index.getNameCandidates("meier"));
+        assertTrue(index.getNameCandidates("Meier").get().isEmpty());
+        assertEquals(Optional.empty(), index.getNameCandidates("me"));
+    }
+
+    @Test
+    public void getRemarkCandidates_keyphrase_personsWithTrigramsInRemark() {
+        PersonIndex index = new PersonIndex();
+        Person person = new PersonBuilder().withRemark("Likes Coffee").build();
+        index.add(person);
+        assertEquals(Optional.of(Set.of(person)), index.getRemarkCandidates("coffee"));
+        index.remove(person);
+        assertTrue(index.getRemarkCandidates("coffee").get().isEmpty());
+    }
+
+    @Test
+    public void getVersion_everyChange_incremented() {
+        PersonIndex index = new PersonIndex();
+        long version = index.getVersion();
+        index.add(ALICE);
+        assertNotEquals(version, index.getVersion());
+
+        version = index.getVersion();
+        index.remove(ALICE);
+        assertNotEquals(version, index.getVersion());
+    }
+
+    @Test
+    public void getPersonsWithHouse_modifyResult_throwsUnsupportedOperationException() {
+        PersonIndex index = new PersonIndex();
+        assertThrows(UnsupportedOperationException.class, () ->
+                index.getPersonsWithHouse(HousingType.House.HDB).add(ALICE));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.realodex.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.realodex.testutil.Assert.assertThrows;
@@ -40,6 +41,17 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("124293842033123")); // long phone numbers
     }
 
+    @Test
+    public void stripSeparators() {
+        assertThrows(NullPointerException.class, () -> Phone.stripSeparators(null));
+        assertEquals("91234567", Phone.stripSeparators("91234567"));
+        assertEquals("91234567", Phone.stripSeparators("9123 4567"));
+        assertEquals("91234567", Phone.stripSeparators("9123-45 67"));
+
+        // other characters are kept
+        assertEquals("+6591234567", Phone.stripSeparators("+65 9123 4567"));
+    }
+
     @Test
     public void equals() {
         Phone phone = new Phone("999");
@@ -0,0 +1,84 @@
+package seedu.realodex.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    @Test
+    public void trigrams_text_distinctTrigrams() {
+        assertEquals(0, TrigramIndex.trigrams("ab").length);
+        assertEquals(1, TrigramIndex.trigrams("abc").length);
+
+        // "aaa" appears twice in "aaaa", and "abc" twice in "abcabc"
+        assertEquals(1, TrigramIndex.trigrams("aaaa").length);
+        assertTrue(Arrays.equals(TrigramIndex.trigrams("abcabc"), TrigramIndex.trigrams("abcab")));
+    }
+
+    @Test
+    public void getCandidates_shortKeyphrase_empty() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(ALICE, "alice");
+        assertEquals(Optional.empty(), index.getCandidates("al"));
+    }
+
+    @Test
+    public void getCandidates_keyphrase_personsWithAllTrigrams() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(ALICE, "alice pauline");
+        index.add(BENSON, "benson meier");
+        index.add(CARL, "carl ice");
+
+        assertEquals(Optional.of(Set.of(ALICE, CARL)), index.getCandidates("ice"));
+        assertEquals(Optional.of(Set.of(ALICE)), index.getCandidates("alice"));
+
+        // candidates contain every trigram, but not necessarily the keyphrase
+        assertEquals(Optional.of(Set.of(CARL)), index.getCandidates("carl ice"));
+        assertEquals(Optional.of(Set.of(ALICE)), index.getCandidates("ice pau"));
+
+        // missing trigram
+        assertTrue(index.getCandidates("xyz").get().isEmpty());
+    }
+
+    @Test
+    public void remove_person_noLongerCandidate() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(ALICE, "alice");
+        index.add(CARL, "carl ice");
+        index.remove(ALICE, "alice");
+        assertEquals(Optional.of(Set.of(CARL)), index.getCandidates("ice"));
+        assertTrue(index.getCandidates("ali").get().isEmpty());
+    }
+
+    @Test
+    public void getCandidates_textBeyondTrigramLimit_alwaysCandidate() {
+        TrigramIndex index = new TrigramIndex(3);
+        index.add(ALICE, "alice");
+        index.add(BENSON, "benson meier");
+
+        assertEquals(Optional.of(Set.of(ALICE, BENSON)), index.getCandidates("ali"));
+        assertEquals(Optional.of(Set.of(BENSON)), index.getCandidates("xyz"));
+
+        index.remove(BENSON, "benson meier");
+        assertEquals(Optional.of(Set.of(ALICE)), index.getCandidates("ali"));
+        assertTrue(index.getCandidates("xyz").get().isEmpty());
+    }
+
+    @Test
+    public void getCandidates_singleTrigram_unmodifiable() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(ALICE, "alice");
+        index.add(CARL, "carl ice");
+        assertThrows(UnsupportedOperationException.class, () -> index.getCandidates("ice").get().clear());
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.realodex.logic.commands.CommandTestUtil.VALID_TAG_AMY;
 import static seedu.realodex.testutil.Assert.assertThrows;
 import static seedu.realodex.testutil.TypicalPersons.ALICE;
 import static seedu.realodex.testutil.TypicalPersons.BOB;
+import static seedu.realodex.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -109,6 +110,16 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -127,6 +138,15 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_allowsReAddingSameIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -156,12 +176,49 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersons_list_replacesIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPersons_uniquePersonList_replacesIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(BOB);
+        uniquePersonList.setPersons(replacement);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        replacement.remove(BOB);
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
         List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsFirstConflictingName() {
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, CARL, editedBob, ALICE);
+        assertThrows(DuplicatePersonException.class, new DuplicatePersonException(BOB.getName()).getMessage(), () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_leavesListUnchanged() {
+        uniquePersonList.add(CARL);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(Arrays.asList(ALICE, ALICE)));
+        assertEquals(Collections.singletonList(CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(CARL));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
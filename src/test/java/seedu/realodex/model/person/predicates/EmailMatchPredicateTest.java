@@ -0,0 +1,70 @@
+package seedu.realodex.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.getFirstTypicalPersons;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.Email;
+import seedu.realodex.model.person.PersonIndex;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class EmailMatchPredicateTest {
+
+    @Test
+    public void equals() {
+        EmailMatchPredicate firstPredicate = new EmailMatchPredicate(new Email("alice@example.com"));
+        EmailMatchPredicate secondPredicate = new EmailMatchPredicate(new Email("bob@example.com"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new EmailMatchPredicate(new Email("alice@example.com"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different email -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_sameEmailInAnyCase_returnsTrue() {
+        EmailMatchPredicate predicate = new EmailMatchPredicate(new Email("Alice@Example.com"));
+        assertTrue(predicate.test(new PersonBuilder().withEmail("alice@example.com").build()));
+        assertTrue(predicate.test(new PersonBuilder().withEmail("ALICE@EXAMPLE.COM").build()));
+    }
+
+    @Test
+    public void test_differentEmail_returnsFalse() {
+        EmailMatchPredicate predicate = new EmailMatchPredicate(new Email("alice@example.com"));
+        assertFalse(predicate.test(new PersonBuilder().withEmail("alice@example.co").build()));
+        assertFalse(predicate.test(new PersonBuilder().withEmail("malice@example.com").build()));
+    }
+
+    @Test
+    public void lookUp_typicalPersons_sameAsTest() {
+        PersonIndex index = new PersonIndex();
+        index.setAll(getFirstTypicalPersons());
+        assertEquals(Optional.of(Set.of(BENSON)),
+                new EmailMatchPredicate(new Email("JohnD@example.com")).lookUp(index));
+        assertEquals(Optional.of(Set.of()), new EmailMatchPredicate(new Email("nobody@example.com")).lookUp(index));
+    }
+
+    @Test
+    public void toStringMethod() {
+        EmailMatchPredicate predicate = new EmailMatchPredicate(new Email("alice@example.com"));
+        String expected = EmailMatchPredicate.class.getCanonicalName() + "{email=alice@example.com}";
+        assertEquals(expected, predicate.toString());
+    }
+}
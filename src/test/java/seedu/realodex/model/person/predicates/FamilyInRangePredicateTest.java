@@ -0,0 +1,60 @@
+package seedu.realodex.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.testutil.PersonBuilder;
+
+public class FamilyInRangePredicateTest {
+
+    @Test
+    public void equals() {
+        FamilyInRangePredicate firstPredicate = new FamilyInRangePredicate(2, 4);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new FamilyInRangePredicate(2, 4)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different range -> returns false
+        assertFalse(firstPredicate.equals(new FamilyInRangePredicate(2, 5)));
+    }
+
+    @Test
+    public void hashCode_equalPredicates_equalHashCodes() {
+        assertEquals(new FamilyInRangePredicate(2, 4).hashCode(),
+                new FamilyInRangePredicate(2, 4).hashCode());
+    }
+
+    @Test
+    public void test_familyInRange_returnsTrue() {
+        FamilyInRangePredicate predicate = new FamilyInRangePredicate(2, 4);
+        assertTrue(predicate.test(new PersonBuilder().withFamily("2").build()));
+        assertTrue(predicate.test(new PersonBuilder().withFamily("3").build()));
+        assertTrue(predicate.test(new PersonBuilder().withFamily("04").build()));
+    }
+
+    @Test
+    public void test_familyNotInRange_returnsFalse() {
+        FamilyInRangePredicate predicate = new FamilyInRangePredicate(2, 4);
+        assertFalse(predicate.test(new PersonBuilder().withFamily("1").build()));
+        assertFalse(predicate.test(new PersonBuilder().withFamily("5").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        FamilyInRangePredicate predicate = new FamilyInRangePredicate(2, 4);
+        String expected = FamilyInRangePredicate.class.getCanonicalName() + "{min=2, max=4}";
+        assertEquals(expected, predicate.toString());
+    }
+}
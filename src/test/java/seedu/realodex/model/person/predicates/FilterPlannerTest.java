@@ -0,0 +1,80 @@
+package seedu.realodex.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.realodex.testutil.TypicalPersons.getFirstTypicalPersons;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.HousingType;
+import seedu.realodex.model.person.Person;
+
+public class FilterPlannerTest {
+
+    private final Predicate<Person> housingPredicate = new HousingTypeMatchPredicate(new HousingType("hdb"));
+    private final Predicate<Person> incomePredicate = new IncomeInRangePredicate(5000, 8000);
+    private final Predicate<Person> birthdayPredicate = new BirthdayIsInMonthPredicate("jan");
+    private final Predicate<Person> namePredicate = new NameContainsKeyphrasePredicate("alice");
+    private final Predicate<Person> remarkPredicate = new RemarkContainsKeyphrasePredicate("coffee");
+
+    @Test
+    public void plan_singleField_unchanged() {
+        assertEquals(namePredicate, FilterPlanner.plan(namePredicate));
+    }
+
+    @Test
+    public void plan_and_cheapAndSelectiveFieldsFirst() {
+        Predicate<Person> predicate = new AndPredicate(List.of(remarkPredicate, namePredicate, birthdayPredicate,
+                incomePredicate, housingPredicate));
+        Predicate<Person> expected = new AndPredicate(List.of(housingPredicate, incomePredicate, birthdayPredicate,
+                namePredicate, remarkPredicate));
+        assertEquals(expected, FilterPlanner.plan(predicate));
+    }
+
+    @Test
+    public void plan_or_cheapAndUnselectiveFieldsFirst() {
+        Predicate<Person> predicate = new OrPredicate(List.of(remarkPredicate, birthdayPredicate, housingPredicate,
+                incomePredicate));
+        Predicate<Person> expected = new OrPredicate(List.of(incomePredicate, housingPredicate, birthdayPredicate,
+                remarkPredicate));
+        assertEquals(expected, FilterPlanner.plan(predicate));
+    }
+
+    @Test
+    public void plan_nestedAnd_flattened() {
+        Predicate<Person> predicate = new AndPredicate(List.of(namePredicate,
+                new AndPredicate(List.of(remarkPredicate, housingPredicate))));
+        Predicate<Person> expected = new AndPredicate(List.of(housingPredicate, namePredicate, remarkPredicate));
+        assertEquals(expected, FilterPlanner.plan(predicate));
+    }
+
+    @Test
+    public void plan_not_selectivityInverted() {
+        // a negated selective field matches most persons, so it rejects few of them
+        Predicate<Person> predicate = new AndPredicate(List.of(new NotPredicate(namePredicate), housingPredicate));
+        Predicate<Person> expected = new AndPredicate(List.of(housingPredicate, new NotPredicate(namePredicate)));
+        assertEquals(expected, FilterPlanner.plan(predicate));
+    }
+
+    @Test
+    public void plan_orInsideAnd_plannedRecursively() {
+        Predicate<Person> predicate = new AndPredicate(List.of(
+                new OrPredicate(List.of(remarkPredicate, incomePredicate)), housingPredicate));
+        Predicate<Person> expected = new AndPredicate(List.of(housingPredicate,
+                new OrPredicate(List.of(incomePredicate, remarkPredicate))));
+        assertEquals(expected, FilterPlanner.plan(predicate));
+    }
+
+    @Test
+    public void plan_sameMatches() {
+        Predicate<Person> predicate = new OrPredicate(List.of(
+                new AndPredicate(List.of(remarkPredicate, new NotPredicate(housingPredicate))),
+                new AndPredicate(List.of(namePredicate, incomePredicate)), birthdayPredicate));
+        Predicate<Person> planned = FilterPlanner.plan(predicate);
+        for (Person person : getFirstTypicalPersons()) {
+            assertEquals(predicate.test(person), planned.test(person));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.realodex.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.testutil.PersonBuilder;
+
+public class IncomeInRangePredicateTest {
+
+    @Test
+    public void equals() {
+        IncomeInRangePredicate firstPredicate = new IncomeInRangePredicate(5000, 8000);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new IncomeInRangePredicate(5000, 8000)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different range -> returns false
+        assertFalse(firstPredicate.equals(new IncomeInRangePredicate(5000, 9000)));
+        assertFalse(firstPredicate.equals(new IncomeInRangePredicate(4000, 8000)));
+    }
+
+    @Test
+    public void hashCode_equalPredicates_equalHashCodes() {
+        assertEquals(new IncomeInRangePredicate(5000, 8000).hashCode(),
+                new IncomeInRangePredicate(5000, 8000).hashCode());
+    }
+
+    @Test
+    public void test_incomeInRange_returnsTrue() {
+        IncomeInRangePredicate predicate = new IncomeInRangePredicate(5000, 8000);
+
+        // bounds are inclusive
+        assertTrue(predicate.test(new PersonBuilder().withIncome("5000").build()));
+        assertTrue(predicate.test(new PersonBuilder().withIncome("8000").build()));
+
+        // within range
+        assertTrue(predicate.test(new PersonBuilder().withIncome("6500").build()));
+
+        // open upper end
+        assertTrue(new IncomeInRangePredicate(0, Long.MAX_VALUE)
+                .test(new PersonBuilder().withIncome("9223372036854775807").build()));
+    }
+
+    @Test
+    public void test_incomeNotInRange_returnsFalse() {
+        IncomeInRangePredicate predicate = new IncomeInRangePredicate(5000, 8000);
+        assertFalse(predicate.test(new PersonBuilder().withIncome("4999").build()));
+        assertFalse(predicate.test(new PersonBuilder().withIncome("8001").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        IncomeInRangePredicate predicate = new IncomeInRangePredicate(5000, 8000);
+        String expected = IncomeInRangePredicate.class.getCanonicalName() + "{min=5000, max=8000}";
+        assertEquals(expected, predicate.toString());
+    }
+}
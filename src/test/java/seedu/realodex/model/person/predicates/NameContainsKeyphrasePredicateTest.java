@@ -4,9 +4,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.PersonIndex;
 import seedu.realodex.testutil.PersonBuilder;
 
 public class NameContainsKeyphrasePredicateTest {
@@ -36,6 +41,12 @@ public class NameContainsKeyphrasePredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void hashCode_equalPredicates_equalHashCodes() {
+        assertEquals(new NameContainsKeyphrasePredicate("alice").hashCode(),
+                new NameContainsKeyphrasePredicate("alice").hashCode());
+    }
+
     @Test
     public void test_nameContainsKeyphrase_returnsTrue() {
         // Keyphrase is one word
@@ -93,6 +104,20 @@ public class NameContainsKeyphrasePredicateTest {
 
     }
 
+    @Test
+    public void lookUp_keyphrase_matchingPersonsOnly() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        Person bob = new PersonBuilder().withName("Bob Lice").build();
+        PersonIndex index = new PersonIndex();
+        index.setAll(List.of(alice, bob));
+
+        // both names have the trigrams of "alice", but only one contains it
+        assertEquals(Optional.of(Set.of(alice)), new NameContainsKeyphrasePredicate("ALICE").lookUp(index));
+
+        // keyphrase too short to look up
+        assertEquals(Optional.empty(), new NameContainsKeyphrasePredicate("al").lookUp(index));
+    }
+
     @Test
     public void toStringMethod() {
         String keyphrase = "keyphrase yapyap";
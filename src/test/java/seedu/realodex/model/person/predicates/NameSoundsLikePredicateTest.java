@@ -0,0 +1,86 @@
+package seedu.realodex.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.DANIEL;
+import static seedu.realodex.testutil.TypicalPersons.ELLE;
+import static seedu.realodex.testutil.TypicalPersons.getFirstTypicalPersons;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.PersonIndex;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class NameSoundsLikePredicateTest {
+
+    @Test
+    public void equals() {
+        NameSoundsLikePredicate firstPredicate = new NameSoundsLikePredicate("Sean");
+        NameSoundsLikePredicate secondPredicate = new NameSoundsLikePredicate("Sean Meier");
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameSoundsLikePredicate("Sean")));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different name -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_nameSoundsAlike_returnsTrue() {
+        // one word
+        assertTrue(new NameSoundsLikePredicate("Shawn").test(new PersonBuilder().withName("Sean").build()));
+
+        // one of several words, in any case
+        assertTrue(new NameSoundsLikePredicate("MAYER").test(new PersonBuilder().withName("Daniel Meier").build()));
+
+        // several words in any order
+        assertTrue(new NameSoundsLikePredicate("Meyer Shawn")
+                .test(new PersonBuilder().withName("Sean Meier").build()));
+    }
+
+    @Test
+    public void test_nameDoesNotSoundAlike_returnsFalse() {
+        assertFalse(new NameSoundsLikePredicate("Alice").test(new PersonBuilder().withName("Bob").build()));
+
+        // only some of the words sound alike
+        assertFalse(new NameSoundsLikePredicate("Shawn Tan").test(new PersonBuilder().withName("Sean Meier").build()));
+
+        // a word that only starts alike
+        assertFalse(new NameSoundsLikePredicate("Sea").test(new PersonBuilder().withName("Sean").build()));
+    }
+
+    @Test
+    public void lookUp_typicalPersons_sameAsTest() {
+        PersonIndex index = new PersonIndex();
+        index.setAll(getFirstTypicalPersons());
+        assertEquals(Optional.of(Set.of(BENSON, DANIEL, ELLE)), new NameSoundsLikePredicate("Mayer").lookUp(index));
+        assertEquals(Optional.of(Set.of(DANIEL)), new NameSoundsLikePredicate("Meyer Danielle").lookUp(index));
+        assertEquals(Optional.of(Set.of()), new NameSoundsLikePredicate("Mayer Zed").lookUp(index));
+    }
+
+    @Test
+    public void lookUp_noLetters_notLookedUp() {
+        assertEquals(Optional.empty(), new NameSoundsLikePredicate("123").lookUp(new PersonIndex()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        NameSoundsLikePredicate predicate = new NameSoundsLikePredicate("Sean");
+        String expected = NameSoundsLikePredicate.class.getCanonicalName() + "{name=Sean}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.realodex.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.testutil.PersonBuilder;
+
+public class NotPredicateTest {
+
+    @Test
+    public void equals() {
+        NotPredicate firstPredicate = new NotPredicate(new IncomeInRangePredicate(5000, 8000));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NotPredicate(new IncomeInRangePredicate(5000, 8000))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(firstPredicate.equals(new NotPredicate(new IncomeInRangePredicate(5000, 9000))));
+
+        // negated predicate itself -> returns false
+        assertFalse(firstPredicate.equals(new IncomeInRangePredicate(5000, 8000)));
+    }
+
+    @Test
+    public void hashCode_equalPredicates_equalHashCodes() {
+        assertEquals(new NotPredicate(new IncomeInRangePredicate(5000, 8000)).hashCode(),
+                new NotPredicate(new IncomeInRangePredicate(5000, 8000)).hashCode());
+    }
+
+    @Test
+    public void test() {
+        NotPredicate predicate = new NotPredicate(new IncomeInRangePredicate(5000, 8000));
+        assertFalse(predicate.test(new PersonBuilder().withIncome("6000").build()));
+        assertTrue(predicate.test(new PersonBuilder().withIncome("9000").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        IncomeInRangePredicate incomePredicate = new IncomeInRangePredicate(5000, 8000);
+        NotPredicate predicate = new NotPredicate(incomePredicate);
+        String expected = NotPredicate.class.getCanonicalName() + "{predicate=" + incomePredicate + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
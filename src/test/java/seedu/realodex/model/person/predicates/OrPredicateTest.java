@@ -0,0 +1,76 @@
+package seedu.realodex.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.Person;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class OrPredicateTest {
+
+    private final Predicate<Person> incomePredicate = new IncomeInRangePredicate(5000, 8000);
+    private final Predicate<Person> namePredicate = new NameContainsKeyphrasePredicate("alice");
+
+    @Test
+    public void equals() {
+        OrPredicate firstPredicate = new OrPredicate(List.of(incomePredicate, namePredicate));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new OrPredicate(List.of(incomePredicate, namePredicate))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different predicates -> returns false
+        assertFalse(firstPredicate.equals(new OrPredicate(List.of(incomePredicate))));
+    }
+
+    @Test
+    public void hashCode_equalPredicates_equalHashCodes() {
+        assertEquals(new OrPredicate(List.of(incomePredicate, namePredicate)).hashCode(),
+                new OrPredicate(List.of(new IncomeInRangePredicate(5000, 8000),
+                        new NameContainsKeyphrasePredicate("alice"))).hashCode());
+    }
+
+    @Test
+    public void test_anyPredicateMatches_returnsTrue() {
+        OrPredicate predicate = new OrPredicate(List.of(incomePredicate, namePredicate));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Tan").withIncome("9000").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob Tan").withIncome("6000").build()));
+    }
+
+    @Test
+    public void test_noPredicateMatches_returnsFalse() {
+        OrPredicate predicate = new OrPredicate(List.of(incomePredicate, namePredicate));
+        assertFalse(predicate.test(new PersonBuilder().withName("Bob Tan").withIncome("9000").build()));
+    }
+
+    @Test
+    public void test_firstPredicateMatches_laterPredicatesNotTested() {
+        Predicate<Person> failingPredicate = person -> {
+            throw new AssertionError("should not be tested");
+        };
+        OrPredicate predicate = new OrPredicate(List.of(incomePredicate, failingPredicate));
+        assertTrue(predicate.test(new PersonBuilder().withIncome("6000").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        OrPredicate predicate = new OrPredicate(List.of(incomePredicate, namePredicate));
+        String expected = OrPredicate.class.getCanonicalName() + "{predicates=" + List.of(incomePredicate,
+                namePredicate) + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.realodex.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.Realodex;
+import seedu.realodex.model.person.HousingType;
+import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.PersonIndex;
+import seedu.realodex.model.person.Tag;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class PersonIndexLookupTest {
+
+    private final Predicate<Person> hdbPredicate = new HousingTypeMatchPredicate(new HousingType("hdb"));
+    private final Predicate<Person> junePredicate = new BirthdayIsInMonthPredicate("jun");
+    private final Predicate<Person> sellerPredicate = new TagsMatchPredicate(Set.of(new Tag("seller")));
+    private final Predicate<Person> namePredicate = new NameContainsKeyphrasePredicate("a");
+
+    private final Realodex realodex = getTypicalRealodex();
+    private final PersonIndex index = new PersonIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.setAll(realodex.getPersonList());
+    }
+
+    @Test
+    public void resolve_noIndexedClause_samePredicate() {
+        assertSame(namePredicate, PersonIndexLookup.resolve(namePredicate, index));
+
+        Predicate<Person> predicate = new AndPredicate(List.of(namePredicate, new IncomeInRangePredicate(0, 5)));
+        assertSame(predicate, PersonIndexLookup.resolve(predicate, index));
+
+        predicate = new OrPredicate(List.of(hdbPredicate, namePredicate));
+        assertSame(predicate, PersonIndexLookup.resolve(predicate, index));
+    }
+
+    @Test
+    public void resolve_indexedClauses_sameMatches() {
+        assertSameMatches(hdbPredicate);
+        assertSameMatches(junePredicate);
+        assertSameMatches(new TagsMatchPredicate(Set.of(new Tag("buyer"), new Tag("seller"))));
+        assertSameMatches(new AndPredicate(List.of(hdbPredicate, junePredicate, namePredicate)));
+        assertSameMatches(new NameContainsKeyphrasePredicate("MEIER"));
+        assertSameMatches(new RemarkContainsKeyphrasePredicate("vans"));
+        assertSameMatches(new OrPredicate(List.of(new NameContainsKeyphrasePredicate("ier"),
+                new RemarkContainsKeyphrasePredicate("brother's name"))));
+        assertSameMatches(new AndPredicate(List.of(new OrPredicate(List.of(hdbPredicate, sellerPredicate)),
+                new NotPredicate(namePredicate))));
+        assertSameMatches(new OrPredicate(List.of(hdbPredicate, new AndPredicate(List.of(junePredicate,
+                sellerPredicate)))));
+    }
+
+    @Test
+    public void resolve_indexChangedAfterLookUp_testsWholePredicate() {
+        Predicate<Person> resolved = PersonIndexLookup.resolve(hdbPredicate, index);
+
+        Person editedAlice = new PersonBuilder(ALICE).withHousingType("Condominium").build();
+        index.remove(ALICE);
+        index.add(editedAlice);
+        assertFalse(resolved.test(editedAlice));
+
+        Person newPerson = new PersonBuilder().withName("New Person").withHousingType("HDB").build();
+        index.add(newPerson);
+        assertTrue(resolved.test(newPerson));
+    }
+
+    private void assertSameMatches(Predicate<Person> predicate) {
+        Predicate<Person> resolved = PersonIndexLookup.resolve(predicate, index);
+        for (Person person : realodex.getPersonList()) {
+            assertEquals(predicate.test(person), resolved.test(person));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.realodex.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.getFirstTypicalPersons;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.PersonIndex;
+import seedu.realodex.model.person.Phone;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class PhoneMatchPredicateTest {
+
+    @Test
+    public void equals() {
+        PhoneMatchPredicate firstPredicate = new PhoneMatchPredicate(new Phone("91234567"));
+        PhoneMatchPredicate secondPredicate = new PhoneMatchPredicate(new Phone("98765432"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PhoneMatchPredicate(new Phone("91234567"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different phone -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_samePhone_returnsTrue() {
+        PhoneMatchPredicate predicate = new PhoneMatchPredicate(new Phone("91234567"));
+        assertTrue(predicate.test(new PersonBuilder().withPhone("91234567").build()));
+    }
+
+    @Test
+    public void test_differentPhone_returnsFalse() {
+        PhoneMatchPredicate predicate = new PhoneMatchPredicate(new Phone("91234567"));
+
+        // only part of the phone number
+        assertFalse(predicate.test(new PersonBuilder().withPhone("1234567").build()));
+        assertFalse(predicate.test(new PersonBuilder().withPhone("6591234567").build()));
+    }
+
+    @Test
+    public void lookUp_typicalPersons_sameAsTest() {
+        PersonIndex index = new PersonIndex();
+        index.setAll(getFirstTypicalPersons());
+        assertEquals(Optional.of(Set.of(ALICE)), new PhoneMatchPredicate(ALICE.getPhone()).lookUp(index));
+        assertEquals(Optional.of(Set.of()), new PhoneMatchPredicate(new Phone("123")).lookUp(index));
+    }
+
+    @Test
+    public void toStringMethod() {
+        PhoneMatchPredicate predicate = new PhoneMatchPredicate(new Phone("91234567"));
+        String expected = PhoneMatchPredicate.class.getCanonicalName() + "{phone=91234567}";
+        assertEquals(expected, predicate.toString());
+    }
+}
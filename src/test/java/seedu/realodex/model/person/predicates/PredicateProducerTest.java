@@ -4,8 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.realodex.logic.parser.CliSyntax.PREFIX_SOUNDS_LIKE;
 import static seedu.realodex.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.List;
@@ -16,7 +19,9 @@ import seedu.realodex.logic.commands.FilterCommand;
 import seedu.realodex.logic.parser.Prefix;
 import seedu.realodex.logic.parser.exceptions.ParseException;
 import seedu.realodex.model.person.HousingType;
+import seedu.realodex.model.person.Email;
 import seedu.realodex.model.person.Person;
+import seedu.realodex.model.person.Phone;
 import seedu.realodex.testutil.PersonBuilder;
 
 class PredicateProducerTest {
@@ -32,6 +37,30 @@ class PredicateProducerTest {
         assertTrue(predicateProducer.createPredicate(PREFIX_NAME, keyphrase).test(alice));
     }
 
+    @Test
+    void createPredicate_validSoundsLikePrefix_createsCorrectPredicate() throws ParseException {
+        PredicateProducer predicateProducer = new PredicateProducer();
+        List<String> keyphrase = List.of("Shawn");
+
+        Person sean = new PersonBuilder().withName("Sean Tan").build();
+        assertEquals(predicateProducer.createPredicate(PREFIX_SOUNDS_LIKE, keyphrase),
+                new NameSoundsLikePredicate("Shawn"));
+        assertTrue(predicateProducer.createPredicate(PREFIX_SOUNDS_LIKE, keyphrase).test(sean));
+    }
+
+    @Test
+    void createPredicate_validPhoneAndEmailPrefixes_createsCorrectPredicate() throws ParseException {
+        PredicateProducer predicateProducer = new PredicateProducer();
+        assertEquals(new PhoneMatchPredicate(new Phone("91234567")),
+                predicateProducer.createPredicate(PREFIX_PHONE, List.of("9123 4567")));
+        assertEquals(new EmailMatchPredicate(new Email("alice@example.com")),
+                predicateProducer.createPredicate(PREFIX_EMAIL, List.of("alice@example.com")));
+
+        // invalid values
+        assertNull(predicateProducer.createPhoneMatchPredicate(List.of("91a")));
+        assertNull(predicateProducer.createEmailMatchPredicate(List.of("alice")));
+    }
+
     @Test
     void createPredicate_validRemarkPrefix_createsCorrectPredicate() throws ParseException {
         PredicateProducer predicateProducer = new PredicateProducer();
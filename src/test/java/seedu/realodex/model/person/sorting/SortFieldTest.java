@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
 
 import org.junit.jupiter.api.Test;
 
@@ -11,7 +12,9 @@ import javafx.collections.ObservableList;
 import seedu.realodex.model.person.Person;
 import seedu.realodex.testutil.PersonBuilder;
 
-public class BirthdayComparatorTest {
+public class SortFieldTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2023, 12, 1);
 
     @Test
     public void compare_bothPersonsHaveSpecifiedBirthdays() {
@@ -20,7 +23,7 @@ public class BirthdayComparatorTest {
         Person validPerson2 = new PersonBuilder().withBirthday("15Feb1992").build();
 
         // Create the comparator
-        BirthdayComparator comparator = new BirthdayComparator();
+        Comparator<Person> comparator = SortField.BIRTHDAY.getComparator(TODAY, false);
 
         // Compare the two persons
         int result = comparator.compare(validPerson, validPerson2);
@@ -36,7 +39,7 @@ public class BirthdayComparatorTest {
         Person validPerson2 = new PersonBuilder().withBirthday("15Feb1992").build();
 
         // Create the comparator
-        BirthdayComparator comparator = new BirthdayComparator();
+        Comparator<Person> comparator = SortField.BIRTHDAY.getComparator(TODAY, false);
 
         // Compare the two persons
         int result = comparator.compare(validPerson, validPerson2);
@@ -48,6 +51,16 @@ public class BirthdayComparatorTest {
         assertEquals(-1, result2); // validperson2 over validperson
     }
 
+    @Test
+    public void compare_givenDate_comparesByDaysFromGivenDate() {
+        Person january = new PersonBuilder().withBirthday("01Jan1990").build();
+        Person december = new PersonBuilder().withBirthday("25Dec1992").build();
+
+        assertEquals(1, SortField.BIRTHDAY.getComparator(LocalDate.of(2023, 12, 1), false).compare(january, december));
+        assertEquals(-1, SortField.BIRTHDAY.getComparator(LocalDate.of(2023, 12, 26), false)
+                .compare(january, december));
+    }
+
     @Test
     public void sortingFunctionality_test() {
         // Creating some arbitrary dates relative to now to test that the sorting works as expected
@@ -98,8 +111,7 @@ public class BirthdayComparatorTest {
                 .withEmail("hans@example.com").withAddress("chicago ave")
                 .withTags("buyer").withBirthday(date5Formatted).build());
 
-        BirthdayComparator bc = new BirthdayComparator();
-        unsortedList.sort(bc);
+        unsortedList.sort(SortField.BIRTHDAY.getComparator(today, false));
         String target = "Daniel Meier, Benson Meier, Fiona Kunz, Ida Mueller, Carl Kurz, Alice Pauline, ";
         String result = "";
         for (Person p : unsortedList) {
@@ -0,0 +1,89 @@
+package seedu.realodex.model.person.sorting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.Person;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class SortKeyTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2023, 6, 1);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SortKey(null, false));
+    }
+
+    @Test
+    public void toComparator_eachField_sortsByField() {
+        Person hdb = new PersonBuilder().withName("alice").withIncome("10").withFamily("9")
+                .withHousingType("HDB").withBirthday("02Jun2000").build();
+        Person bungalow = new PersonBuilder().withName("Bob").withIncome("9").withFamily("10")
+                .withHousingType("GOOD CLASS BUNGALOW").withBirthday("01Jun2000").build();
+
+        assertEquals(Arrays.asList(bungalow, hdb), sort(List.of(new SortKey(SortField.INCOME, false)), hdb, bungalow));
+        assertEquals(Arrays.asList(hdb, bungalow), sort(List.of(new SortKey(SortField.FAMILY, false)), hdb, bungalow));
+        assertEquals(Arrays.asList(hdb, bungalow),
+                sort(List.of(new SortKey(SortField.HOUSING_TYPE, false)), bungalow, hdb));
+        assertEquals(Arrays.asList(hdb, bungalow), sort(List.of(new SortKey(SortField.NAME, false)), bungalow, hdb));
+        assertEquals(Arrays.asList(bungalow, hdb),
+                sort(List.of(new SortKey(SortField.BIRTHDAY, false)), hdb, bungalow));
+
+        // descending
+        assertEquals(Arrays.asList(bungalow, hdb), sort(List.of(new SortKey(SortField.NAME, true)), hdb, bungalow));
+    }
+
+    @Test
+    public void toComparator_multipleKeys_laterKeysBreakTies() {
+        Person first = new PersonBuilder().withName("Amy").withIncome("100").withFamily("2").build();
+        Person second = new PersonBuilder().withName("Ben").withIncome("100").withFamily("3").build();
+        Person third = new PersonBuilder().withName("Cat").withIncome("50").withFamily("3").build();
+        List<SortKey> keys = List.of(new SortKey(SortField.INCOME, true), new SortKey(SortField.FAMILY, false));
+
+        assertEquals(Arrays.asList(first, second, third), sort(keys, third, second, first));
+    }
+
+    @Test
+    public void equals() {
+        SortKey sortKey = new SortKey(SortField.INCOME, true);
+
+        // same object -> returns true
+        assertTrue(sortKey.equals(sortKey));
+
+        // same values -> returns true
+        assertTrue(sortKey.equals(new SortKey(SortField.INCOME, true)));
+
+        // null -> returns false
+        assertFalse(sortKey.equals(null));
+
+        // different field -> returns false
+        assertFalse(sortKey.equals(new SortKey(SortField.FAMILY, true)));
+
+        // different order -> returns false
+        assertFalse(sortKey.equals(new SortKey(SortField.INCOME, false)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("income (descending)", new SortKey(SortField.INCOME, true).toString());
+        assertEquals("housing type", new SortKey(SortField.HOUSING_TYPE, false).toString());
+    }
+
+    private static List<Person> sort(List<SortKey> keys, Person... persons) {
+        Comparator<Person> comparator = SortKey.toComparator(keys, TODAY);
+        List<Person> sortedPersons = new ArrayList<>(Arrays.asList(persons));
+        sortedPersons.sort(comparator);
+        return sortedPersons;
+    }
+}
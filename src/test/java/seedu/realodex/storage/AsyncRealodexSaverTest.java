@@ -0,0 +1,150 @@
+package seedu.realodex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.commons.exceptions.DataLoadingException;
+import seedu.realodex.model.ReadOnlyRealodex;
+import seedu.realodex.model.Realodex;
+
+public class AsyncRealodexSaverTest {
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncRealodexSaver(null));
+    }
+
+    @Test
+    public void submit_nullSnapshot_throwsNullPointerException() {
+        AsyncRealodexSaver saver = new AsyncRealodexSaver(new RecordingRealodexStorage());
+        assertThrows(NullPointerException.class, () -> saver.submit(null));
+    }
+
+    @Test
+    public void flush_afterSubmit_snapshotWritten() throws Exception {
+        RecordingRealodexStorage storage = new RecordingRealodexStorage();
+        AsyncRealodexSaver saver = new AsyncRealodexSaver(storage);
+        Realodex snapshot = getTypicalRealodex();
+        saver.submit(snapshot);
+        saver.flush();
+        assertEquals(Collections.singletonList(snapshot), storage.saved);
+    }
+
+    @Test
+    public void submit_burstWhileWriting_coalescedIntoLatestSnapshot() throws Exception {
+        RecordingRealodexStorage storage = new RecordingRealodexStorage();
+        storage.blockNextSave();
+        AsyncRealodexSaver saver = new AsyncRealodexSaver(storage);
+
+        Realodex first = new Realodex();
+        saver.submit(first);
+        storage.awaitSaveStarted();
+
+        // the writer is busy with the first snapshot, so the following ones queue up and coalesce
+        Realodex second = new Realodex();
+        Realodex third = new Realodex();
+        third.addPerson(ALICE);
+        saver.submit(second);
+        saver.submit(third);
+        storage.unblock();
+        saver.flush();
+
+        assertEquals(2, storage.saved.size());
+        assertSame(first, storage.saved.get(0));
+        assertSame(third, storage.saved.get(1));
+    }
+
+    @Test
+    public void flush_writeFailed_throwsFailureOnce() throws Exception {
+        IOException failure = new IOException("disk full");
+        RecordingRealodexStorage storage = new RecordingRealodexStorage();
+        storage.failure = failure;
+        AsyncRealodexSaver saver = new AsyncRealodexSaver(storage);
+        saver.submit(new Realodex());
+        assertThrows(IOException.class, "disk full", saver::flush);
+
+        // the failure has been reported and is not repeated
+        saver.flush();
+        assertEquals(Optional.empty(), saver.pollFailure());
+    }
+
+    @Test
+    public void shutdown_pendingSnapshot_writtenBeforeStopping() throws Exception {
+        RecordingRealodexStorage storage = new RecordingRealodexStorage();
+        AsyncRealodexSaver saver = new AsyncRealodexSaver(storage);
+        Realodex snapshot = getTypicalRealodex();
+        saver.submit(snapshot);
+        saver.shutdown();
+        assertEquals(Collections.singletonList(snapshot), storage.saved);
+    }
+
+    /**
+     * A {@code RealodexStorage} that records saved snapshots and can block or fail saves.
+     */
+    private static class RecordingRealodexStorage implements RealodexStorage {
+        private final List<ReadOnlyRealodex> saved = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+        private volatile IOException failure;
+
+        void blockNextSave() {
+            gate = new CountDownLatch(1);
+        }
+
+        void awaitSaveStarted() throws InterruptedException {
+            saveStarted.await();
+        }
+
+        void unblock() {
+            gate.countDown();
+        }
+
+        @Override
+        public Path getRealodexFilePath() {
+            return Paths.get("unused");
+        }
+
+        @Override
+        public Optional<ReadOnlyRealodex> readRealodex() throws DataLoadingException {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyRealodex> readRealodex(Path filePath) throws DataLoadingException {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveRealodex(ReadOnlyRealodex realodex) throws IOException {
+            saveStarted.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(realodex);
+        }
+
+        @Override
+        public void saveRealodex(ReadOnlyRealodex realodex, Path filePath) throws IOException {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.realodex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.HOON;
+import static seedu.realodex.testutil.TypicalPersons.IDA;
+import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.realodex.commons.core.Config;
+import seedu.realodex.commons.exceptions.DataLoadingException;
+import seedu.realodex.commons.exceptions.IllegalValueException;
+import seedu.realodex.commons.util.FileUtil;
+import seedu.realodex.model.ReadOnlyRealodex;
+import seedu.realodex.model.Realodex;
+
+public class BinaryRealodexStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readRealodex_nullFilePath_throwsNullPointerException() {
+        BinaryRealodexStorage storage = new BinaryRealodexStorage(testFolder.resolve("realodex.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readRealodex(null));
+    }
+
+    @Test
+    public void readRealodex_missingFile_emptyResult() throws Exception {
+        BinaryRealodexStorage storage = new BinaryRealodexStorage(testFolder.resolve("realodex.bin"));
+        assertFalse(storage.readRealodex().isPresent());
+    }
+
+    @Test
+    public void readAndSaveRealodex_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("realodex.bin");
+        BinaryRealodexStorage storage = new BinaryRealodexStorage(filePath);
+        Realodex original = getTypicalRealodex();
+
+        // Save in new file and read back
+        storage.saveRealodex(original);
+        assertTrue(BinaryRealodexCodec.isBinaryFile(filePath));
+        ReadOnlyRealodex readBack = storage.readRealodex().get();
+        assertEquals(original, new Realodex(readBack));
+
+        // Modify data, overwrite existing file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveRealodex(original);
+        assertEquals(original, new Realodex(storage.readRealodex().get()));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        storage.saveRealodex(original);
+        assertEquals(original, new Realodex(storage.readRealodex().get()));
+    }
+
+    @Test
+    public void readRealodex_fileAboveMappedReadThreshold_readFromMappedFile() throws Exception {
+        Path filePath = testFolder.resolve("realodex.bin");
+        Realodex realodex = getTypicalRealodex();
+        new BinaryRealodexStorage(filePath).saveRealodex(realodex);
+        assertEquals(realodex, new Realodex(new BinaryRealodexStorage(filePath, 0, false, false).readRealodex().get()));
+    }
+
+    @Test
+    public void readRealodex_parallelLoadWithDeferredValidation_sameData() throws Exception {
+        Path filePath = testFolder.resolve("realodex.bin");
+        Realodex realodex = getTypicalRealodex();
+        new BinaryRealodexStorage(filePath).saveRealodex(realodex);
+
+        BinaryRealodexStorage storage = new BinaryRealodexStorage(filePath,
+                Config.DEFAULT_MAPPED_READ_THRESHOLD_BYTES, true, true);
+        assertEquals(realodex, new Realodex(storage.readRealodex().get()));
+        assertTrue(storage.awaitInvalidPersons().isEmpty());
+    }
+
+    @Test
+    public void saveRealodex_emptyRealodex_readBackEmpty() throws Exception {
+        Path filePath = testFolder.resolve("realodex.bin");
+        BinaryRealodexStorage storage = new BinaryRealodexStorage(filePath);
+        storage.saveRealodex(new Realodex());
+        assertEquals(new Realodex(), new Realodex(storage.readRealodex().get()));
+    }
+
+    @Test
+    public void saveRealodex_repeatedValues_smallerThanJson() throws Exception {
+        Path binaryPath = testFolder.resolve("realodex.bin");
+        Path jsonPath = testFolder.resolve("realodex.json");
+        Realodex realodex = getTypicalRealodex();
+        new BinaryRealodexStorage(binaryPath).saveRealodex(realodex);
+        new JsonRealodexStorage(jsonPath).saveRealodex(realodex);
+        assertTrue(Files.size(binaryPath) < Files.size(jsonPath));
+    }
+
+    @Test
+    public void readRealodex_jsonFile_readAsJson() throws Exception {
+        Path filePath = testFolder.resolve("realodex.json");
+        Realodex realodex = getTypicalRealodex();
+        new JsonRealodexStorage(filePath).saveRealodex(realodex);
+        assertEquals(realodex, new Realodex(new BinaryRealodexStorage(filePath).readRealodex().get()));
+    }
+
+    @Test
+    public void readRealodex_binaryFileWithJsonStorage_readAsBinary() throws Exception {
+        Path filePath = testFolder.resolve("realodex.bin");
+        Realodex realodex = getTypicalRealodex();
+        new BinaryRealodexStorage(filePath).saveRealodex(realodex);
+        assertEquals(realodex, new Realodex(new JsonRealodexStorage(filePath).readRealodex().get()));
+    }
+
+    @Test
+    public void readRealodex_corruptedBody_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("realodex.bin");
+        new BinaryRealodexStorage(filePath).saveRealodex(getTypicalRealodex());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () -> new BinaryRealodexStorage(filePath).readRealodex());
+    }
+
+    @Test
+    public void readRealodex_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("realodex.bin");
+        new BinaryRealodexStorage(filePath).saveRealodex(getTypicalRealodex());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, () -> new BinaryRealodexStorage(filePath).readRealodex());
+    }
+
+    @Test
+    public void decode_unsupportedVersion_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("realodex.bin");
+        new BinaryRealodexStorage(filePath).saveRealodex(getTypicalRealodex());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinaryRealodexCodec.MAGIC.length + 1] = (byte) (BinaryRealodexCodec.FORMAT_VERSION + 1);
+        assertThrows(IOException.class, String.format(BinaryRealodexCodec.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryRealodexCodec.FORMAT_VERSION + 1), () -> BinaryRealodexCodec.decode(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    public void decode_negativeStringCount_throwsIoException() {
+        // a string table of -1 strings, written as a variable-length integer
+        byte[] body = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F};
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryRealodexCodec.HEADER_LENGTH + body.length)
+                .put(BinaryRealodexCodec.MAGIC)
+                .putShort((short) BinaryRealodexCodec.FORMAT_VERSION)
+                .putShort((short) 0)
+                .putLong(body.length)
+                .putInt((int) crc.getValue())
+                .put(body);
+        buffer.flip();
+        assertThrows(IOException.class, BinaryRealodexCodec.MESSAGE_CORRUPTED, () ->
+                BinaryRealodexCodec.decode(buffer));
+    }
+
+    @Test
+    public void decode_notBinary_throwsIoException() {
+        byte[] bytes = new byte[BinaryRealodexCodec.HEADER_LENGTH];
+        assertThrows(IOException.class, BinaryRealodexCodec.MESSAGE_NOT_BINARY, () ->
+                BinaryRealodexCodec.decode(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    public void decode_duplicatePersons_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("realodex.bin");
+        FileUtil.writeAtomically(filePath, channel ->
+                BinaryRealodexCodec.encode(Arrays.asList(ALICE, ALICE), channel));
+        assertThrows(IllegalValueException.class, JsonSerializableRealodex.MESSAGE_DUPLICATE_PERSON, () ->
+                BinaryRealodexCodec.decode(ByteBuffer.wrap(Files.readAllBytes(filePath))));
+    }
+}
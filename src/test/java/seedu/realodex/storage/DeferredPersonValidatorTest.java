@@ -0,0 +1,42 @@
+package seedu.realodex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.model.person.Birthday;
+import seedu.realodex.model.person.Person;
+
+public class DeferredPersonValidatorTest {
+
+    @Test
+    public void validateInBackground_validPersons_noViolations() throws Exception {
+        DeferredPersonValidator validator = new DeferredPersonValidator();
+        assertEquals(ALICE, validator.convert(new JsonAdaptedPerson(ALICE)));
+        assertEquals(BENSON, validator.convert(new JsonAdaptedPerson(BENSON)));
+        assertTrue(validator.validateInBackground().get().isEmpty());
+    }
+
+    @Test
+    public void validateInBackground_futureBirthday_violationReported() throws Exception {
+        DeferredPersonValidator validator = new DeferredPersonValidator();
+        JsonAdaptedPerson alice = new JsonAdaptedPerson(ALICE);
+        Person futureAlice = validator.convert(new JsonAdaptedPerson(alice.getName(), alice.getPhone(),
+                alice.getIncome(), alice.getEmail(), alice.getAddress(), alice.getFamily(), List.of(),
+                alice.getHousingType(), alice.getRemark(), "01Jan9999"));
+        validator.convert(new JsonAdaptedPerson(BENSON));
+
+        Map<Person, String> violations = validator.validateInBackground().get();
+        assertEquals(Map.of(futureAlice, String.format(DeferredPersonValidator.MESSAGE_VIOLATION, alice.getName(),
+                Birthday.MESSAGE_CONSTRAINTS)), violations);
+
+        // persons already validated are not validated again
+        assertTrue(validator.validateInBackground().get().isEmpty());
+    }
+}
@@ -0,0 +1,232 @@
+package seedu.realodex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.realodex.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.HOON;
+import static seedu.realodex.testutil.TypicalPersons.IDA;
+import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.realodex.commons.exceptions.DataLoadingException;
+import seedu.realodex.model.Realodex;
+import seedu.realodex.model.person.Person;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class JournaledRealodexStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readRealodex_nullFilePath_throwsNullPointerException() {
+        JournaledRealodexStorage storage = new JournaledRealodexStorage(testFolder.resolve("realodex.json"));
+        assertThrows(NullPointerException.class, () -> storage.readRealodex(null));
+    }
+
+    @Test
+    public void readRealodex_missingFiles_emptyResult() throws Exception {
+        JournaledRealodexStorage storage = new JournaledRealodexStorage(testFolder.resolve("realodex.json"));
+        assertFalse(storage.readRealodex().isPresent());
+    }
+
+    @Test
+    public void saveRealodex_nullRealodex_throwsNullPointerException() {
+        JournaledRealodexStorage storage = new JournaledRealodexStorage(testFolder.resolve("realodex.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveRealodex(null));
+    }
+
+    @Test
+    public void saveRealodex_singleChanges_appendedToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("realodex.json");
+        JournaledRealodexStorage storage = new JournaledRealodexStorage(filePath);
+        Realodex realodex = getTypicalRealodex();
+        storage.saveRealodex(realodex);
+        String snapshot = Files.readString(filePath);
+
+        realodex.addPerson(HOON);
+        storage.saveRealodex(realodex);
+        realodex.setPerson(BENSON, new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build());
+        storage.saveRealodex(realodex);
+        realodex.removePerson(ALICE);
+        storage.saveRealodex(realodex);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(JournaledRealodexStorage.journalPathOf(filePath)).size());
+        assertEquals(realodex, new JournaledRealodexStorage(filePath).readRealodex().get());
+    }
+
+    @Test
+    public void saveRealodex_unchangedData_nothingAppended() throws Exception {
+        Path filePath = testFolder.resolve("realodex.json");
+        JournaledRealodexStorage storage = new JournaledRealodexStorage(filePath);
+        Realodex realodex = getTypicalRealodex();
+        storage.saveRealodex(realodex);
+        storage.saveRealodex(new Realodex(realodex));
+        assertEquals(0, Files.size(JournaledRealodexStorage.journalPathOf(filePath)));
+    }
+
+    @Test
+    public void saveRealodex_reorderedPersons_writesSnapshotAndClearsJournal() throws Exception {
+        Path filePath = testFolder.resolve("realodex.json");
+        JournaledRealodexStorage storage = new JournaledRealodexStorage(filePath);
+        Realodex realodex = getTypicalRealodex();
+        storage.saveRealodex(realodex);
+        realodex.addPerson(HOON);
+        storage.saveRealodex(realodex);
+
+        List<Person> reversed = new ArrayList<>(realodex.getPersonList());
+        Collections.reverse(reversed);
+        realodex.setPersons(reversed);
+        storage.saveRealodex(realodex);
+
+        assertEquals(0, Files.size(JournaledRealodexStorage.journalPathOf(filePath)));
+        assertEquals(realodex, new JournaledRealodexStorage(filePath).readRealodex().get());
+    }
+
+    @Test
+    public void saveRealodex_afterReadingExistingData_continuesJournal() throws Exception {
+        Path filePath = testFolder.resolve("realodex.json");
+        Realodex realodex = getTypicalRealodex();
+        new JournaledRealodexStorage(filePath).saveRealodex(realodex);
+
+        JournaledRealodexStorage reopened = new JournaledRealodexStorage(filePath);
+        Realodex readBack = new Realodex(reopened.readRealodex().get());
+        readBack.addPerson(IDA);
+        reopened.saveRealodex(readBack);
+
+        assertEquals(1, Files.readAllLines(JournaledRealodexStorage.journalPathOf(filePath)).size());
+        assertEquals(readBack, new JournaledRealodexStorage(filePath).readRealodex().get());
+    }
+
+    @Test
+    public void saveRealodex_journalPastThreshold_compactedInBackground() throws Exception {
+        Path filePath = testFolder.resolve("realodex.json");
+        JournaledRealodexStorage storage = new JournaledRealodexStorage(filePath, 1);
+        Realodex realodex = getTypicalRealodex();
+        storage.saveRealodex(realodex);
+        realodex.addPerson(HOON);
+        storage.saveRealodex(realodex);
+        storage.awaitBackgroundTasks();
+
+        assertEquals(0, Files.size(JournaledRealodexStorage.journalPathOf(filePath)));
+        assertTrue(Files.readString(filePath).contains(JsonRealodexStreamReader.JOURNAL_SEQUENCE_FIELD));
+        assertEquals(realodex, new JournaledRealodexStorage(filePath).readRealodex().get());
+
+        // further changes are journaled on top of the compacted snapshot
+        realodex.addPerson(IDA);
+        storage.saveRealodex(realodex);
+        storage.awaitBackgroundTasks();
+        assertEquals(realodex, new JournaledRealodexStorage(filePath).readRealodex().get());
+    }
+
+    @Test
+    public void saveRealodex_fullSnapshotBeforeQueuedCompaction_compactionSkipped() throws Exception {
+        Path filePath = testFolder.resolve("realodex.json");
+        JournaledRealodexStorage storage = new JournaledRealodexStorage(filePath, 1);
+        Realodex realodex = getTypicalRealodex();
+        storage.saveRealodex(realodex);
+
+        // holding the storage's lock keeps the queued compaction from rewriting the journal until after the snapshot
+        synchronized (storage) {
+            realodex.addPerson(HOON);
+            storage.saveRealodex(realodex);
+            List<Person> reversed = new ArrayList<>(realodex.getPersonList());
+            Collections.reverse(reversed);
+            realodex.setPersons(reversed);
+            storage.saveRealodex(realodex);
+        }
+        storage.awaitBackgroundTasks();
+
+        assertEquals(0, Files.size(JournaledRealodexStorage.journalPathOf(filePath)));
+        assertEquals(realodex, new JournaledRealodexStorage(filePath).readRealodex().get());
+    }
+
+    @Test
+    public void readRealodex_journalEntriesAlreadyInSnapshot_notReplayedTwice() throws Exception {
+        Path filePath = testFolder.resolve("realodex.json");
+        Path journalPath = JournaledRealodexStorage.journalPathOf(filePath);
+        JournaledRealodexStorage storage = new JournaledRealodexStorage(filePath, 1);
+        Realodex realodex = getTypicalRealodex();
+        storage.saveRealodex(realodex);
+        realodex.addPerson(HOON);
+        storage.saveRealodex(realodex);
+        byte[] journalBeforeCompaction = Files.readAllBytes(journalPath);
+        storage.awaitBackgroundTasks();
+
+        // simulates a crash after the compacted snapshot was written but before the journal was rewritten
+        Files.write(journalPath, journalBeforeCompaction);
+        assertEquals(realodex, new JournaledRealodexStorage(filePath).readRealodex().get());
+    }
+
+    @Test
+    public void readRealodex_incompleteLastJournalEntry_ignoredAndDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("realodex.json");
+        Path journalPath = JournaledRealodexStorage.journalPathOf(filePath);
+        JournaledRealodexStorage storage = new JournaledRealodexStorage(filePath);
+        Realodex realodex = getTypicalRealodex();
+        storage.saveRealodex(realodex);
+        realodex.addPerson(HOON);
+        storage.saveRealodex(realodex);
+        Files.write(journalPath, "{\"seq\":3,\"op\":\"ADD\",\"ind".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledRealodexStorage reopened = new JournaledRealodexStorage(filePath);
+        Realodex readBack = new Realodex(reopened.readRealodex().get());
+        assertEquals(realodex, readBack);
+
+        readBack.addPerson(IDA);
+        reopened.saveRealodex(readBack);
+        assertEquals(readBack, new JournaledRealodexStorage(filePath).readRealodex().get());
+    }
+
+    @Test
+    public void readRealodex_corruptJournalEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("realodex.json");
+        new JournaledRealodexStorage(filePath).saveRealodex(getTypicalRealodex());
+        Files.write(JournaledRealodexStorage.journalPathOf(filePath),
+                "not json\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> new JournaledRealodexStorage(filePath).readRealodex());
+    }
+
+    @Test
+    public void readRealodex_journalWithDuplicatePerson_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("realodex.json");
+        Path journalPath = JournaledRealodexStorage.journalPathOf(filePath);
+        JournaledRealodexStorage storage = new JournaledRealodexStorage(filePath);
+        Realodex realodex = getTypicalRealodex();
+        storage.saveRealodex(realodex);
+        realodex.addPerson(HOON);
+        storage.saveRealodex(realodex);
+
+        String entry = Files.readAllLines(journalPath).get(0);
+        String duplicate = entry.replace("\"seq\":2", "\"seq\":3");
+        Files.write(journalPath, (duplicate + "\n").getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, () -> new JournaledRealodexStorage(filePath).readRealodex());
+    }
+
+    @Test
+    public void saveRealodex_otherFilePath_writesPlainSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("realodex.json");
+        Path otherPath = testFolder.resolve("other.json");
+        JournaledRealodexStorage storage = new JournaledRealodexStorage(filePath);
+        Realodex realodex = getTypicalRealodex();
+        storage.saveRealodex(realodex, otherPath);
+        assertEquals(realodex, new JsonRealodexStorage(otherPath).readRealodex().get());
+        assertFalse(Files.exists(JournaledRealodexStorage.journalPathOf(otherPath)));
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.realodex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.BENSON;
+import static seedu.realodex.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.commons.exceptions.IllegalValueException;
+import seedu.realodex.commons.util.JsonUtil;
+import seedu.realodex.model.person.Person;
+
+public class JsonAdaptedJournalEntryTest {
+
+    @Test
+    public void applyTo_add_insertsPerson() throws Exception {
+        List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, CARL));
+        JsonAdaptedJournalEntry.add(1, 1, BENSON).applyTo(persons);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), persons);
+    }
+
+    @Test
+    public void applyTo_set_replacesPerson() throws Exception {
+        List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, CARL));
+        JsonAdaptedJournalEntry.set(1, 0, BENSON).applyTo(persons);
+        assertEquals(Arrays.asList(BENSON, CARL), persons);
+    }
+
+    @Test
+    public void applyTo_delete_removesPerson() throws Exception {
+        List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, CARL));
+        JsonAdaptedJournalEntry.delete(1, 1).applyTo(persons);
+        assertEquals(Arrays.asList(ALICE), persons);
+    }
+
+    @Test
+    public void applyTo_indexOutOfRange_throwsIllegalValueException() {
+        List<Person> persons = new ArrayList<>(Arrays.asList(ALICE));
+        assertThrows(IllegalValueException.class, () -> JsonAdaptedJournalEntry.delete(1, 1).applyTo(persons));
+        assertThrows(IllegalValueException.class, () -> JsonAdaptedJournalEntry.add(1, 2, BENSON).applyTo(persons));
+        assertThrows(IllegalValueException.class, () -> JsonAdaptedJournalEntry.set(1, -1, BENSON).applyTo(persons));
+    }
+
+    @Test
+    public void applyTo_missingFields_throwsIllegalValueException() throws Exception {
+        List<Person> persons = new ArrayList<>(Arrays.asList(ALICE));
+        JsonAdaptedJournalEntry missingOp = JsonUtil.fromJsonString("{\"seq\":1,\"index\":0}",
+                JsonAdaptedJournalEntry.class);
+        assertThrows(IllegalValueException.class, () -> missingOp.applyTo(persons));
+        JsonAdaptedJournalEntry missingPerson = JsonUtil.fromJsonString("{\"seq\":1,\"op\":\"SET\",\"index\":0}",
+                JsonAdaptedJournalEntry.class);
+        assertThrows(IllegalValueException.class, () -> missingPerson.applyTo(persons));
+        JsonAdaptedJournalEntry missingIndex = JsonUtil.fromJsonString("{\"seq\":1,\"op\":\"DELETE\"}",
+                JsonAdaptedJournalEntry.class);
+        assertThrows(IllegalValueException.class, () -> missingIndex.applyTo(persons));
+        assertEquals(List.of(ALICE), persons);
+    }
+
+    @Test
+    public void toCompactJsonString_roundTrip_samePerson() throws Exception {
+        String json = JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.add(7, 0, ALICE));
+        JsonAdaptedJournalEntry entry = JsonUtil.fromJsonString(json, JsonAdaptedJournalEntry.class);
+        List<Person> persons = new ArrayList<>();
+        entry.applyTo(persons);
+        assertEquals(7, entry.getSeq());
+        assertEquals(Arrays.asList(ALICE), persons);
+    }
+}
@@ -31,6 +31,7 @@ public class JsonAdaptedPersonTest {
     private static final String INVALID_TAG = "#friend";
     private static final String INVALID_HOUSINGTYPE = "HDBB";
     private static final String INVALID_BIRTHDAY = "01May20022";
+    private static final String FUTURE_BIRTHDAY = "01Jan9999";
 
 
     private static final String VALID_NAME = BENSON.getName().toString();
@@ -221,4 +222,36 @@ public class JsonAdaptedPersonTest {
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Birthday.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
+
+    @Test
+    public void toModelTypeDeferringChecks_validPersonDetails_returnsPerson() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON);
+        assertEquals(BENSON, person.toModelTypeDeferringChecks());
+        person.checkConstraints();
+    }
+
+    @Test
+    public void toModelTypeDeferringChecks_invalidEmail_throwsIllegalValueException() {
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_INCOME, INVALID_EMAIL, VALID_ADDRESS,
+                                      VALID_FAMILY, VALID_TAGS, VALID_HOUSINGTYPE, VALID_REMARK, VALID_BIRTHDAY);
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, person::toModelTypeDeferringChecks);
+    }
+
+    @Test
+    public void toModelTypeDeferringChecks_nullAddress_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_INCOME, VALID_EMAIL, null,
+                VALID_FAMILY, VALID_TAGS, VALID_HOUSINGTYPE, VALID_REMARK, VALID_BIRTHDAY);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, person::toModelTypeDeferringChecks);
+    }
+
+    @Test
+    public void toModelTypeDeferringChecks_futureBirthday_deferredToCheckConstraints() throws Exception {
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_INCOME, VALID_EMAIL, VALID_ADDRESS,
+                                      VALID_FAMILY, VALID_TAGS, VALID_HOUSINGTYPE, VALID_REMARK, FUTURE_BIRTHDAY);
+        person.toModelTypeDeferringChecks();
+        assertThrows(IllegalValueException.class, Birthday.MESSAGE_CONSTRAINTS, person::checkConstraints);
+    }
 }
@@ -2,6 +2,7 @@ package seedu.realodex.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.realodex.testutil.Assert.assertThrows;
 import static seedu.realodex.testutil.TypicalPersons.ALICE;
 import static seedu.realodex.testutil.TypicalPersons.HOON;
@@ -9,17 +10,21 @@ import static seedu.realodex.testutil.TypicalPersons.IDA;
 import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.realodex.commons.core.Config;
 import seedu.realodex.commons.exceptions.DataLoadingException;
+import seedu.realodex.commons.util.FileUtil;
 import seedu.realodex.model.ReadOnlyRealodex;
 import seedu.realodex.model.Realodex;
 
 public class JsonRealodexStorageTest {
+    private static final long MAPPED_READ_THRESHOLD = Config.DEFAULT_MAPPED_READ_THRESHOLD_BYTES;
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonRealodexStorageTest");
 
     @TempDir
@@ -86,6 +91,83 @@ public class JsonRealodexStorageTest {
 
     }
 
+    @Test
+    public void saveRealodex_existingFile_previousVersionKeptAsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempRealodex.json");
+        JsonRealodexStorage jsonRealodexStorage = new JsonRealodexStorage(filePath);
+        Realodex original = getTypicalRealodex();
+        jsonRealodexStorage.saveRealodex(original);
+        assertFalse(Files.exists(FileUtil.getBackupPath(filePath, 1)));
+
+        Realodex modified = new Realodex(original);
+        modified.addPerson(HOON);
+        jsonRealodexStorage.saveRealodex(modified);
+        assertEquals(original, new JsonRealodexStorage(FileUtil.getBackupPath(filePath, 1)).readRealodex().get());
+    }
+
+    @Test
+    public void readRealodex_corruptFile_recoveredFromMostRecentValidBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempRealodex.json");
+        JsonRealodexStorage jsonRealodexStorage = new JsonRealodexStorage(filePath);
+        Realodex original = getTypicalRealodex();
+        jsonRealodexStorage.saveRealodex(original);
+        Realodex modified = new Realodex(original);
+        modified.addPerson(HOON);
+        jsonRealodexStorage.saveRealodex(modified);
+
+        // simulates a data file truncated outside the app
+        FileUtil.writeToFile(filePath, "{ \"persons\" : [ {");
+        assertEquals(original, jsonRealodexStorage.readRealodex().get());
+
+        FileUtil.writeToFile(FileUtil.getBackupPath(filePath, 1), "not json");
+        assertThrows(DataLoadingException.class, () -> jsonRealodexStorage.readRealodex());
+    }
+
+    @Test
+    public void readRealodex_validationDeferred_sameDataAndNoViolations() throws Exception {
+        Path filePath = testFolder.resolve("TempRealodex.json");
+        Realodex original = getTypicalRealodex();
+        new JsonRealodexStorage(filePath).saveRealodex(original);
+
+        JsonRealodexStorage deferringStorage = new JsonRealodexStorage(filePath, MAPPED_READ_THRESHOLD, true, false);
+        assertEquals(original, new Realodex(deferringStorage.readRealodex().get()));
+        assertTrue(deferringStorage.awaitInvalidPersons().isEmpty());
+    }
+
+    @Test
+    public void readRealodex_parallelLoad_sameData() throws Exception {
+        Path filePath = testFolder.resolve("TempRealodex.json");
+        Realodex original = getTypicalRealodex();
+        new JsonRealodexStorage(filePath).saveRealodex(original);
+        JsonRealodexStorage parallelStorage = new JsonRealodexStorage(filePath, MAPPED_READ_THRESHOLD, false, true);
+        assertEquals(original, new Realodex(parallelStorage.readRealodex().get()));
+    }
+
+    @Test
+    public void readRealodex_parallelLoadWithDuplicates_throwDataLoadingException() {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableRealodexTest")
+                .resolve("duplicatePersonRealodex.json");
+        JsonRealodexStorage parallelStorage = new JsonRealodexStorage(filePath, MAPPED_READ_THRESHOLD, false, true);
+        assertThrows(DataLoadingException.class, () -> parallelStorage.readRealodex());
+    }
+
+    @Test
+    public void readRealodex_validationDeferredWithFutureBirthday_loadedAndViolationReported() throws Exception {
+        JsonRealodexStorage deferringStorage =
+                new JsonRealodexStorage(TEST_DATA_FOLDER, MAPPED_READ_THRESHOLD, true, false);
+        assertEquals(1, deferringStorage.readRealodex(TEST_DATA_FOLDER.resolve("futureBirthdayRealodex.json"))
+                .get().getPersonList().size());
+        assertEquals(1, deferringStorage.awaitInvalidPersons().size());
+    }
+
+    @Test
+    public void readRealodex_validationDeferredWithInvalidName_throwDataLoadingException() {
+        JsonRealodexStorage deferringStorage =
+                new JsonRealodexStorage(TEST_DATA_FOLDER, MAPPED_READ_THRESHOLD, true, false);
+        assertThrows(DataLoadingException.class, () ->
+                deferringStorage.readRealodex(TEST_DATA_FOLDER.resolve("invalidPersonRealodex.json")));
+    }
+
     @Test
     public void saveRealodex_nullRealodex_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveRealodex(null, "SomeFile.json"));
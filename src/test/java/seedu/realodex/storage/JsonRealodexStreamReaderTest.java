@@ -0,0 +1,68 @@
+package seedu.realodex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.commons.exceptions.IllegalValueException;
+import seedu.realodex.model.Realodex;
+import seedu.realodex.testutil.TypicalPersons;
+
+public class JsonRealodexStreamReaderTest {
+
+    private static final Path SERIALIZABLE_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableRealodexTest");
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonRealodexStreamReaderTest");
+    private static final Path TYPICAL_PERSONS_FILE = SERIALIZABLE_DATA_FOLDER.resolve("typicalPersonsRealodex.json");
+    private static final Path INVALID_PERSON_FILE = SERIALIZABLE_DATA_FOLDER.resolve("invalidPersonRealodex.json");
+    private static final Path DUPLICATE_PERSON_FILE =
+            SERIALIZABLE_DATA_FOLDER.resolve("duplicatePersonRealodex.json");
+    private static final Path UNKNOWN_FIELDS_FILE = TEST_DATA_FOLDER.resolve("unknownFieldsRealodex.json");
+    private static final Path NOT_OBJECT_FILE = TEST_DATA_FOLDER.resolve("notObjectRealodex.json");
+    private static final Path NO_PERSONS_FILE = TEST_DATA_FOLDER.resolve("noPersonsRealodex.json");
+
+    @Test
+    public void read_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> JsonRealodexStreamReader.read(null));
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalRealodex(), JsonRealodexStreamReader.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonRealodexStreamReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableRealodex.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonRealodexStreamReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_unknownFields_skipsUnknownFields() throws Exception {
+        Realodex expected = new Realodex();
+        expected.addPerson(ALICE);
+        assertEquals(expected, JsonRealodexStreamReader.read(UNKNOWN_FIELDS_FILE));
+    }
+
+    @Test
+    public void read_noPersonsField_returnsEmptyRealodex() throws Exception {
+        assertEquals(Collections.emptyList(), JsonRealodexStreamReader.read(NO_PERSONS_FILE).getPersonList());
+    }
+
+    @Test
+    public void read_rootNotObject_throwsIOException() {
+        assertThrows(IOException.class, () -> JsonRealodexStreamReader.read(NOT_OBJECT_FILE));
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.realodex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+import static seedu.realodex.testutil.TypicalPersons.getTypicalRealodex;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.realodex.commons.util.FileUtil;
+import seedu.realodex.commons.util.JsonUtil;
+import seedu.realodex.model.Realodex;
+
+public class JsonRealodexStreamWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_nullRealodex_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                JsonRealodexStreamWriter.write(null, testFolder.resolve("realodex.json")));
+    }
+
+    @Test
+    public void write_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> JsonRealodexStreamWriter.write(new Realodex(), null));
+    }
+
+    @Test
+    public void write_typicalRealodex_matchesSerializableRealodexOutput() throws Exception {
+        Path filePath = testFolder.resolve("realodex.json");
+        Realodex original = getTypicalRealodex();
+        JsonRealodexStreamWriter.write(original, filePath);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableRealodex(original)), FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void write_emptyRealodex_readBackEmpty() throws Exception {
+        Path filePath = testFolder.resolve("realodex.json");
+        JsonRealodexStreamWriter.write(new Realodex(), filePath);
+        assertEquals(new Realodex(), JsonRealodexStreamReader.read(filePath));
+    }
+
+    @Test
+    public void write_overwriteLongerFile_truncatesOldContent() throws Exception {
+        Path filePath = testFolder.resolve("realodex.json");
+        JsonRealodexStreamWriter.write(getTypicalRealodex(), filePath);
+        Realodex smaller = new Realodex();
+        smaller.addPerson(ALICE);
+        JsonRealodexStreamWriter.write(smaller, filePath);
+        assertEquals(smaller, JsonRealodexStreamReader.read(filePath));
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.realodex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.realodex.testutil.Assert.assertThrows;
+import static seedu.realodex.testutil.TypicalPersons.ALICE;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.realodex.commons.exceptions.IllegalValueException;
+import seedu.realodex.model.person.Name;
+import seedu.realodex.model.person.Person;
+import seedu.realodex.testutil.PersonBuilder;
+
+public class PersonLoaderTest {
+
+    private static final int PERSON_COUNT = PersonLoader.BATCH_SIZE * 2 + 7;
+
+    @Test
+    public void finish_parallel_sameOrderAsSequential() throws Exception {
+        PersonLoader sequentialLoader = new PersonLoader(PersonConverter.STRICT, false);
+        PersonLoader parallelLoader = new PersonLoader(PersonConverter.STRICT, true);
+        List<Person> persons = buildPersons();
+        for (Person person : persons) {
+            sequentialLoader.load(new JsonAdaptedPerson(person));
+            parallelLoader.load(new JsonAdaptedPerson(person));
+        }
+
+        assertEquals(persons, parallelLoader.finish().getPersonList());
+        assertEquals(sequentialLoader.finish(), parallelLoader.finish());
+    }
+
+    @Test
+    public void finish_parallelDuplicateAcrossBatches_throwsIllegalValueException() {
+        PersonLoader loader = new PersonLoader(PersonConverter.STRICT, true);
+        assertThrows(IllegalValueException.class, JsonSerializableRealodex.MESSAGE_DUPLICATE_PERSON, () -> {
+            for (Person person : buildPersons()) {
+                loader.load(new JsonAdaptedPerson(person));
+            }
+            loader.load(new JsonAdaptedPerson(buildPersons().get(0)));
+            loader.finish();
+        });
+    }
+
+    @Test
+    public void finish_parallelDuplicateBeforeInvalidPerson_duplicateReported() {
+        PersonLoader loader = new PersonLoader(PersonConverter.STRICT, true);
+        assertThrows(IllegalValueException.class, JsonSerializableRealodex.MESSAGE_DUPLICATE_PERSON, () -> {
+            loader.load(new JsonAdaptedPerson(ALICE));
+            loader.load(new JsonAdaptedPerson(ALICE));
+            loader.load(invalidPerson());
+            loader.finish();
+        });
+    }
+
+    @Test
+    public void finish_parallelInvalidPersonBeforeDuplicate_invalidPersonReported() {
+        PersonLoader loader = new PersonLoader(PersonConverter.STRICT, true);
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> {
+            loader.load(new JsonAdaptedPerson(ALICE));
+            loader.load(invalidPerson());
+            loader.load(new JsonAdaptedPerson(ALICE));
+            loader.finish();
+        });
+    }
+
+    private static List<Person> buildPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        return persons;
+    }
+
+    private static JsonAdaptedPerson invalidPerson() {
+        JsonAdaptedPerson alice = new JsonAdaptedPerson(ALICE);
+        return new JsonAdaptedPerson("R@chel", alice.getPhone(), alice.getIncome(), alice.getEmail(),
+                alice.getAddress(), alice.getFamily(), List.of(), alice.getHousingType(), alice.getRemark(),
+                alice.getBirthday());
+    }
+}